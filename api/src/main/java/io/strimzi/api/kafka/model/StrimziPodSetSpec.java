@@ -21,12 +21,13 @@ import java.util.Map;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"selector", "pods"})
+@JsonPropertyOrder({"selector", "podTemplate", "pods"})
 @EqualsAndHashCode
 public class StrimziPodSetSpec extends Spec {
     private static final long serialVersionUID = 1L;
 
     private LabelSelector selector;
+    private Map<String, Object> podTemplate;
     private List<Map<String, Object>> pods;
 
     @Description("Selector is a label query which matches all the pods managed by this `StrimziPodSet`. " +
@@ -42,6 +43,17 @@ public class StrimziPodSetSpec extends Spec {
         this.selector = selector;
     }
 
+    @Description("Pod template shared by all Pods managed by this StrimziPodSet. " +
+            "When set, the items in `pods` contain only the fields specific to each Pod and the complete Pod definitions are created by merging them into this template.")
+    @KubeLink(group = "core", version = "v1", kind = "pods")
+    public Map<String, Object> getPodTemplate() {
+        return podTemplate;
+    }
+
+    public void setPodTemplate(Map<String, Object> podTemplate) {
+        this.podTemplate = podTemplate;
+    }
+
     @Description("The Pods managed by this StrimziPodSet.")
     @KubeLink(group = "core", version = "v1", kind = "pods")
     @JsonProperty(required = true)
@@ -30,7 +30,7 @@ public class DockerOutput extends Output {
     public static final String ALLOWED_KANIKO_OPTIONS = "--customPlatform, --insecure, --insecure-pull, " +
             "--insecure-registry, --log-format, --log-timestamp, --registry-mirror, --reproducible, --single-snapshot, " +
             "--skip-tls-verify, --skip-tls-verify-pull, --skip-tls-verify-registry, --verbosity, --snapshotMode, " +
-            "--use-new-run";
+            "--use-new-run, --cache, --cache-repo, --cache-ttl, --cache-run-layers, --cache-copy-layers";
 
     private String image;
     private String pushSecret;
@@ -68,6 +68,10 @@ public class DockerOutput extends Output {
             "Allowed options are: " + ALLOWED_KANIKO_OPTIONS + ". " +
             "These options will be used only on Kubernetes where the Kaniko executor is used. " +
             "They will be ignored on OpenShift. " +
+            "Each artifact is downloaded by its own instruction of the generated Dockerfile. " +
+            "Use the `--cache` and `--cache-repo` options to store the image layers in a registry. " +
+            "Subsequent builds reuse the cached layers only up to the first changed instruction. " +
+            "Changing the base image or the Kafka version, or adding or changing a plugin, builds all following layers again and downloads their artifacts again. " +
             "The options are described in the link:https://github.com/GoogleContainerTools/kaniko[Kaniko GitHub repository^]. " +
             "Changing this field does not trigger new build of the Kafka Connect image.")
     @JsonInclude(JsonInclude.Include.NON_NULL)
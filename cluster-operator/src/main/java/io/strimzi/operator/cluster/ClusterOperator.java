@@ -12,10 +12,13 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperato
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.PeriodicReconciliationScheduler;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationWorkQueue;
 import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.assembly.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.ReconnectingWatcher;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -40,6 +43,7 @@ import static java.util.Arrays.asList;
  */
 public class ClusterOperator extends AbstractVerticle {
     private static final Logger LOGGER = LogManager.getLogger(ClusterOperator.class.getName());
+    private static final long RECONCILIATIONS_IN_PROGRESS_CHECK_INTERVAL_MS = 1_000L;
 
     private final String namespace;
     private final ClusterOperatorConfig config;
@@ -54,6 +58,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
     private final ResourceOperatorSupplier resourceOperatorSupplier;
+    private final PeriodicReconciliationScheduler periodicReconciliationScheduler;
 
     private StrimziPodSetController strimziPodSetController;
 
@@ -73,6 +78,7 @@ public class ClusterOperator extends AbstractVerticle {
      * @param kafkaBridgeAssemblyOperator       KafkaBridge operator
      * @param kafkaRebalanceAssemblyOperator    KafkaRebalance operator
      * @param resourceOperatorSupplier          Resource operator supplier
+     * @param periodicReconciliationScheduler   Scheduler of the periodic reconciliations shared by all namespaces
      */
     public ClusterOperator(String namespace,
                            ClusterOperatorConfig config,
@@ -82,7 +88,8 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
-                           ResourceOperatorSupplier resourceOperatorSupplier) {
+                           ResourceOperatorSupplier resourceOperatorSupplier,
+                           PeriodicReconciliationScheduler periodicReconciliationScheduler) {
         LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.config = config;
@@ -93,6 +100,7 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
         this.resourceOperatorSupplier = resourceOperatorSupplier;
+        this.periodicReconciliationScheduler = periodicReconciliationScheduler;
     }
 
     @Override
@@ -100,7 +108,7 @@ public class ClusterOperator extends AbstractVerticle {
         LOGGER.info("Starting ClusterOperator for namespace {}", namespace);
 
         // Configure the executor here, but it is used only in other places
-        sharedWorkerExecutor = getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
+        sharedWorkerExecutor = getVertx().createSharedWorkerExecutor(BlockingExecutor.KUBERNETES_OPS_POOL, config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
 
         List<Future<?>> startFutures = new ArrayList<>(8);
         startFutures.add(maybeStartStrimziPodSetController());
@@ -140,7 +148,7 @@ public class ClusterOperator extends AbstractVerticle {
                     this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
                         if (!config.isPodSetReconciliationOnly()) {
                             LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
-                            reconcileAll("timer");
+                            reconcileAll(ReconciliationWorkQueue.PERIODIC_TRIGGER);
                         }
                     });
 
@@ -185,23 +193,55 @@ public class ClusterOperator extends AbstractVerticle {
             }
         }
 
+        if (periodicReconciliationScheduler != null) {
+            // The scheduler is shared with the other namespaces => only the reconciliations of this namespace are cancelled
+            periodicReconciliationScheduler.cancel(namespace);
+        }
+
         strimziPodSetController.stop();
-        stop.complete();
+
+        if (config.getShardingConfig() != null) {
+            // Another operator replica might take over this namespace once this verticle is stopped. So we have to
+            // wait for the running reconciliations to finish first.
+            completeWhenReconciliationsFinish(stop);
+        } else {
+            stop.complete();
+        }
+    }
+
+    /**
+     * Completes the stop promise once no reconciliations in this namespace are in progress
+     *
+     * @param stop  Promise which should be completed
+     */
+    private void completeWhenReconciliationsFinish(Promise<Void> stop) {
+        List<AbstractOperator<?, ?, ?, ?>> operators = config.isPodSetReconciliationOnly() ? List.of() : asList(
+                kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaConnectAssemblyOperator,
+                kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator, kafkaRebalanceAssemblyOperator);
+
+        if (operators.stream().anyMatch(operator -> operator.hasReconciliationsInProgress(namespace))) {
+            LOGGER.debug("Waiting for the reconciliations in namespace {} to finish", namespace);
+            vertx.setTimer(RECONCILIATIONS_IN_PROGRESS_CHECK_INTERVAL_MS, t -> completeWhenReconciliationsFinish(stop));
+        } else {
+            LOGGER.info("No reconciliations are in progress in namespace {}", namespace);
+            stop.complete();
+        }
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event). The reconciliations are spread across the reconciliation
+      interval by the periodic reconciliation scheduler.
      */
     private void reconcileAll(String trigger) {
         if (!config.isPodSetReconciliationOnly()) {
             Handler<AsyncResult<Void>> ignore = ignored -> {
             };
-            kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+            kafkaAssemblyOperator.reconcileAll(trigger, namespace, periodicReconciliationScheduler, ignore);
+            kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, periodicReconciliationScheduler, ignore);
+            kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, periodicReconciliationScheduler, ignore);
+            kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, periodicReconciliationScheduler, ignore);
+            kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, periodicReconciliationScheduler, ignore);
+            kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, periodicReconciliationScheduler, ignore);
         }
     }
 }
@@ -13,6 +13,7 @@ import io.strimzi.operator.cluster.model.UnsupportedVersionException;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.AbstractNamespacedResourceOperator;
 import io.strimzi.operator.common.operator.resource.ConfigParameter;
 import io.strimzi.operator.common.operator.resource.ConfigParameterParser;
 import org.apache.logging.log4j.LogManager;
@@ -197,6 +198,27 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "10", CONFIG_VALUES);
 
+    /**
+     * Enables the execution of the blocking operations in virtual threads (requires Java 21 or newer)
+     */
+    public static final ConfigParameter<Boolean> OPERATIONS_VIRTUAL_THREADS = new ConfigParameter<>("STRIMZI_OPERATIONS_VIRTUAL_THREADS", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Maximal number of blocking operations running at the same time when they are executed in virtual threads
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_BLOCKING_OPERATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_BLOCKING_OPERATIONS", INTEGER, "50", CONFIG_VALUES);
+
+    /**
+     * Maximal number of Kubernetes API operations per second (0 disables the rate limiting)
+     */
+    public static final ConfigParameter<Integer> KUBERNETES_API_QPS = new ConfigParameter<>("STRIMZI_KUBERNETES_API_QPS", INTEGER, "0", CONFIG_VALUES);
+
+    /**
+     * Maximal number of Kubernetes API operations which can be executed at once by the rate limiter (0 means the same
+     * value as the number of operations per second)
+     */
+    public static final ConfigParameter<Integer> KUBERNETES_API_BURST = new ConfigParameter<>("STRIMZI_KUBERNETES_API_BURST", INTEGER, "0", CONFIG_VALUES);
+
     /**
      * Session timeout for the Zookeeper Admin client used in ZK scaling operations
      */
@@ -218,6 +240,16 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * Maximal number of periodic reconciliations running at the same time
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_PERIODIC_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_PERIODIC_RECONCILIATIONS", INTEGER, "10", CONFIG_VALUES);
+
+    /**
+     * Maximal number of reconciliations of each custom resource kind running at the same time
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS", INTEGER, "100", CONFIG_VALUES);
+
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -234,6 +266,11 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Boolean> LEADER_ELECTION_ENABLED = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
 
+    /**
+     * Enables the sharding of the watched namespaces between multiple active Cluster Operator replicas
+     */
+    public static final ConfigParameter<Boolean> SHARDING_ENABLED = new ConfigParameter<>("STRIMZI_SHARDING_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
     private static final ConfigParameter<String> POD_SECURITY_PROVIDER_BASELINE_SHORTCUT = new ConfigParameter<>("POD_SECURITY_PROVIDER_BASELINE_SHORTCUT", STRING, "baseline", CONFIG_VALUES);
 
     /**
@@ -301,9 +338,28 @@ public class ClusterOperatorConfig {
         envMap.keySet().retainAll(ClusterOperatorConfig.keyNames());
 
         Map<String, Object> generatedMap = ConfigParameter.define(envMap, CONFIG_VALUES);
+        validateSharding(generatedMap);
+
         return new ClusterOperatorConfig(generatedMap, lookup);
     }
 
+    /**
+     * Validates the sharding configuration. Sharding divides the watched namespaces between the operator replicas,
+     * so it cannot be used together with leader election or when watching all namespaces.
+     *
+     * @param map   Map with the configuration values
+     */
+    @SuppressWarnings("unchecked")
+    private static void validateSharding(Map<String, Object> map) {
+        if ((Boolean) map.get(SHARDING_ENABLED.key())) {
+            if ((Boolean) map.get(LEADER_ELECTION_ENABLED.key())) {
+                throw new InvalidConfigurationException(SHARDING_ENABLED.key() + " cannot be used together with " + LEADER_ELECTION_ENABLED.key());
+            } else if (((Set<String>) map.get(NAMESPACE.key())).contains(AbstractNamespacedResourceOperator.ANY_NAMESPACE)) {
+                throw new InvalidConfigurationException(SHARDING_ENABLED.key() + " requires a list of watched namespaces in " + NAMESPACE.key());
+            }
+        }
+    }
+
     private final Map<String, Object> map;
 
     /**
@@ -561,6 +617,34 @@ public class ClusterOperatorConfig {
         return get(OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return True if the blocking operations should be executed in virtual threads
+     */
+    public boolean isOperationsVirtualThreads() {
+        return get(OPERATIONS_VIRTUAL_THREADS);
+    }
+
+    /**
+     * @return Maximal number of blocking operations running at the same time when using virtual threads
+     */
+    public int getMaxConcurrentBlockingOperations() {
+        return get(MAX_CONCURRENT_BLOCKING_OPERATIONS);
+    }
+
+    /**
+     * @return Maximal number of Kubernetes API operations per second or 0 if they are not rate limited
+     */
+    public int getKubernetesApiQps() {
+        return get(KUBERNETES_API_QPS);
+    }
+
+    /**
+     * @return Maximal number of Kubernetes API operations which can be executed at once by the rate limiter
+     */
+    public int getKubernetesApiBurst() {
+        return get(KUBERNETES_API_BURST);
+    }
+
     /**
      * @return Number of seconds to cache a successful DNS name lookup
      */
@@ -582,6 +666,20 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return Returns the maximal number of periodic reconciliations running at the same time
+     */
+    public int getMaxConcurrentPeriodicReconciliations() {
+        return get(MAX_CONCURRENT_PERIODIC_RECONCILIATIONS);
+    }
+
+    /**
+     * @return Returns the maximal number of reconciliations of each custom resource kind running at the same time
+     */
+    public int getMaxConcurrentReconciliations() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -607,6 +705,18 @@ public class ClusterOperatorConfig {
         }
     }
 
+    /**
+     * @return Returns the configuration of the sharding group Leases when sharding is enabled or null otherwise. The
+     * sharding group uses the same configuration options as the leader election.
+     */
+    public LeaderElectionManagerConfig getShardingConfig() {
+        if (get(SHARDING_ENABLED)) {
+            return LeaderElectionManagerConfig.buildFromExistingMap(this.map);
+        } else {
+            return null;
+        }
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig{" +
@@ -627,9 +737,16 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tmaxConcurrentPeriodicReconciliations=" + getMaxConcurrentPeriodicReconciliations() +
+                "\n\tmaxConcurrentReconciliations=" + getMaxConcurrentReconciliations() +
+                "\n\toperationsVirtualThreads=" + isOperationsVirtualThreads() +
+                "\n\tmaxConcurrentBlockingOperations=" + getMaxConcurrentBlockingOperations() +
+                "\n\tkubernetesApiQps=" + getKubernetesApiQps() +
+                "\n\tkubernetesApiBurst=" + getKubernetesApiBurst() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
+                "\n\tshardingConfig='" + getShardingConfig() + '\'' +
                 "}";
     }
 }
@@ -20,12 +20,16 @@ public class FeatureGates {
     private static final String STABLE_CONNECT_IDENTITIES = "StableConnectIdentities";
     private static final String KAFKA_NODE_POOLS = "KafkaNodePools";
     private static final String UNIDIRECTIONAL_TOPIC_OPERATOR = "UnidirectionalTopicOperator";
+    private static final String SERVER_SIDE_APPLY = "ServerSideApply";
+    private static final String COMPACT_POD_SETS = "CompactPodSets";
 
     // When adding new feature gates, do not forget to add them to allFeatureGates() and toString() methods
     private final FeatureGate useKRaft = new FeatureGate(USE_KRAFT, false);
     private final FeatureGate stableConnectIdentities = new FeatureGate(STABLE_CONNECT_IDENTITIES, true);
     private final FeatureGate kafkaNodePools = new FeatureGate(KAFKA_NODE_POOLS, false);
     private final FeatureGate unidirectionalTopicOperator = new FeatureGate(UNIDIRECTIONAL_TOPIC_OPERATOR, false);
+    private final FeatureGate serverSideApply = new FeatureGate(SERVER_SIDE_APPLY, false);
+    private final FeatureGate compactPodSets = new FeatureGate(COMPACT_POD_SETS, false);
 
     /**
      * Constructs the feature gates configuration.
@@ -59,6 +63,12 @@ public class FeatureGates {
                     case UNIDIRECTIONAL_TOPIC_OPERATOR:
                         setValueOnlyOnce(unidirectionalTopicOperator, value);
                         break;
+                    case SERVER_SIDE_APPLY:
+                        setValueOnlyOnce(serverSideApply, value);
+                        break;
+                    case COMPACT_POD_SETS:
+                        setValueOnlyOnce(compactPodSets, value);
+                        break;
                     default:
                         throw new InvalidConfigurationException("Unknown feature gate " + featureGate + " found in the configuration");
                 }
@@ -122,6 +132,20 @@ public class FeatureGates {
         return unidirectionalTopicOperator.isEnabled();
     }
 
+    /**
+     * @return  Returns true when the ServerSideApply feature gate is enabled
+     */
+    public boolean serverSideApplyEnabled() {
+        return serverSideApply.isEnabled();
+    }
+
+    /**
+     * @return  Returns true when the CompactPodSets feature gate is enabled
+     */
+    public boolean compactPodSetsEnabled() {
+        return compactPodSets.isEnabled();
+    }
+
     /**
      * Returns a list of all Feature gates. Used for testing.
      *
@@ -132,7 +156,9 @@ public class FeatureGates {
                 useKRaft,
                 stableConnectIdentities,
                 kafkaNodePools,
-                unidirectionalTopicOperator
+                unidirectionalTopicOperator,
+                serverSideApply,
+                compactPodSets
         );
     }
 
@@ -142,7 +168,9 @@ public class FeatureGates {
                 "UseKRaft=" + useKRaft.isEnabled() + "," +
                 "StableConnectIdentities=" + stableConnectIdentities.isEnabled() + "," +
                 "KafkaNodePools=" + kafkaNodePools.isEnabled() + "," +
-                "UnidirectionalTopicOperator=" + unidirectionalTopicOperator.isEnabled() +
+                "UnidirectionalTopicOperator=" + unidirectionalTopicOperator.isEnabled() + "," +
+                "ServerSideApply=" + serverSideApply.isEnabled() + "," +
+                "CompactPodSets=" + compactPodSets.isEnabled() +
                 ")";
     }
 
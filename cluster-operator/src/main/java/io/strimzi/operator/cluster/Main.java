@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
+import io.strimzi.operator.cluster.leaderelection.ShardingManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -17,7 +18,10 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperato
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.PeriodicReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.BlockingExecutor;
+import io.strimzi.operator.common.KubernetesApiRateLimiter;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
@@ -43,12 +47,15 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.security.Security;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -92,13 +99,24 @@ public class Main {
 
         // Setup Micrometer Metrics provider
         MetricsProvider metricsProvider = new MicrometerMetricsProvider();
-        KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-cluster-operator", strimziVersion).build();
+
+        if (config.isOperationsVirtualThreads()) {
+            BlockingExecutor.useVirtualThreads(config.getMaxConcurrentBlockingOperations(), metricsProvider);
+        }
+
+        KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-cluster-operator", strimziVersion).build(metricsProvider);
 
         maybeCreateClusterRoles(vertx, config, client)
                 .compose(i -> startHealthServer(vertx, metricsProvider))
                 .compose(i -> leaderElection(client, config, shutdownHook))
                 .compose(i -> createPlatformFeaturesAvailability(vertx, client))
-                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook))
+                .compose(pfa -> {
+                    if (config.getShardingConfig() != null) {
+                        return startSharding(vertx, client, metricsProvider, pfa, config, shutdownHook);
+                    } else {
+                        return deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook).map((Void) null);
+                    }
+                })
                 .onComplete(res -> {
                     if (res.failed())   {
                         LOGGER.error("Unable to start operator for 1 or more namespace", res.cause());
@@ -146,13 +164,73 @@ public class Main {
      * @return  Future which completes when all Cluster Operator verticles are started and running
      */
     static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShutdownHook shutdownHook) {
+        Function<String, ClusterOperator> clusterOperatorFactory = clusterOperatorFactory(vertx, client, metricsProvider, pfa, config);
+
+        List<Future<String>> futures = new ArrayList<>(config.getNamespaces().size());
+        for (String namespace : config.getNamespaces()) {
+            futures.add(deployClusterOperatorVerticle(vertx, clusterOperatorFactory.apply(namespace), namespace, config)
+                    .onSuccess(deploymentId -> shutdownHook.register(() -> ShutdownHook.undeployVertxVerticle(vertx, deploymentId, SHUTDOWN_TIMEOUT))));
+        }
+        return Future.join(futures);
+    }
+
+    /**
+     * Starts the Sharding Manager which divides the watched namespaces between the active Cluster Operator replicas.
+     * The ClusterOperator verticles are deployed and undeployed by the Sharding Manager for the namespaces owned by
+     * this replica.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client instance
+     * @param metricsProvider   Metrics provider instance
+     * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
+     * @param config            Cluster Operator configuration
+     * @param shutdownHook      Shutdown hook to register the Sharding Manager shutdown
+     *
+     * @return  Future which completes when the Sharding Manager is started
+     */
+    private static Future<Void> startSharding(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShutdownHook shutdownHook) {
+        Function<String, ClusterOperator> clusterOperatorFactory = clusterOperatorFactory(vertx, client, metricsProvider, pfa, config);
+        Map<String, String> deploymentIds = new ConcurrentHashMap<>();
+
+        // A replica which lost its Lease gets the operation timeout to finish its reconciliations before the other
+        // replicas take over its namespaces without waiting for it to release them
+        ShardingManager shardingManager = new ShardingManager(client, config.getShardingConfig(), Duration.ofMillis(config.getOperationTimeoutMs()), config.getNamespaces(),
+                namespace -> deployClusterOperatorVerticle(vertx, clusterOperatorFactory.apply(namespace), namespace, config)
+                        .onSuccess(deploymentId -> deploymentIds.put(namespace, deploymentId))
+                        .mapEmpty(),
+                namespace -> {
+                    String deploymentId = deploymentIds.remove(namespace);
+                    return deploymentId != null ? vertx.undeploy(deploymentId) : Future.succeededFuture();
+                });
+
+        shardingManager.start();
+        shutdownHook.register(() -> shardingManager.stop(SHUTDOWN_TIMEOUT));
+
+        return Future.succeededFuture();
+    }
+
+    /**
+     * Creates the operators shared by all ClusterOperator verticles and returns a factory creating the ClusterOperator
+     * verticle for a given namespace.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client instance
+     * @param metricsProvider   Metrics provider instance
+     * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
+     * @param config            Cluster Operator configuration
+     *
+     * @return  Function creating the ClusterOperator verticle for a namespace
+     */
+    private static Function<String, ClusterOperator> clusterOperatorFactory(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(
                 vertx,
                 client,
                 metricsProvider,
                 pfa,
                 config.getOperationTimeoutMs(),
-                config.getOperatorName()
+                config.getOperatorName(),
+                config.featureGates().serverSideApplyEnabled(),
+                config.getKubernetesApiQps() > 0 ? new KubernetesApiRateLimiter(vertx, config.getKubernetesApiQps(), config.getKubernetesApiBurst(), metricsProvider) : null
         );
 
         // Initialize the PodSecurityProvider factory to provide the user configured provider
@@ -182,36 +260,56 @@ public class Main {
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
         }
 
-        List<Future<String>> futures = new ArrayList<>(config.getNamespaces().size());
-        for (String namespace : config.getNamespaces()) {
-            Promise<String> prom = Promise.promise();
-            futures.add(prom.future());
-            ClusterOperator operator = new ClusterOperator(namespace,
-                    config,
-                    kafkaClusterOperations,
-                    kafkaConnectClusterOperations,
-                    kafkaMirrorMakerAssemblyOperator,
-                    kafkaMirrorMaker2AssemblyOperator,
-                    kafkaBridgeAssemblyOperator,
-                    kafkaRebalanceAssemblyOperator,
-                    resourceOperatorSupplier);
-            vertx.deployVerticle(operator,
-                res -> {
-                    if (res.succeeded()) {
-                        shutdownHook.register(() -> ShutdownHook.undeployVertxVerticle(vertx, res.result(), SHUTDOWN_TIMEOUT));
-
-                        if (config.getCustomResourceSelector() != null) {
-                            LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
-                        } else {
-                            LOGGER.info("Cluster Operator verticle started in namespace {} without label selector", namespace);
-                        }
+        // The limit of concurrent periodic reconciliations applies to the whole operator => all namespaces share one scheduler
+        PeriodicReconciliationScheduler periodicReconciliationScheduler = new PeriodicReconciliationScheduler(vertx, config.getReconciliationIntervalMs(), config.getMaxConcurrentPeriodicReconciliations());
+
+        KafkaAssemblyOperator finalKafkaClusterOperations = kafkaClusterOperations;
+        KafkaConnectAssemblyOperator finalKafkaConnectClusterOperations = kafkaConnectClusterOperations;
+        KafkaMirrorMaker2AssemblyOperator finalKafkaMirrorMaker2AssemblyOperator = kafkaMirrorMaker2AssemblyOperator;
+        KafkaMirrorMakerAssemblyOperator finalKafkaMirrorMakerAssemblyOperator = kafkaMirrorMakerAssemblyOperator;
+        KafkaBridgeAssemblyOperator finalKafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
+        KafkaRebalanceAssemblyOperator finalKafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
+
+        return namespace -> new ClusterOperator(namespace,
+                config,
+                finalKafkaClusterOperations,
+                finalKafkaConnectClusterOperations,
+                finalKafkaMirrorMakerAssemblyOperator,
+                finalKafkaMirrorMaker2AssemblyOperator,
+                finalKafkaBridgeAssemblyOperator,
+                finalKafkaRebalanceAssemblyOperator,
+                resourceOperatorSupplier,
+                periodicReconciliationScheduler);
+    }
+
+    /**
+     * Deploys the ClusterOperator verticle for a single namespace
+     *
+     * @param vertx         Vertx instance
+     * @param operator      ClusterOperator verticle
+     * @param namespace     Namespace operated by the verticle
+     * @param config        Cluster Operator configuration
+     *
+     * @return  Future with the deployment ID which completes when the verticle is started and running
+     */
+    private static Future<String> deployClusterOperatorVerticle(Vertx vertx, ClusterOperator operator, String namespace, ClusterOperatorConfig config) {
+        Promise<String> prom = Promise.promise();
+
+        vertx.deployVerticle(operator,
+            res -> {
+                if (res.succeeded()) {
+                    if (config.getCustomResourceSelector() != null) {
+                        LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
                     } else {
-                        LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
+                        LOGGER.info("Cluster Operator verticle started in namespace {} without label selector", namespace);
                     }
-                    prom.handle(res);
-                });
-        }
-        return Future.join(futures);
+                } else {
+                    LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
+                }
+                prom.handle(res);
+            });
+
+        return prom.future();
     }
 
     /**
@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring used to assign the watched namespaces to the members of the sharding group. Each member is
+ * placed on the ring several times (virtual nodes) to spread the namespaces evenly. When a member joins or leaves the
+ * group, only the namespaces owned by this member move to another member.
+ */
+class ConsistentHashRing {
+    /* test */ static final int VIRTUAL_NODES = 128;
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    /**
+     * Creates the hash ring
+     *
+     * @param members   Identities of the members of the sharding group
+     */
+    ConsistentHashRing(Collection<String> members) {
+        for (String member : members) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+    }
+
+    /**
+     * Finds the owner of the key
+     *
+     * @param key   Key (for example namespace)
+     *
+     * @return  Identity of the member owning the key or null if the ring has no members
+     */
+    String owner(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Calculates a stable hash of the key. The String hash code is not used because it does not spread similar keys
+     * well enough.
+     *
+     * @param key   Key which should be hashed
+     *
+     * @return  Hash of the key
+     */
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("MD5 algorithm is not available", e);
+        }
+    }
+}
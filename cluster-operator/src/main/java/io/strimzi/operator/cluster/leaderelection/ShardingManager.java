@@ -0,0 +1,487 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseSpec;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.vertx.core.Future;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ShardingManager divides the watched namespaces between several active replicas of the Cluster Operator. Each
+ * replica is a member of the sharding group and maintains its own Kubernetes Lease labeled with the name of the group.
+ * The members whose Leases did not expire form the membership of the group. The namespaces are assigned to the members
+ * using a consistent hash ring, so that only the namespaces of the joining or leaving member move when the membership
+ * changes.
+ *
+ * To make sure that a namespace moving between live members is not operated by two replicas at the same time, each
+ * member publishes the membership it currently uses (its view) in an annotation on its Lease:
+ *   - A member publishes a new view only after it stopped operating all namespaces which it does not own in the new
+ *     view and after their reconciliations finished.
+ *   - A member starts operating a namespace only when it owns it in its own published view and in the views published
+ *     by all other live members.
+ *
+ * When the Lease of this member cannot be renewed within the renew deadline, the member stops operating all its
+ * namespaces and releases them by publishing an empty view once it can update its Lease again. The other members do
+ * not take over the namespaces of a member whose Lease expired until it releases them or until the release timeout
+ * passes, because the member might still be finishing its reconciliations. When the release timeout passes, the other
+ * members take over the namespaces even if the expired member never released them (for example because it crashed or
+ * cannot reach the Kubernetes API). A reconciliation still running in such member can then overlap with a
+ * reconciliation by the new owner of the namespace.
+ */
+public class ShardingManager {
+    private static final Logger LOGGER = LogManager.getLogger(ShardingManager.class);
+
+    /* test */ static final String GROUP_LABEL = "strimzi.io/sharding-group";
+    /* test */ static final String VIEW_ANNOTATION = "strimzi.io/sharding-view";
+
+    private final KubernetesClient client;
+    private final String groupName;
+    private final String leaseNamespace;
+    private final String leaseName;
+    private final String identity;
+    private final Duration leaseDuration;
+    private final Duration renewDeadline;
+    private final Duration retryPeriod;
+    private final Duration releaseTimeout;
+    private final Set<String> namespaces;
+    private final Function<String, Future<Void>> startNamespace;
+    private final Function<String, Future<Void>> stopNamespace;
+    private final ScheduledExecutorService executor;
+
+    // The fields below are used only from the executor thread
+    private final Set<String> running = new HashSet<>();
+    private final Map<String, Future<Void>> starting = new HashMap<>();
+    private final Map<String, Future<Void>> stopping = new HashMap<>();
+    private List<String> publishedView = List.of();
+    private List<String> nextView = null;
+    private Instant lastRenewal = null;
+    private boolean changing = false;
+    private boolean fencing = false;
+    // Incremented when fencing => used to abandon the change which was in progress
+    private long epoch = 0;
+
+    /**
+     * ShardingManager constructor
+     *
+     * @param client            Kubernetes client
+     * @param config            Configuration with the name and namespace of the sharding group Leases, the identity
+     *                          of this member and the Lease timings
+     * @param releaseTimeout    How long to wait after a Lease of another member expired for the member to release its
+     *                          namespaces before taking them over
+     * @param namespaces        Namespaces which should be divided between the members
+     * @param startNamespace    Function which starts operating a namespace
+     * @param stopNamespace     Function which stops operating a namespace. The returned future should complete only
+     *                          once all reconciliations in the namespace are finished.
+     */
+    public ShardingManager(KubernetesClient client, LeaderElectionManagerConfig config, Duration releaseTimeout, Set<String> namespaces, Function<String, Future<Void>> startNamespace, Function<String, Future<Void>> stopNamespace) {
+        this.client = client;
+        this.groupName = config.getLeaseName();
+        this.leaseNamespace = config.getNamespace();
+        this.leaseName = config.getLeaseName() + "-" + config.getIdentity();
+        this.identity = config.getIdentity();
+        this.leaseDuration = config.getLeaseDuration();
+        this.renewDeadline = config.getRenewDeadline();
+        this.retryPeriod = config.getRetryPeriod();
+        this.releaseTimeout = releaseTimeout;
+        this.namespaces = namespaces;
+        this.startNamespace = startNamespace;
+        this.stopNamespace = stopNamespace;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "sharding-manager"));
+    }
+
+    /**
+     * Starts the Sharding Manager
+     */
+    public void start() {
+        LOGGER.info("Starting the Sharding Manager for group {} as member {}", groupName, identity);
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                tick();
+            } catch (Throwable t) {
+                // Exceptions would stop the periodic execution
+                LOGGER.error("Sharding Manager failed to check the sharding group", t);
+            }
+        }, 0, retryPeriod.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the Sharding Manager. It stops operating all namespaces and deletes the Lease of this member so that the
+     * other members can take over its namespaces without waiting for the Lease to expire.
+     *
+     * @param timeoutMs     Timeout for stopping the namespaces in milliseconds
+     */
+    public void stop(long timeoutMs) {
+        LOGGER.info("Stopping the Sharding Manager");
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Timed out while waiting for the Sharding Manager to stop");
+            }
+
+            List<Future<Void>> stops = new ArrayList<>();
+            for (String namespace : running) {
+                stops.add(safeStop(namespace));
+            }
+
+            Future.join(stops).toCompletionStage().toCompletableFuture().get(timeoutMs, TimeUnit.MILLISECONDS);
+            running.clear();
+
+            client.leases().inNamespace(leaseNamespace).withName(leaseName).delete();
+            LOGGER.info("Sharding Manager stopped");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while stopping the Sharding Manager");
+        } catch (Exception e) {
+            // The Lease is not deleted => the other members take over the namespaces once it expires
+            LOGGER.warn("Failed to stop the Sharding Manager cleanly", e);
+        }
+    }
+
+    /**
+     * Renews the Lease of this member, checks the membership of the group and starts or stops operating the
+     * namespaces. This is called periodically from the executor thread.
+     */
+    /* test */ void tick() {
+        Instant now = Instant.now();
+        List<String> view = nextView != null ? nextView : publishedView;
+
+        try {
+            renew(view, now);
+            lastRenewal = now;
+
+            if (nextView != null) {
+                LOGGER.info("Published the sharding group view {}", nextView);
+                publishedView = nextView;
+                nextView = null;
+            }
+        } catch (KubernetesClientException e) {
+            LOGGER.warn("Failed to renew the sharding Lease {}", leaseName, e);
+            maybeFence(now);
+            return;
+        }
+
+        if (changing || fencing) {
+            // The previous change or fencing is still in progress
+            return;
+        }
+
+        Map<String, Member> members;
+        try {
+            members = members(now);
+        } catch (KubernetesClientException e) {
+            LOGGER.warn("Failed to list the members of the sharding group {}", groupName, e);
+            return;
+        }
+
+        List<String> desiredView = members.values().stream().filter(Member::live).map(Member::identity).sorted().collect(Collectors.toList());
+
+        if (!desiredView.equals(publishedView)) {
+            // The membership changed => stop the namespaces which this member does not own anymore before publishing
+            // the new view
+            LOGGER.info("Sharding group membership changed from {} to {}", publishedView, desiredView);
+            ConsistentHashRing ring = new ConsistentHashRing(desiredView);
+            Set<String> lost = running.stream().filter(ns -> !identity.equals(ring.owner(ns))).collect(Collectors.toSet());
+
+            change(lost, Set.of(), () -> nextView = desiredView);
+        } else {
+            Set<String> allowed = allowedNamespaces(members);
+            Set<String> toStop = running.stream().filter(ns -> !allowed.contains(ns)).collect(Collectors.toSet());
+            Set<String> toStart = allowed.stream().filter(ns -> !running.contains(ns)).collect(Collectors.toSet());
+
+            if (!toStop.isEmpty() || !toStart.isEmpty()) {
+                change(toStop, toStart, null);
+            }
+        }
+    }
+
+    /**
+     * Finds the namespaces which this member is allowed to operate. This member owns the namespace in its own view
+     * and in the views published by all other live members. Members which did not publish any view yet do not operate
+     * any namespaces. The namespaces which a member with an expired Lease owns in its view are not allowed until it
+     * releases them.
+     *
+     * @param members   Map with the members and their published views
+     *
+     * @return  Set of namespaces which this member can operate
+     */
+    private Set<String> allowedNamespaces(Map<String, Member> members) {
+        List<ConsistentHashRing> rings = new ArrayList<>();
+        rings.add(new ConsistentHashRing(publishedView));
+
+        Map<String, ConsistentHashRing> unreleased = new HashMap<>();
+
+        for (Member member : members.values()) {
+            if (!identity.equals(member.identity()) && !member.view().isEmpty()) {
+                if (member.live()) {
+                    rings.add(new ConsistentHashRing(member.view()));
+                } else {
+                    unreleased.put(member.identity(), new ConsistentHashRing(member.view()));
+                }
+            }
+        }
+
+        return namespaces.stream()
+                .filter(ns -> rings.stream().allMatch(ring -> identity.equals(ring.owner(ns))))
+                .filter(ns -> unreleased.entrySet().stream().noneMatch(member -> member.getKey().equals(member.getValue().owner(ns))))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Stops and starts operating the namespaces. The namespaces are stopped first. The namespaces are started only once
+     * all stopped namespaces finished their reconciliations.
+     *
+     * @param toStop        Namespaces which should be stopped
+     * @param toStart       Namespaces which should be started
+     * @param onStopped     Runnable called once the namespaces are stopped or null
+     */
+    private void change(Set<String> toStop, Set<String> toStart, Runnable onStopped) {
+        changing = true;
+        long changeEpoch = epoch;
+
+        List<Future<Void>> stops = new ArrayList<>();
+        for (String namespace : toStop) {
+            stops.add(safeStop(namespace));
+        }
+
+        Future.join(stops).onComplete(i -> runOnExecutor(() -> {
+            running.removeAll(toStop);
+
+            if (changeEpoch != epoch) {
+                // This member was fenced in the meantime => the namespaces are not started and the view is not published
+                changing = false;
+                return;
+            }
+
+            if (onStopped != null) {
+                onStopped.run();
+            }
+
+            Set<String> failed = ConcurrentHashMap.newKeySet();
+            List<Future<Void>> starts = new ArrayList<>();
+            for (String namespace : toStart) {
+                LOGGER.info("Starting to operate namespace {}", namespace);
+                running.add(namespace);
+
+                Future<Void> start = safeCall(startNamespace, namespace).recover(e -> {
+                    LOGGER.error("Failed to start operating namespace {}", namespace, e);
+                    failed.add(namespace);
+                    return Future.succeededFuture();
+                });
+                starting.put(namespace, start);
+                start.onComplete(j -> runOnExecutor(() -> starting.remove(namespace, start)));
+                starts.add(start);
+            }
+
+            Future.join(starts).onComplete(j -> runOnExecutor(() -> {
+                running.removeAll(failed);
+                changing = false;
+            }));
+        }));
+    }
+
+    /**
+     * Stops operating all namespaces when the Lease of this member was not renewed within the renew deadline. This is
+     * done also when a change is in progress. The change is abandoned and the namespaces which it is starting are
+     * stopped once started. The previous view stays published until all namespaces are stopped, so the other members
+     * do not take them over in the meantime. Afterwards, the empty view is published to release them.
+     *
+     * @param now   Current time
+     */
+    private void maybeFence(Instant now) {
+        if (!fencing
+                && !running.isEmpty()
+                && lastRenewal != null
+                && Duration.between(lastRenewal, now).compareTo(renewDeadline) > 0) {
+            LOGGER.warn("The sharding Lease {} was not renewed within {} ms => stopping to operate all namespaces", leaseName, renewDeadline.toMillis());
+            fencing = true;
+            epoch++;
+            nextView = null;
+
+            Set<String> toStop = new HashSet<>(running);
+            List<Future<Void>> stops = new ArrayList<>();
+            for (String namespace : toStop) {
+                stops.add(safeStop(namespace));
+            }
+
+            Future.join(stops).onComplete(i -> runOnExecutor(() -> {
+                LOGGER.info("Stopped operating all namespaces => releasing them");
+                running.removeAll(toStop);
+                publishedView = List.of();
+                fencing = false;
+            }));
+        }
+    }
+
+    /**
+     * Stops operating a namespace. When the namespace is still being started, it is stopped once started. When it is
+     * already being stopped, the future of the stop in progress is returned.
+     *
+     * @param namespace     Namespace which should be stopped
+     *
+     * @return  Future which completes when the namespace is stopped
+     */
+    private Future<Void> safeStop(String namespace) {
+        Future<Void> inProgress = stopping.get(namespace);
+
+        if (inProgress != null) {
+            return inProgress;
+        }
+
+        LOGGER.info("Stopping to operate namespace {}", namespace);
+        Future<Void> stop = starting.getOrDefault(namespace, Future.succeededFuture())
+                .compose(i -> safeCall(stopNamespace, namespace))
+                .recover(e -> {
+                    LOGGER.error("Failed to stop operating namespace {}", namespace, e);
+                    return Future.succeededFuture();
+                });
+
+        stopping.put(namespace, stop);
+        stop.onComplete(i -> runOnExecutor(() -> stopping.remove(namespace, stop)));
+
+        return stop;
+    }
+
+    private static Future<Void> safeCall(Function<String, Future<Void>> function, String namespace) {
+        try {
+            return function.apply(namespace);
+        } catch (Throwable t) {
+            return Future.failedFuture(t);
+        }
+    }
+
+    private void runOnExecutor(Runnable runnable) {
+        try {
+            executor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Sharding Manager is stopped");
+        }
+    }
+
+    /**
+     * Creates or renews the Lease of this member
+     *
+     * @param view  View of the sharding group membership which should be published in the Lease
+     * @param now   Current time
+     */
+    private void renew(List<String> view, Instant now) {
+        ZonedDateTime renewTime = ZonedDateTime.ofInstant(now, ZoneOffset.UTC);
+        int leaseDurationSeconds = (int) Math.max(1, leaseDuration.toSeconds());
+        Lease current = client.leases().inNamespace(leaseNamespace).withName(leaseName).get();
+
+        if (current == null) {
+            client.leases().inNamespace(leaseNamespace).resource(new LeaseBuilder()
+                        .withNewMetadata()
+                            .withName(leaseName)
+                            .withNamespace(leaseNamespace)
+                            .withLabels(Map.of(GROUP_LABEL, groupName))
+                            .withAnnotations(Map.of(VIEW_ANNOTATION, String.join(",", view)))
+                        .endMetadata()
+                        .withNewSpec()
+                            .withHolderIdentity(identity)
+                            .withLeaseDurationSeconds(leaseDurationSeconds)
+                            .withAcquireTime(renewTime)
+                            .withRenewTime(renewTime)
+                        .endSpec()
+                        .build())
+                    .create();
+        } else {
+            client.leases().inNamespace(leaseNamespace).resource(new LeaseBuilder(current)
+                        .editMetadata()
+                            .addToLabels(GROUP_LABEL, groupName)
+                            .addToAnnotations(VIEW_ANNOTATION, String.join(",", view))
+                        .endMetadata()
+                        .editOrNewSpec()
+                            .withHolderIdentity(identity)
+                            .withLeaseDurationSeconds(leaseDurationSeconds)
+                            .withRenewTime(renewTime)
+                        .endSpec()
+                        .build())
+                    .update();
+        }
+    }
+
+    /**
+     * Lists the members of the sharding group. The members whose Leases expired are included only until the release
+     * timeout passes.
+     *
+     * @param now   Current time
+     *
+     * @return  Map with the identities of the members and their published views
+     */
+    private Map<String, Member> members(Instant now) {
+        Map<String, Member> members = new HashMap<>();
+
+        for (Lease lease : client.leases().inNamespace(leaseNamespace).withLabel(GROUP_LABEL, groupName).list().getItems()) {
+            LeaseSpec spec = lease.getSpec();
+
+            if (spec == null
+                    || spec.getHolderIdentity() == null
+                    || spec.getRenewTime() == null
+                    || spec.getLeaseDurationSeconds() == null) {
+                continue;
+            }
+
+            Instant expiry = spec.getRenewTime().toInstant().plusSeconds(spec.getLeaseDurationSeconds());
+            boolean live = identity.equals(spec.getHolderIdentity()) || expiry.isAfter(now);
+
+            if (live || expiry.plus(releaseTimeout).isAfter(now)) {
+                String view = lease.getMetadata().getAnnotations() != null ? lease.getMetadata().getAnnotations().get(VIEW_ANNOTATION) : null;
+                members.put(spec.getHolderIdentity(), new Member(spec.getHolderIdentity(), parseView(view), live));
+            }
+        }
+
+        // This member is always part of the group
+        members.putIfAbsent(identity, new Member(identity, publishedView, true));
+
+        return members;
+    }
+
+    /* test */ static List<String> parseView(String view) {
+        if (view == null || view.isBlank()) {
+            return List.of();
+        } else {
+            return Collections.unmodifiableList(Arrays.stream(view.split(","))
+                    .map(String::trim)
+                    .filter(member -> !member.isEmpty())
+                    .sorted()
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Member of the sharding group
+     *
+     * @param identity  Identity of the member
+     * @param view      View published by the member
+     * @param live      Whether the Lease of the member did not expire yet
+     */
+    private record Member(String identity, List<String> view, boolean live) { }
+}
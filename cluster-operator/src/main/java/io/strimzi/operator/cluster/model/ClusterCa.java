@@ -8,7 +8,6 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
@@ -18,7 +17,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
@@ -32,6 +30,8 @@ import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Ca;
+import io.strimzi.operator.common.model.CertificateMetadataCache;
+import io.strimzi.operator.common.model.CertificateMetadataCache.CertificateMetadata;
 
 /**
  * Represents the Cluster CA
@@ -333,7 +333,7 @@ public class ClusterCa extends Ca {
 
                 List<String> reasons = new ArrayList<>(2);
 
-                if (certSubjectChanged(certAndKey, subject, podName))   {
+                if (certSubjectChanged(currentSubjectAltNames(secret, podName), subject, podName))   {
                     reasons.add("DNS names changed");
                 }
 
@@ -411,8 +411,20 @@ public class ClusterCa extends Ca {
      * @return  True if the subjects are different, false otherwise
      */
     /* test */ boolean certSubjectChanged(CertAndKey certAndKey, Subject desiredSubject, String podName)    {
+        return certSubjectChanged(getSubjectAltNames(certAndKey.cert()), desiredSubject, podName);
+    }
+
+    /**
+     * Checks whether subject alternate names changed and certificate needs a renewal
+     *
+     * @param currentAltNames   Subject alternate names of the current certificate
+     * @param desiredSubject    Desired subject alternate names
+     * @param podName           Name of the pod to which this certificate belongs (used for log messages)
+     *
+     * @return  True if the subjects are different, false otherwise
+     */
+    private boolean certSubjectChanged(Collection<String> currentAltNames, Subject desiredSubject, String podName)    {
         Collection<String> desiredAltNames = desiredSubject.subjectAltNames().values();
-        Collection<String> currentAltNames = getSubjectAltNames(certAndKey.cert());
 
         if (currentAltNames != null && desiredAltNames.containsAll(currentAltNames) && currentAltNames.containsAll(desiredAltNames))   {
             LOGGER.traceCr(reconciliation, "Alternate subjects match. No need to refresh cert for pod {}.", podName);
@@ -436,12 +448,7 @@ public class ClusterCa extends Ca {
         List<String> subjectAltNames = null;
 
         try {
-            X509Certificate cert = x509Certificate(certificate);
-            Collection<List<?>> altNames = cert.getSubjectAlternativeNames();
-            subjectAltNames = altNames.stream()
-                    .filter(name -> name.get(1) instanceof String)
-                    .map(item -> (String) item.get(1))
-                    .collect(Collectors.toList());
+            subjectAltNames = CertificateMetadata.of(x509Certificate(certificate)).subjectAltNames();
         } catch (CertificateException | RuntimeException e) {
             // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
             LOGGER.debugCr(reconciliation, "Failed to parse existing certificate", e);
@@ -450,6 +457,29 @@ public class ClusterCa extends Ca {
         return subjectAltNames;
     }
 
+    /**
+     * Gets the alternate subject names of the certificate of a pod stored in a Secret. The parsed certificates are
+     * cached in the {@link CertificateMetadataCache}.
+     *
+     * @param secret    Secret with the certificates
+     * @param podName   Name of the pod
+     *
+     * @return  List of certificate Subject Alternate Names
+     */
+    private List<String> currentSubjectAltNames(Secret secret, String podName) {
+        List<String> subjectAltNames = null;
+
+        try {
+            CertificateMetadata metadata = CertificateMetadataCache.get(secret, secretEntryNameForPod(podName, SecretEntry.CRT));
+            subjectAltNames = metadata != null ? metadata.subjectAltNames() : null;
+        } catch (RuntimeException e) {
+            // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
+            LOGGER.debugCr(reconciliation, "Failed to parse existing certificate", e);
+        }
+
+        return subjectAltNames;
+    }
+
     /**
      * Checks whether a given key exists in the Secret
      *
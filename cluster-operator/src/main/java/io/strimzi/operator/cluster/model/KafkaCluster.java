@@ -1021,13 +1021,15 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
      *                               annotations for each pod are different due to the individual configurations.
      *                               So they need to be dynamically generated though this function instead of just
      *                               passed as Map.
+     * @param compactPodSets         Flags whether the StrimziPodSets should use the compact encoding
      *
      * @return List of generated StrimziPodSets with Kafka pods
      */
     public List<StrimziPodSet> generatePodSets(boolean isOpenShift,
                                                ImagePullPolicy imagePullPolicy,
                                                List<LocalObjectReference> imagePullSecrets,
-                                               Function<Integer, Map<String, String>> podAnnotationsProvider) {
+                                               Function<Integer, Map<String, String>> podAnnotationsProvider,
+                                               boolean compactPodSets) {
         List<StrimziPodSet> podSets = new ArrayList<>();
 
         for (KafkaPool pool : nodePools)    {
@@ -1040,6 +1042,7 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
                     pool.nodes(),
                     preparePodSetAnnotations(pool.storage),
                     pool.labels.strimziSelectorLabels(),
+                    compactPodSets,
                     node -> WorkloadUtils.createStatefulPod(
                             reconciliation,
                             node.podName(),
@@ -538,6 +538,7 @@ public class KafkaConnectCluster extends AbstractModel implements SupportsMetric
      * @param imagePullSecrets          List of image pull secrets
      * @param customContainerImage      Custom container image produced by Kafka Connect Build. If null, the default
      *                                  image will be used.
+     * @param compactPodSets            Flags whether the StrimziPodSet should use the compact encoding
      *
      * @return                          Generated StrimziPodSet with Kafka Connect pods
      */
@@ -547,7 +548,8 @@ public class KafkaConnectCluster extends AbstractModel implements SupportsMetric
                                         boolean isOpenShift,
                                         ImagePullPolicy imagePullPolicy,
                                         List<LocalObjectReference> imagePullSecrets,
-                                        String customContainerImage) {
+                                        String customContainerImage,
+                                        boolean compactPodSets) {
         return WorkloadUtils.createPodSet(
                 componentName,
                 namespace,
@@ -562,6 +564,7 @@ public class KafkaConnectCluster extends AbstractModel implements SupportsMetric
                 // ZooKeeper, because when migrating from StatefulSet to PodSet or the other way around, the pods are
                 // re-used as they share the pod names.
                 labels.strimziSelectorLabels().withStrimziPodSetController(componentName),
+                compactPodSets,
                 podId -> WorkloadUtils.createStatefulPod(
                         reconciliation,
                         getPodName(podId),
@@ -9,9 +9,12 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetSpec;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -56,6 +59,138 @@ public class PodSetUtils {
         return pods.stream().map(p -> podToMap(p)).collect(Collectors.toList());
     }
 
+    /**
+     * Sets the Pods in the StrimziPodSet specification. The Pods are encoded either completely in the pods field or in
+     * the compact way with the shared Pod template. The name of the Pod is always kept in the pods field so that the
+     * Pods can be identified without decoding them. The StrimziPodSets are always decoded based on whether they have
+     * the Pod template or not. So both encodings can be used at the same time.
+     *
+     * @param spec              StrimziPodSet specification where the Pods should be set
+     * @param pods              List of Maps with the complete Pod structures
+     * @param compactEncoding   True when the compact encoding should be used. False otherwise.
+     */
+    public static void setPods(StrimziPodSetSpec spec, List<Map<String, Object>> pods, boolean compactEncoding) {
+        if (compactEncoding && !pods.isEmpty()) {
+            Map<String, Object> template = commonFields(pods);
+
+            if (template.get("metadata") instanceof Map<?, ?> metadata) {
+                metadata.remove("name");
+            }
+
+            spec.setPodTemplate(template);
+            spec.setPods(pods.stream().map(pod -> specificFields(pod, template)).collect(Collectors.toList()));
+        } else {
+            spec.setPodTemplate(null);
+            spec.setPods(pods);
+        }
+    }
+
+    /**
+     * Gets the Pods from the StrimziPodSet as Maps. When the StrimziPodSet uses the compact encoding, the Pod template
+     * is merged with the fields of each Pod to get the complete Pod definitions.
+     *
+     * @param podSet    StrimziPodSet with the Pods
+     *
+     * @return  List of Maps with the complete Pod structures
+     */
+    public static List<Map<String, Object>> podSetToPodMaps(StrimziPodSet podSet) {
+        if (podSet != null
+                && podSet.getSpec() != null
+                && podSet.getSpec().getPods() != null)   {
+            Map<String, Object> template = podSet.getSpec().getPodTemplate();
+
+            if (template != null) {
+                return podSet.getSpec().getPods().stream().map(pod -> merge(template, pod)).toList();
+            } else {
+                return podSet.getSpec().getPods();
+            }
+        } else {
+            return List.of();
+        }
+    }
+
+    /**
+     * Finds the fields which have the same value in all Maps. Nested Maps are compared field by field. Other values
+     * (including arrays) are compared as a whole.
+     *
+     * @param maps  Non-empty list of Maps
+     *
+     * @return  Map with the fields shared by all Maps
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> commonFields(List<Map<String, Object>> maps) {
+        Map<String, Object> common = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Object> entry : maps.get(0).entrySet()) {
+            String key = entry.getKey();
+
+            if (entry.getValue() instanceof Map && maps.stream().allMatch(map -> map.get(key) instanceof Map)) {
+                common.put(key, commonFields(maps.stream().map(map -> (Map<String, Object>) map.get(key)).toList()));
+            } else if (maps.stream().allMatch(map -> map.containsKey(key) && Objects.equals(entry.getValue(), map.get(key)))) {
+                common.put(key, entry.getValue());
+            }
+        }
+
+        return common;
+    }
+
+    /**
+     * Finds the fields of the Map which are not in the template or have a different value there. The template is
+     * expected to contain only the fields shared by all Pods, so no field has to be removed when merging them again.
+     *
+     * @param map       Map with the complete Pod structure
+     * @param template  Pod template with the shared fields
+     *
+     * @return  Map with the fields specific to this Pod
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> specificFields(Map<String, Object> map, Map<String, Object> template) {
+        Map<String, Object> specific = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            String key = entry.getKey();
+            Object templateValue = template.get(key);
+
+            if (entry.getValue() instanceof Map && templateValue instanceof Map) {
+                Map<String, Object> nested = specificFields((Map<String, Object>) entry.getValue(), (Map<String, Object>) templateValue);
+
+                if (!nested.isEmpty()) {
+                    specific.put(key, nested);
+                }
+            } else if (!template.containsKey(key) || !Objects.equals(entry.getValue(), templateValue)) {
+                specific.put(key, entry.getValue());
+            }
+        }
+
+        return specific;
+    }
+
+    /**
+     * Merges the Pod specific fields into the Pod template. Nested Maps are merged recursively. Other values from the
+     * Pod replace the values from the template.
+     *
+     * @param template  Pod template with the shared fields
+     * @param pod       Map with the Pod specific fields
+     *
+     * @return  Map with the complete Pod structure
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> merge(Map<String, Object> template, Map<String, Object> pod) {
+        Map<String, Object> merged = new LinkedHashMap<>(template);
+
+        for (Map.Entry<String, Object> entry : pod.entrySet()) {
+            Object templateValue = merged.get(entry.getKey());
+
+            if (entry.getValue() instanceof Map && templateValue instanceof Map) {
+                merged.put(entry.getKey(), merge((Map<String, Object>) templateValue, (Map<String, Object>) entry.getValue()));
+            } else {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return merged;
+    }
+
     /**
      * Converts Map to Pod for decoding of StrimziPodSets
      *
@@ -75,13 +210,7 @@ public class PodSetUtils {
      * @return      List of Pods
      */
     public static List<Pod> podSetToPods(StrimziPodSet podSet)  {
-        if (podSet != null
-                && podSet.getSpec() != null
-                && podSet.getSpec().getPods() != null)   {
-            return podSet.getSpec().getPods().stream().map(m -> mapToPod(m)).toList();
-        } else {
-            return List.of();
-        }
+        return podSetToPodMaps(podSet).stream().map(m -> mapToPod(m)).toList();
     }
 
     /**
@@ -97,6 +97,8 @@ public class WorkloadUtils {
      * @param annotations    Additional annotations which should be set on the PodSet. This might contain annotations
      *                       for tracking storage configuration, Kafka versions and similar.
      * @param selectorLabels Labels used for the Pod selector in the StrimziPodSetSpec
+     * @param compactEncoding Indicates whether the Pods should be stored in the compact encoding with a shared Pod
+     *                       template
      * @param podCreator     Function for generating the Pods which should be included in this PodSet based on their
      *                       index number.
      * @return Created PodSet
@@ -110,6 +112,7 @@ public class WorkloadUtils {
             int replicas,
             Map<String, String> annotations,
             Labels selectorLabels,
+            boolean compactEncoding,
             Function<Integer, Pod> podCreator
     )  {
         List<Map<String, Object>> pods = new ArrayList<>(replicas);
@@ -119,7 +122,7 @@ public class WorkloadUtils {
             pods.add(PodSetUtils.podToMap(pod));
         }
 
-        return new StrimziPodSetBuilder()
+        StrimziPodSet podSet = new StrimziPodSetBuilder()
                 .withNewMetadata()
                     .withName(name)
                     .withLabels(labels.withAdditionalLabels(TemplateUtils.labels(template)).toMap())
@@ -129,9 +132,12 @@ public class WorkloadUtils {
                 .endMetadata()
                 .withNewSpec()
                     .withSelector(new LabelSelectorBuilder().withMatchLabels(selectorLabels.toMap()).build())
-                    .withPods(pods)
                 .endSpec()
                 .build();
+
+        PodSetUtils.setPods(podSet.getSpec(), pods, compactEncoding);
+
+        return podSet;
     }
 
     /**
@@ -146,6 +152,8 @@ public class WorkloadUtils {
      * @param annotations    Additional annotations which should be set on the PodSet. This might contain annotations
      *                       for tracking storage configuration, Kafka versions and similar.
      * @param selectorLabels Labels used for the Pod selector in the StrimziPodSetSpec
+     * @param compactEncoding Indicates whether the Pods should be stored in the compact encoding with a shared Pod
+     *                       template
      * @param podCreator     Function for generating the Pods which should be included in this PodSet based on the node
      *                       reference.
      *
@@ -160,6 +168,7 @@ public class WorkloadUtils {
             Set<NodeRef> nodes,
             Map<String, String> annotations,
             Labels selectorLabels,
+            boolean compactEncoding,
             Function<NodeRef, Pod> podCreator
     )  {
         List<Map<String, Object>> pods = new ArrayList<>();
@@ -169,7 +178,7 @@ public class WorkloadUtils {
             pods.add(PodSetUtils.podToMap(pod));
         }
 
-        return new StrimziPodSetBuilder()
+        StrimziPodSet podSet = new StrimziPodSetBuilder()
                 .withNewMetadata()
                     .withName(name)
                     .withLabels(labels.withAdditionalLabels(TemplateUtils.labels(template)).toMap())
@@ -179,9 +188,12 @@ public class WorkloadUtils {
                 .endMetadata()
                 .withNewSpec()
                     .withSelector(new LabelSelectorBuilder().withMatchLabels(selectorLabels.toMap()).build())
-                    .withPods(pods)
                 .endSpec()
                 .build();
+
+        PodSetUtils.setPods(podSet.getSpec(), pods, compactEncoding);
+
+        return podSet;
     }
 
     /**
@@ -394,6 +394,7 @@ public class ZookeeperCluster extends AbstractModel implements SupportsMetrics,
      *                                  The annotations for each pod are different due to different certificates. So they
      *                                  need to be dynamically generated though this function instead of just
      *                                  passed as Map.
+     * @param compactPodSets            Flags whether the StrimziPodSet should use the compact encoding
      *
      * @return                  Generated StrimziPodSet with ZooKeeper pods
      */
@@ -401,7 +402,8 @@ public class ZookeeperCluster extends AbstractModel implements SupportsMetrics,
                                         boolean isOpenShift,
                                         ImagePullPolicy imagePullPolicy,
                                         List<LocalObjectReference> imagePullSecrets,
-                                        Function<Integer, Map<String, String>> podAnnotationsProvider) {
+                                        Function<Integer, Map<String, String>> podAnnotationsProvider,
+                                        boolean compactPodSets) {
         return WorkloadUtils.createPodSet(
                 componentName,
                 namespace,
@@ -411,6 +413,7 @@ public class ZookeeperCluster extends AbstractModel implements SupportsMetrics,
                 replicas,
                 Map.of(Annotations.ANNO_STRIMZI_IO_STORAGE, ModelUtils.encodeStorageToJson(storage)),
                 labels.strimziSelectorLabels(),
+                compactPodSets,
                 podNum -> WorkloadUtils.createStatefulPod(
                         reconciliation,
                         getPodName(podNum),
@@ -73,6 +73,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -126,6 +127,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final ServiceAccountOperator serviceAccountOperations;
     protected final KafkaVersion.Lookup versions;
     protected final boolean stableIdentities;
+    protected final boolean compactPodSets;
     protected final SharedEnvironmentProvider sharedEnvironmentProvider;
     private final int port;
 
@@ -146,7 +148,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
                                    Function<Vertx, KafkaConnectApi> connectClientProvider,
                                    int port) {
-        super(vertx, kind, resourceOperator, new ConnectOperatorMetricsHolder(kind, config.getCustomResourceSelector(), supplier.metricsProvider), config.getCustomResourceSelector());
+        super(vertx, kind, resourceOperator, new ConnectOperatorMetricsHolder(kind, config.getCustomResourceSelector(), supplier.metricsProvider), config.getCustomResourceSelector(), config.getMaxConcurrentReconciliations());
 
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
         this.deploymentOperations = supplier.deploymentOperations;
@@ -169,6 +171,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.pfa = pfa;
         this.versions = config.versions();
         this.stableIdentities = config.featureGates().stableConnectIdentitiesEnabled();
+        this.compactPodSets = config.featureGates().compactPodSetsEnabled();
         this.sharedEnvironmentProvider = supplier.sharedEnvironmentProvider;
         this.port = port;
     }
@@ -510,6 +513,64 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             });
     }
 
+    /**
+     * Variant of {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)}
+     * which uses the connector configuration and status from a snapshot previously fetched with
+     * {@link KafkaConnectApi#listWithInfoAndStatus(Reconciliation, String, int)} instead of getting them connector by
+     * connector. When the connector exists, has the desired configuration and state, and no restart was requested,
+     * the status from the snapshot is used without any further REST API calls. The topics used by the connector are
+     * not collected.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param snapshot The snapshot of the connector info and status or null if the connector does not exist.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                Map<String, Object> snapshot) {
+        KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+        Map<String, Object> currentInfo = snapshot != null ? (Map<String, Object>) snapshot.get("info") : null;
+        Map<String, Object> currentStatus = snapshot != null ? (Map<String, Object>) snapshot.get("status") : null;
+
+        if (currentInfo == null || currentStatus == null) {
+            LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+                    .compose(createConnectorStatusAndConditions())
+                    .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource));
+        }
+
+        Map<String, String> currentConfig = new HashMap<>();
+        ((Map<String, Object>) currentInfo.getOrDefault("config", emptyMap()))
+                .forEach((key, value) -> currentConfig.put(key, value == null ? null : String.valueOf(value)));
+
+        if (needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
+            LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+                    .compose(createConnectorStatusAndConditions());
+        }
+
+        Object currentState = ((Map) currentStatus.getOrDefault("connector", emptyMap())).get("state");
+        boolean statusUpToDate = !hasRestartAnnotation(resource, connectorName)
+                && getRestartTaskAnnotationTaskID(resource, connectorName) < 0
+                && !needsStateChange(currentState, targetState(connectorSpec));
+
+        LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
+        return updateState(reconciliation, host, apiClient, connectorName, connectorSpec, currentStatus, new ArrayList<>())
+                .compose(conditions -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, conditions))
+                .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                .compose(conditions -> statusUpToDate
+                        ? Future.succeededFuture(new ConnectorStatusAndConditions(currentStatus, conditions))
+                        : apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                            .compose(createConnectorStatusAndConditions(conditions)))
+                .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource));
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
@@ -548,8 +609,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             ConnectorState desiredState = connectorSpec.getState();
             @SuppressWarnings("deprecation")
             Boolean shouldPause = connectorSpec.getPause();
-            ConnectorState targetState = desiredState != null ? desiredState :
-                    Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+            ConnectorState targetState = targetState(connectorSpec);
             if (desiredState != null && shouldPause != null) {
                 String message = "Both pause and state are set. Since pause is deprecated, state takes precedence " +
                         "so the connector will be " + targetState.toValue();
@@ -596,6 +656,44 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
     }
 
+    /**
+     * Finds the state the connector should be in based on its spec. The state field takes precedence over the
+     * deprecated pause field.
+     *
+     * @param connectorSpec     Spec of the connector
+     *
+     * @return  The target state of the connector
+     */
+    private static ConnectorState targetState(KafkaConnectorSpec connectorSpec) {
+        ConnectorState desiredState = connectorSpec.getState();
+        @SuppressWarnings("deprecation")
+        Boolean shouldPause = connectorSpec.getPause();
+        return desiredState != null ? desiredState :
+                Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+    }
+
+    /**
+     * Checks whether {@link #updateState(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, Map, List)}
+     * would change the state of the connector. Transient states such as UNASSIGNED or RESTARTING are never changed.
+     *
+     * @param currentState  Current state of the connector as reported by the Connect REST API
+     * @param targetState   Desired state of the connector
+     *
+     * @return  True if the connector state needs to be changed. False otherwise.
+     */
+    private static boolean needsStateChange(Object currentState, ConnectorState targetState) {
+        if (!(currentState instanceof String state)) {
+            return true;
+        }
+
+        return switch (state) {
+            case "RUNNING" -> targetState != ConnectorState.RUNNING;
+            case "PAUSED" -> targetState != ConnectorState.PAUSED;
+            case "STOPPED" -> targetState != ConnectorState.STOPPED;
+            default -> false;
+        };
+    }
+
     /**
      * Handles auto-restarting of the connectors and managing the auto-restart status. It checks that current state of
      * the connector and its tasks. If it is failing, it will restart them in periodic intervals with backoff. If the connector is stable after the restart, it resets that auto-restart status.
@@ -1078,6 +1176,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
                         if (!ksDiff.isEmpty()) {
                             T resourceWithNewStatus = copyWithStatus.apply(fetchedResource, desiredStatus);
+                            invalidateCachedStatus(fetchedResource.getMetadata().getNamespace(), fetchedResource.getMetadata().getName());
 
                             resourceOperator.updateStatusAsync(reconciliation, resourceWithNewStatus).onComplete(updateRes -> {
                                 if (updateRes.succeeded()) {
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Tag;
@@ -15,6 +16,7 @@ import io.strimzi.api.kafka.model.Spec;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.common.model.InvalidResourceException;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.common.Annotations;
@@ -74,6 +76,8 @@ public abstract class AbstractOperator<
 
     private static final long PROGRESS_WARNING = 60_000L;
     protected static final int LOCK_TIMEOUT_MS = 10000;
+    private static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = Integer.parseInt(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.defaultValue());
+    private static final int STATUS_UPDATE_ATTEMPTS = 3;
 
     /**
      * Prefix used for metrics provided by Strimzi operators
@@ -88,7 +92,10 @@ public abstract class AbstractOperator<
 
     protected final OperatorMetricsHolder metrics;
 
+    private final ReconciliationWorkQueue workQueue;
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
+    private final Map<String, T> lastKnownResources = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> reconciliationsInProgress = new ConcurrentHashMap<>();
 
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
@@ -102,11 +109,27 @@ public abstract class AbstractOperator<
      * @param selectorLabels    Selector labels for selecting custom resources which should be operated
      */
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, DEFAULT_MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    /**
+     * Constructs the AbstractOperator with a custom limit of the reconciliations running at the same time.
+     *
+     * @param vertx                         Vert.x instance
+     * @param kind                          Resource kind which will be operated by this operator
+     * @param resourceOperator              Resource operator for given custom resource
+     * @param metrics                       MetricsHolder for managing operator metrics
+     * @param selectorLabels                Selector labels for selecting custom resources which should be operated
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running at the same time. Reconciliations
+     *                                      above this limit wait in the work queue ordered by their priority.
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels, int maxConcurrentReconciliations) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, selectorLabels.toMap());
         this.metrics = metrics;
+        this.workQueue = new ReconciliationWorkQueue(metrics, maxConcurrentReconciliations);
     }
 
     /**
@@ -174,11 +197,60 @@ public abstract class AbstractOperator<
      * Reconciliation works by getting the assembly resource (e.g. {@code KafkaUser})
      * in the given namespace with the given name and
      * comparing with the corresponding resource.
+     * The reconciliation is added to the {@link ReconciliationWorkQueue} of this operator which starts it once no
+     * other reconciliation of the same resource is running.
      * @param reconciliation The reconciliation.
      * @return A Future which is completed with the result of the reconciliation.
      */
     @Override
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        return trackInProgress(reconciliation.namespace(), () -> workQueue.submit(reconciliation, this::reconcileWithLock));
+    }
+
+    /**
+     * Checks whether any reconciliations in the given namespace are waiting in the work queue or running. This is
+     * used to wait for the reconciliations to finish before another operator replica takes over the namespace.
+     *
+     * @param namespace     Namespace
+     *
+     * @return  True if any reconciliations in the namespace are in progress. False otherwise.
+     */
+    public boolean hasReconciliationsInProgress(String namespace) {
+        AtomicInteger inProgress = reconciliationsInProgress.get(namespace);
+        return inProgress != null && inProgress.get() > 0;
+    }
+
+    /**
+     * Counts the reconciliation in the given namespace as in progress until its future completes
+     *
+     * @param namespace     Namespace of the reconciled resource
+     * @param reconcile     Callable which starts the reconciliation
+     *
+     * @return  Future with the result of the reconciliation
+     *
+     * @param <R>   Type of the result
+     */
+    private <R> Future<R> trackInProgress(String namespace, Callable<Future<R>> reconcile) {
+        AtomicInteger inProgress = reconciliationsInProgress.computeIfAbsent(namespace, ns -> new AtomicInteger(0));
+        inProgress.incrementAndGet();
+
+        Future<R> result;
+        try {
+            result = reconcile.call();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        return result.onComplete(ignored -> inProgress.decrementAndGet());
+    }
+
+    /**
+     * Runs the reconciliation of the resource with the resource lock held.
+     *
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    private Future<Void> reconcileWithLock(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
@@ -187,7 +259,15 @@ public abstract class AbstractOperator<
 
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
             resourceOperator.getAsync(namespace, name)
-                .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
+                .compose(cr -> {
+                    if (cr != null) {
+                        lastKnownResources.put(statusCacheKey(namespace, name), cr);
+                        return reconcileResource(reconciliation, cr);
+                    } else {
+                        invalidateCachedStatus(namespace, name);
+                        return reconcileDeletion(reconciliation);
+                    }
+                }));
 
         Promise<Void> result = Promise.promise();
         handler.onComplete(reconcileResult ->
@@ -317,11 +397,17 @@ public abstract class AbstractOperator<
     }
 
     /**
-     * Updates the Status field of the Kafka CR. It diffs the desired status against the current status and calls
-     * the update only when there is any difference in non-timestamp fields.
+     * Updates the Status field of the custom resource. It diffs the desired status against the current status and
+     * calls the update only when there is any difference in non-timestamp fields.
+     *
+     * The current status is taken from the last known version of the custom resource. That is the version read at the
+     * beginning of the reconciliation or the version returned by the last status update. So when the status did not
+     * change, no API call is needed. The status update uses the resource version of the last known resource. If the
+     * resource was changed in the meantime, the update fails with a conflict, and it is retried with the latest
+     * version of the resource.
      *
      * @param reconciliation the reconciliation identified
-     * @param desiredStatus The KafkaStatus which should be set
+     * @param desiredStatus The status which should be set
      *
      * @return  Future which completes when the status is updated
      */
@@ -331,30 +417,31 @@ public abstract class AbstractOperator<
             return Future.succeededFuture();
         }
 
-        String namespace = reconciliation.namespace();
+        T lastKnownResource = lastKnownResources.get(statusCacheKey(reconciliation.namespace(), reconciliation.name()));
+
+        if (lastKnownResource != null) {
+            return updateStatus(reconciliation, lastKnownResource, desiredStatus, STATUS_UPDATE_ATTEMPTS);
+        } else {
+            return getAndUpdateStatus(reconciliation, desiredStatus, STATUS_UPDATE_ATTEMPTS);
+        }
+    }
+
+    /**
+     * Gets the current version of the custom resource and updates its status
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param desiredStatus     The status which should be set
+     * @param attempts          Number of attempts left for updating the status
+     *
+     * @return  Future which completes when the status is updated
+     */
+    private Future<Void> getAndUpdateStatus(Reconciliation reconciliation, S desiredStatus, int attempts) {
         String name = reconciliation.name();
 
-        return resourceOperator.getAsync(namespace, name)
+        return resourceOperator.getAsync(reconciliation.namespace(), name)
                 .compose(res -> {
                     if (res != null) {
-                        S currentStatus = res.getStatus();
-                        StatusDiff sDiff = new StatusDiff(currentStatus, desiredStatus);
-
-                        if (!sDiff.isEmpty()) {
-                            res.setStatus(desiredStatus);
-
-                            return resourceOperator.updateStatusAsync(reconciliation, res)
-                                    .compose(notUsed -> {
-                                        LOGGER.debugCr(reconciliation, "Completed status update");
-                                        return Future.succeededFuture();
-                                    }, error -> {
-                                            LOGGER.errorCr(reconciliation, "Failed to update status", error);
-                                            return Future.failedFuture(error);
-                                        });
-                        } else {
-                            LOGGER.debugCr(reconciliation, "Status did not change");
-                            return Future.succeededFuture();
-                        }
+                        return updateStatus(reconciliation, res, desiredStatus, attempts);
                     } else {
                         LOGGER.errorCr(reconciliation, "Current {} resource not found", reconciliation.kind());
                         return Future.failedFuture("Current " + reconciliation.kind() + " resource with name " + name + " not found");
@@ -365,6 +452,64 @@ public abstract class AbstractOperator<
                     });
     }
 
+    /**
+     * Updates the status of the custom resource if it differs from the status of the current resource. When the
+     * update fails with a conflict, the current resource is read again and the update is retried.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param current           Current version of the custom resource
+     * @param desiredStatus     The status which should be set
+     * @param attempts          Number of attempts left for updating the status
+     *
+     * @return  Future which completes when the status is updated
+     */
+    private Future<Void> updateStatus(Reconciliation reconciliation, T current, S desiredStatus, int attempts) {
+        String cacheKey = statusCacheKey(reconciliation.namespace(), reconciliation.name());
+        StatusDiff sDiff = new StatusDiff(current.getStatus(), desiredStatus);
+
+        if (sDiff.isEmpty()) {
+            LOGGER.debugCr(reconciliation, "Status did not change");
+            return Future.succeededFuture();
+        }
+
+        // The last known resource will not match the resource in Kubernetes anymore once we change its status
+        lastKnownResources.remove(cacheKey);
+        current.setStatus(desiredStatus);
+
+        return resourceOperator.updateStatusAsync(reconciliation, current)
+                .compose(updated -> {
+                    if (updated != null) {
+                        lastKnownResources.put(cacheKey, updated);
+                    }
+
+                    LOGGER.debugCr(reconciliation, "Completed status update");
+                    return Future.succeededFuture();
+                }, error -> {
+                        if (error instanceof KubernetesClientException e && e.getCode() == 409 && attempts > 1) {
+                            LOGGER.debugCr(reconciliation, "Status update failed with a conflict and will be retried with the current resource");
+                            return getAndUpdateStatus(reconciliation, desiredStatus, attempts - 1);
+                        } else {
+                            LOGGER.errorCr(reconciliation, "Failed to update status", error);
+                            return Future.failedFuture(error);
+                        }
+                    });
+    }
+
+    /**
+     * Removes the last known version of the custom resource used for the status updates. This has to be called when
+     * the status of the custom resource is updated outside of {@link #updateStatus(Reconciliation, Status)}.
+     *
+     * @param namespace     Namespace of the custom resource
+     * @param name          Name of the custom resource
+     */
+    protected void invalidateCachedStatus(String namespace, String name) {
+        lastKnownResources.remove(statusCacheKey(namespace, name));
+    }
+
+    private static String statusCacheKey(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
     protected abstract S createStatus(T cr);
 
     /**
@@ -387,6 +532,10 @@ public abstract class AbstractOperator<
      * @return  Future which completes when the callable is completed.
      */
     protected final <T> Future<T> withLock(Reconciliation reconciliation, long lockTimeoutMs, Callable<Future<T>> callable) {
+        return trackInProgress(reconciliation.namespace(), () -> withLockInternal(reconciliation, lockTimeoutMs, callable));
+    }
+
+    private <T> Future<T> withLockInternal(Reconciliation reconciliation, long lockTimeoutMs, Callable<Future<T>> callable) {
         Promise<T> handler = Promise.promise();
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
@@ -492,7 +641,8 @@ public abstract class AbstractOperator<
      * @return  A future which completes when the watcher has been created
      */
     public Future<ReconnectingWatcher<T>> createWatch(String namespace) {
-        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(resourceOperator, kind(), namespace, selector(), this::eventHandler));
+        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(resourceOperator, kind(), namespace, selector(), this::eventHandler,
+                () -> reconcileAll("watch relist", namespace, ignored -> { }), metrics));
     }
 
     /**
@@ -511,16 +661,9 @@ public abstract class AbstractOperator<
                 LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", this.kind(), name, namespace, action);
                 reconcile(reconciliation);
             }
-            case ERROR -> {
-                LOGGER.errorCr(new Reconciliation("watch", this.kind(), namespace, name), "Failed {} {} in namespace{} ", this.kind(), name, namespace);
-                reconcileAll("watch error", namespace, ignored -> {
-                });
-            }
-            default -> {
-                LOGGER.errorCr(new Reconciliation("watch", this.kind(), namespace, name), "Unknown action: {} in namespace {}", name, namespace);
-                reconcileAll("watch unknown", namespace, ignored -> {
-                });
-            }
+            // Watch errors are recovered by the ReconnectingWatcher which triggers the reconciliation of all
+            // resources only when the watch cannot be resumed
+            default -> LOGGER.errorCr(new Reconciliation("watch", this.kind(), namespace, name), "Unexpected action {} for {} {} in namespace {}", action, this.kind(), name, namespace);
         }
     }
 
@@ -594,7 +737,12 @@ public abstract class AbstractOperator<
             LOGGER.debugCr(reconciliation, "Removed metric " + METRICS_PREFIX + "resource.state{}", key);
         }
 
-        return resourceOperator.getAsync(reconciliation.namespace(), reconciliation.name()).map(cr -> {
+        // The last known resource is used when available to avoid reading the custom resource again
+        T lastKnownResource = lastKnownResources.get(statusCacheKey(reconciliation.namespace(), reconciliation.name()));
+        Future<T> currentResource = lastKnownResource != null ? Future.succeededFuture(lastKnownResource)
+                : resourceOperator.getAsync(reconciliation.namespace(), reconciliation.name());
+
+        return currentResource.map(cr -> {
             if (cr != null && Util.matchesSelector(selector(), cr)) {
                 resourcesStateCounter.computeIfAbsent(key, tags ->
                         metrics().metricsProvider().gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags)
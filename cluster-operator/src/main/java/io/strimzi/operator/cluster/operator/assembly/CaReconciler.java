@@ -33,6 +33,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -218,7 +219,7 @@ public class CaReconciler {
     Future<Void> reconcileCas(Clock clock) {
         Promise<Void> resultPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        BlockingExecutor.executeBlocking(vertx,
             future -> {
                 try {
                     String clusterCaCertName = AbstractModel.clusterCaCertSecretName(reconciliation.name());
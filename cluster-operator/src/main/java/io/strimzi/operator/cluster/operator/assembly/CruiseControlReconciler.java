@@ -22,6 +22,7 @@ import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -62,6 +63,7 @@ public class CruiseControlReconciler {
     private final ServiceOperator serviceOperator;
     private final NetworkPolicyOperator networkPolicyOperator;
     private final ConfigMapOperator configMapOperator;
+    private final MetricsProvider metricsProvider;
 
     private boolean existingCertsChanged = false;
 
@@ -105,6 +107,7 @@ public class CruiseControlReconciler {
         this.serviceOperator = supplier.serviceOperations;
         this.networkPolicyOperator = supplier.networkPolicyOperator;
         this.configMapOperator = supplier.configMapOperations;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -120,14 +123,16 @@ public class CruiseControlReconciler {
      * @return                  Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, Clock clock)    {
-        return networkPolicy()
-                .compose(i -> serviceAccount())
-                .compose(i -> metricsAndLoggingConfigMap())
-                .compose(i -> certificatesSecret(clock))
-                .compose(i -> apiSecret())
-                .compose(i -> service())
-                .compose(i -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets))
-                .compose(i -> waitForDeploymentReadiness());
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(reconciliation, "CruiseControlReconciler", metricsProvider);
+
+        return steps.time("networkPolicy", this::networkPolicy)
+                .compose(i -> steps.time("serviceAccount", this::serviceAccount))
+                .compose(i -> steps.time("metricsAndLoggingConfigMap", this::metricsAndLoggingConfigMap))
+                .compose(i -> steps.time("certificatesSecret", () -> certificatesSecret(clock)))
+                .compose(i -> steps.time("apiSecret", this::apiSecret))
+                .compose(i -> steps.time("service", this::service))
+                .compose(i -> steps.time("deployment", () -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets)))
+                .compose(i -> steps.time("waitForDeploymentReadiness", this::waitForDeploymentReadiness));
     }
 
     /**
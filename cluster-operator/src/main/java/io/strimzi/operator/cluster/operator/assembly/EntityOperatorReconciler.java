@@ -18,6 +18,7 @@ import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -55,6 +56,7 @@ public class EntityOperatorReconciler {
     private final RoleBindingOperator roleBindingOperator;
     private final ConfigMapOperator configMapOperator;
     private final NetworkPolicyOperator networkPolicyOperator;
+    private final MetricsProvider metricsProvider;
     private final boolean unidirectionalTopicOperator;
     private boolean existingEntityTopicOperatorCertsChanged = false;
     private boolean existingEntityUserOperatorCertsChanged = false;
@@ -93,6 +95,7 @@ public class EntityOperatorReconciler {
         this.roleBindingOperator = supplier.roleBindingOperations;
         this.configMapOperator = supplier.configMapOperations;
         this.networkPolicyOperator = supplier.networkPolicyOperator;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -108,20 +111,22 @@ public class EntityOperatorReconciler {
      * @return                  Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, Clock clock)    {
-        return serviceAccount()
-                .compose(i -> entityOperatorRole())
-                .compose(i -> topicOperatorRole())
-                .compose(i -> userOperatorRole())
-                .compose(i -> networkPolicy())
-                .compose(i -> topicOperatorRoleBindings())
-                .compose(i -> userOperatorRoleBindings())
-                .compose(i -> topicOperatorConfigMap())
-                .compose(i -> userOperatorConfigMap())
-                .compose(i -> deleteOldEntityOperatorSecret())
-                .compose(i -> topicOperatorSecret(clock))
-                .compose(i -> userOperatorSecret(clock))
-                .compose(i -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets))
-                .compose(i -> waitForDeploymentReadiness());
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(reconciliation, "EntityOperatorReconciler", metricsProvider);
+
+        return steps.time("serviceAccount", this::serviceAccount)
+                .compose(i -> steps.time("entityOperatorRole", this::entityOperatorRole))
+                .compose(i -> steps.time("topicOperatorRole", this::topicOperatorRole))
+                .compose(i -> steps.time("userOperatorRole", this::userOperatorRole))
+                .compose(i -> steps.time("networkPolicy", this::networkPolicy))
+                .compose(i -> steps.time("topicOperatorRoleBindings", this::topicOperatorRoleBindings))
+                .compose(i -> steps.time("userOperatorRoleBindings", this::userOperatorRoleBindings))
+                .compose(i -> steps.time("topicOperatorConfigMap", this::topicOperatorConfigMap))
+                .compose(i -> steps.time("userOperatorConfigMap", this::userOperatorConfigMap))
+                .compose(i -> steps.time("deleteOldEntityOperatorSecret", this::deleteOldEntityOperatorSecret))
+                .compose(i -> steps.time("topicOperatorSecret", () -> topicOperatorSecret(clock)))
+                .compose(i -> steps.time("userOperatorSecret", () -> userOperatorSecret(clock)))
+                .compose(i -> steps.time("deployment", () -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets)))
+                .compose(i -> steps.time("waitForDeploymentReadiness", this::waitForDeploymentReadiness));
     }
 
     /**
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.strimzi.api.kafka.model.JmxTransResources;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
@@ -23,6 +24,7 @@ public class JmxTransReconciler {
     private final DeploymentOperator deploymentOperator;
     private final ServiceAccountOperator serviceAccountOperator;
     private final ConfigMapOperator configMapOperator;
+    private final MetricsProvider metricsProvider;
 
     /**
      * Constructs the JMX Trans reconciler
@@ -39,6 +41,7 @@ public class JmxTransReconciler {
         this.deploymentOperator = supplier.deploymentOperations;
         this.configMapOperator = supplier.configMapOperations;
         this.serviceAccountOperator = supplier.serviceAccountOperations;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -48,9 +51,11 @@ public class JmxTransReconciler {
      * @return Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile()    {
-        return serviceAccount()
-                .compose(i -> configMap())
-                .compose(i -> deployment());
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(reconciliation, "JmxTransReconciler", metricsProvider);
+
+        return steps.time("serviceAccount", this::serviceAccount)
+                .compose(i -> steps.time("configMap", this::configMap))
+                .compose(i -> steps.time("deployment", this::deployment));
     }
 
     /**
@@ -304,6 +304,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
                             if (!ksDiff.isEmpty()) {
                                 Kafka resourceWithNewStatus = new KafkaBuilder(kafka).withStatus(desiredStatus).build();
+                                invalidateCachedStatus(namespace, name);
 
                                 kafkaOperator.updateStatusAsync(reconciliation, resourceWithNewStatus).onComplete(updateRes -> {
                                     if (updateRes.succeeded()) {
@@ -789,7 +790,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      * @return  A future which completes when the watcher has been created
      */
     public Future<ReconnectingWatcher<KafkaNodePool>> createNodePoolWatch(String namespace) {
-        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(nodePoolOperator, KafkaNodePool.RESOURCE_KIND, namespace, null, this::nodePoolEventHandler));
+        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(nodePoolOperator, KafkaNodePool.RESOURCE_KIND, namespace, null, this::nodePoolEventHandler,
+                () -> reconcileAll("watch relist", namespace, ignored -> { }), metrics));
     }
 
     /**
@@ -804,16 +806,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         switch (action) {
             case ADDED, DELETED, MODIFIED -> maybeEnqueueReconciliation(action, resource);
-            case ERROR -> {
-                LOGGER.errorCr(new Reconciliation("watch", resource.getKind(), namespace, name), "Error action: {} {} in namespace {} ", resource.getKind(), namespace, name);
-                reconcileAll("watch error", namespace, ignored -> {
-                });
-            }
-            default -> {
-                LOGGER.errorCr(new Reconciliation("watch", resource.getKind(), namespace, name), "Unknown action: {} in namespace {}", resource.getKind(), namespace, name);
-                reconcileAll("watch unknown", namespace, ignored -> {
-                });
-            }
+            // Watch errors are recovered by the ReconnectingWatcher which triggers the reconciliation of all
+            // resources only when the watch cannot be resumed
+            default -> LOGGER.errorCr(new Reconciliation("watch", resource.getKind(), namespace, name), "Unexpected action {} for {} {} in namespace {}", action, resource.getKind(), name, namespace);
         }
     }
 
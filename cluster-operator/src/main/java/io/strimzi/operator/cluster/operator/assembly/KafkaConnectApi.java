@@ -151,6 +151,18 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(Reconciliation reconciliation, String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=info&expand=status} to get the configuration and the
+     * status of all connectors in a single request.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map of connector names to the connector info (under the {@code info} key, including the
+     * connector configuration) and the connector status (under the {@code status} key).
+     */
+    Future<Map<String, Map<String, Object>>> listWithInfoAndStatus(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
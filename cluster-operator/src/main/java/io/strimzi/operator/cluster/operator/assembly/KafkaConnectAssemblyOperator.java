@@ -186,6 +186,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                             podAnnotations,
                             operationTimeoutMs,
                             pfa.isOpenshift(),
+                            compactPodSets,
                             imagePullPolicy,
                             imagePullSecrets,
                             image.get(),
@@ -280,7 +281,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                                          Map<String, String> podAnnotations,
                                          Map<String, String> podSetAnnotations,
                                          String customContainerImage)  {
-        return podSetOperations.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(connect.getReplicas(), podSetAnnotations, podAnnotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, customContainerImage))
+        return podSetOperations.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(connect.getReplicas(), podSetAnnotations, podAnnotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, customContainerImage, compactPodSets))
                 .compose(reconciliationResult -> {
                     KafkaConnectRoller roller = new KafkaConnectRoller(reconciliation, connect, operationTimeoutMs, podOperations);
                     return roller.maybeRoll(PodSetUtils.podNames(reconciliationResult.resource()), pod -> KafkaConnectRoller.needsRollingRestart(reconciliationResult.resource(), pod));
@@ -294,8 +295,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     }
 
     @Override
-    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, Handler<AsyncResult<Void>> handler) {
-        super.reconcileThese(trigger, desiredNames, namespace, ignore -> {
+    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, PeriodicReconciliationScheduler scheduler, Handler<AsyncResult<Void>> handler) {
+        super.reconcileThese(trigger, desiredNames, namespace, scheduler, ignore -> {
             List<String> connects = desiredNames.stream().map(NamespaceAndName::getName).collect(Collectors.toList());
             LabelSelectorRequirement requirement = new LabelSelectorRequirement(Labels.STRIMZI_CLUSTER_LABEL, "In", connects);
             LabelSelector connectorsSelector = new LabelSelector(List.of(requirement), null);
@@ -378,7 +379,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
      * @return  A future which completes when the watcher has been created
      */
     public Future<ReconnectingWatcher<KafkaConnector>> createConnectorWatch(String namespace) {
-        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(connectorOperator, KafkaConnector.RESOURCE_KIND, namespace, null, this::connectorEventHandler));
+        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(connectorOperator, KafkaConnector.RESOURCE_KIND, namespace, null, this::connectorEventHandler,
+                () -> reconcileAll("watch relist", namespace, ignored -> { }), metrics));
     }
 
     /**
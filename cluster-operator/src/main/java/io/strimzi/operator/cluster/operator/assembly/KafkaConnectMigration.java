@@ -35,6 +35,7 @@ public class KafkaConnectMigration {
     private final Map<String, String> podAnnotations;
     private final long operationTimeoutMs;
     private final boolean isOpenshift;
+    private final boolean compactPodSets;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
     private final String customContainerImage;
@@ -52,6 +53,7 @@ public class KafkaConnectMigration {
      * @param podAnnotations            Map with Pod annotations
      * @param operationTimeoutMs        Operations timeout in milliseconds
      * @param isOpenshift               Flag indicating whether we are on OpenShift or not
+     * @param compactPodSets            Flag indicating whether the StrimziPodSet should use the compact encoding
      * @param imagePullPolicy           Image pull policy
      * @param imagePullSecrets          List of image pull secrets
      * @param customContainerImage      Container image built by Kafka Connect Build
@@ -66,6 +68,7 @@ public class KafkaConnectMigration {
             Map<String, String> podAnnotations,
             long operationTimeoutMs,
             boolean isOpenshift,
+            boolean compactPodSets,
             ImagePullPolicy imagePullPolicy,
             List<LocalObjectReference> imagePullSecrets,
             String customContainerImage,
@@ -80,6 +83,7 @@ public class KafkaConnectMigration {
         this.podAnnotations = podAnnotations;
         this.operationTimeoutMs = operationTimeoutMs;
         this.isOpenshift = isOpenshift;
+        this.compactPodSets = compactPodSets;
         this.imagePullPolicy = imagePullPolicy;
         this.imagePullSecrets = imagePullSecrets;
         this.customContainerImage = customContainerImage;
@@ -199,7 +203,7 @@ public class KafkaConnectMigration {
      */
     private Future<Void> scaleUpStrimziPodSet(int replicas)    {
         LOGGER.infoCr(reconciliation, "Scaling up StrimziPodSet {}", connect.getComponentName());
-        return podSetOperator.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(replicas, controllerAnnotations, podAnnotations, isOpenshift, imagePullPolicy, imagePullSecrets, customContainerImage))
+        return podSetOperator.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(replicas, controllerAnnotations, podAnnotations, isOpenshift, imagePullPolicy, imagePullSecrets, customContainerImage, compactPodSets))
                 .compose(i -> podOperator.readiness(reconciliation, reconciliation.namespace(), connect.getPodName(replicas - 1), 1_000, operationTimeoutMs));
     }
 
@@ -304,6 +308,6 @@ public class KafkaConnectMigration {
      */
     private Future<ReconcileResult<StrimziPodSet>> scaleDownStrimziPodSet(int replicas)    {
         LOGGER.infoCr(reconciliation, "Scaling down StrimziPodset {}", connect.getComponentName());
-        return podSetOperator.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(replicas, controllerAnnotations, podAnnotations, isOpenshift, imagePullPolicy, imagePullSecrets, customContainerImage));
+        return podSetOperator.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(replicas, controllerAnnotations, podAnnotations, isOpenshift, imagePullPolicy, imagePullSecrets, customContainerImage, compactPodSets));
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -47,6 +48,7 @@ public class KafkaExporterReconciler {
     private final SecretOperator secretOperator;
     private final ServiceAccountOperator serviceAccountOperator;
     private final NetworkPolicyOperator networkPolicyOperator;
+    private final MetricsProvider metricsProvider;
 
     private boolean existingKafkaExporterCertsChanged = false;
 
@@ -79,6 +81,7 @@ public class KafkaExporterReconciler {
         this.secretOperator = supplier.secretOperations;
         this.serviceAccountOperator = supplier.serviceAccountOperations;
         this.networkPolicyOperator = supplier.networkPolicyOperator;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -94,11 +97,13 @@ public class KafkaExporterReconciler {
      * @return                  Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, Clock clock)    {
-        return serviceAccount()
-                .compose(i -> certificatesSecret(clock))
-                .compose(i -> networkPolicy())
-                .compose(i -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets))
-                .compose(i -> waitForDeploymentReadiness());
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(reconciliation, "KafkaExporterReconciler", metricsProvider);
+
+        return steps.time("serviceAccount", this::serviceAccount)
+                .compose(i -> steps.time("certificatesSecret", () -> certificatesSecret(clock)))
+                .compose(i -> steps.time("networkPolicy", this::networkPolicy))
+                .compose(i -> steps.time("deployment", () -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets)))
+                .compose(i -> steps.time("waitForDeploymentReadiness", this::waitForDeploymentReadiness));
     }
 
     /**
@@ -56,11 +56,15 @@ import org.apache.kafka.common.config.SslConfigs;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -191,6 +195,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                             podAnnotations,
                             operationTimeoutMs,
                             pfa.isOpenshift(),
+                            compactPodSets,
                             imagePullPolicy,
                             imagePullSecrets,
                             null,
@@ -264,7 +269,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     private Future<Void> reconcilePodSet(Reconciliation reconciliation,
                                          KafkaConnectCluster connect,
                                          Map<String, String> podAnnotations)  {
-        return podSetOperations.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(connect.getReplicas(), null, podAnnotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, null))
+        return podSetOperations.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(connect.getReplicas(), null, podAnnotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, null, compactPodSets))
                 .compose(reconciliationResult -> {
                     KafkaConnectRoller roller = new KafkaConnectRoller(reconciliation, connect, operationTimeoutMs, podOperations);
                     return roller.maybeRoll(PodSetUtils.podNames(reconciliationResult.resource()), pod -> KafkaConnectRoller.needsRollingRestart(reconciliationResult.resource(), pod));
@@ -308,7 +313,10 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     }
 
     /**
-     * Reconcile all the MirrorMaker 2 connectors selected by the given MirrorMaker 2 instance.
+     * Reconcile all the MirrorMaker 2 connectors selected by the given MirrorMaker 2 instance. The configuration and
+     * status of all connectors is read from the Connect REST API in a single request. The desired connectors for all
+     * mirrors are then computed together and only the differences are applied.
+     *
      * @param reconciliation The reconciliation
      * @param kafkaMirrorMaker2 The MirrorMaker 2
      * @return A future, failed if any of the connectors could not be reconciled.
@@ -322,32 +330,71 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         List<KafkaMirrorMaker2MirrorSpec> mirrors = ModelUtils.asListOrEmptyList(kafkaMirrorMaker2.getSpec().getMirrors());
         String host = KafkaMirrorMaker2Resources.qualifiedServiceName(mirrorMaker2Name, reconciliation.namespace());
         KafkaConnectApi apiClient = getKafkaConnectApi();
-        return apiClient.list(reconciliation, host, KafkaConnectCluster.REST_API_PORT).compose(deleteMirrorMaker2ConnectorNames -> {
-
+        return apiClient.listWithInfoAndStatus(reconciliation, host, KafkaConnectCluster.REST_API_PORT).compose(connectorSnapshots -> {
+            Set<String> deleteMirrorMaker2ConnectorNames = new HashSet<>(connectorSnapshots.keySet());
             for (Map.Entry<String, Function<KafkaMirrorMaker2MirrorSpec, KafkaMirrorMaker2ConnectorSpec>> connectorEntry : MIRRORMAKER2_CONNECTORS.entrySet()) {
                 deleteMirrorMaker2ConnectorNames.removeAll(mirrors.stream()
                         .filter(mirror -> connectorEntry.getValue().apply(mirror) != null) // filter out non-existent connectors
                         .map(mirror -> mirror.getSourceCluster() + "->" + mirror.getTargetCluster() + connectorEntry.getKey())
                         .collect(Collectors.toSet()));
             }
+
+            Map<String, KafkaConnectorSpec> desiredConnectors = new TreeMap<>();
+            List<Future<Void>> invalidMirrorFutures = new ArrayList<>();
+            int validMirrors = 0;
+            for (KafkaMirrorMaker2MirrorSpec mirror : mirrors) {
+                try {
+                    desiredConnectors.putAll(desiredMirrorMaker2Connectors(reconciliation, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster));
+                    validMirrors++;
+                } catch (InvalidResourceException e) {
+                    invalidMirrorFutures.add(maybeUpdateMirrorMaker2Status(reconciliation, kafkaMirrorMaker2, e));
+                }
+            }
+            boolean updateLoggers = validMirrors > 0;
+
             LOGGER.debugCr(reconciliation, "delete MirrorMaker 2 connectors: {}", deleteMirrorMaker2ConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteMirrorMaker2ConnectorNames.stream()
                     .map(connectorName -> apiClient.delete(reconciliation, host, KafkaConnectCluster.REST_API_PORT, connectorName));
-            Stream<Future<Void>> createUpdateFutures = mirrors.stream()
-                    .map(mirror -> reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, mirrorMaker2Status, desiredLogging));
-            return Future.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
+            Stream<Future<Void>> createUpdateFutures = desiredConnectors.entrySet().stream()
+                    .map(entry -> reconcileMirrorMaker2Connector(reconciliation, kafkaMirrorMaker2, apiClient, host, entry.getKey(), entry.getValue(), connectorSnapshots.get(entry.getKey()), mirrorMaker2Status));
+            return Future.join(Stream.of(deletionFutures, invalidMirrorFutures.stream(), createUpdateFutures).flatMap(Function.identity()).collect(Collectors.toList()))
+                    .compose(i -> updateLoggers ? apiClient.updateConnectLoggers(reconciliation, host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.defaultLogConfig()).map((Void) null) : Future.<Void>succeededFuture())
+                    .compose(i -> {
+                        boolean failedConnector = mirrorMaker2Status.getConnectors().stream()
+                                .anyMatch(connector -> {
+                                    @SuppressWarnings({ "rawtypes" })
+                                    Object state = ((Map) connector.getOrDefault("connector", emptyMap())).get("state");
+                                    return "FAILED".equalsIgnoreCase(state.toString());
+                                });
+                        if (failedConnector) {
+                            return Future.failedFuture("One or more connectors are in FAILED state");
+                        } else {
+                            return Future.succeededFuture();
+                        }
+                    })
+                    .map((Void) null);
         });
     }
 
-    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status, String desiredLogging) {
+    /**
+     * Computes the desired connectors for a single mirror.
+     *
+     * @param reconciliation        The reconciliation
+     * @param mirrorMaker2          The MirrorMaker 2 custom resource
+     * @param mirror                The mirror for which the connectors should be computed
+     * @param mirrorMaker2Cluster   The MirrorMaker 2 cluster model
+     *
+     * @return  Map with the connector names and their desired specs
+     *
+     * @throws InvalidResourceException when the mirror refers to clusters which are not defined
+     */
+    private static Map<String, KafkaConnectorSpec> desiredMirrorMaker2Connectors(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster) {
         String targetClusterAlias = mirror.getTargetCluster();
         String sourceClusterAlias = mirror.getSourceCluster();
         if (targetClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("targetCluster property is required"));
+            throw new InvalidResourceException("targetCluster property is required");
         } else if (sourceClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("sourceCluster property is required"));
+            throw new InvalidResourceException("sourceCluster property is required");
         }
         List<KafkaMirrorMaker2ClusterSpec> clusters = ModelUtils.asListOrEmptyList(mirrorMaker2.getSpec().getClusters());
         Map<String, KafkaMirrorMaker2ClusterSpec> clusterMap = clusters.stream()
@@ -355,49 +402,35 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             .collect(Collectors.toMap(KafkaMirrorMaker2ClusterSpec::getAlias, Function.identity()));
 
         if (!clusterMap.containsKey(targetClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters"));
+            throw new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters");
         } else if (!clusterMap.containsKey(sourceClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters"));
+            throw new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters");
         }
 
-        return Future.join(MIRRORMAKER2_CONNECTORS.entrySet().stream()
-                    .filter(entry -> entry.getValue().apply(mirror) != null) // filter out non-existent connectors
-                    .map(entry -> {
-                        String connectorName = sourceClusterAlias + "->" + targetClusterAlias + entry.getKey();
-                        String className = MIRRORMAKER2_CONNECTOR_PACKAGE + entry.getKey();
-
-                        KafkaMirrorMaker2ConnectorSpec mm2ConnectorSpec = entry.getValue().apply(mirror);
-                        @SuppressWarnings("deprecation")
-                        KafkaConnectorSpec connectorSpec = new KafkaConnectorSpecBuilder()
-                                .withClassName(className)
-                                .withConfig(mm2ConnectorSpec.getConfig())
-                                .withPause(mm2ConnectorSpec.getPause())
-                                .withTasksMax(mm2ConnectorSpec.getTasksMax())
-                                .build();
-
-                        prepareMirrorMaker2ConnectorConfig(reconciliation, mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
-                        LOGGER.debugCr(reconciliation, "creating/updating connector {} config: {}", connectorName, connectorSpec.getConfig());
-                        return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, mirrorMaker2Status);
-                    })
-                    .collect(Collectors.toList()))
-                    .map((Void) null)
-                    .compose(i -> apiClient.updateConnectLoggers(reconciliation, host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.defaultLogConfig()))
-                    .compose(i -> {
-                        boolean failedConnector = mirrorMaker2Status.getConnectors().stream()
-                                .anyMatch(connector -> {
-                                    @SuppressWarnings({ "rawtypes" })
-                                    Object state = ((Map) connector.getOrDefault("connector", emptyMap())).get("state");
-                                    return "FAILED".equalsIgnoreCase(state.toString());
-                                });
-                        if (failedConnector) {
-                            return Future.failedFuture("One or more connectors are in FAILED state");
-                        } else {
-                            return Future.succeededFuture();
-                        }
-                    })
-                    .map((Void) null);
+        Map<String, KafkaConnectorSpec> connectors = new HashMap<>(MIRRORMAKER2_CONNECTORS.size());
+        for (Map.Entry<String, Function<KafkaMirrorMaker2MirrorSpec, KafkaMirrorMaker2ConnectorSpec>> entry : MIRRORMAKER2_CONNECTORS.entrySet()) {
+            KafkaMirrorMaker2ConnectorSpec mm2ConnectorSpec = entry.getValue().apply(mirror);
+            if (mm2ConnectorSpec == null) {
+                continue; // filter out non-existent connectors
+            }
+
+            String connectorName = sourceClusterAlias + "->" + targetClusterAlias + entry.getKey();
+            String className = MIRRORMAKER2_CONNECTOR_PACKAGE + entry.getKey();
+
+            @SuppressWarnings("deprecation")
+            KafkaConnectorSpec connectorSpec = new KafkaConnectorSpecBuilder()
+                    .withClassName(className)
+                    .withConfig(mm2ConnectorSpec.getConfig())
+                    .withPause(mm2ConnectorSpec.getPause())
+                    .withTasksMax(mm2ConnectorSpec.getTasksMax())
+                    .build();
+
+            prepareMirrorMaker2ConnectorConfig(reconciliation, mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
+            LOGGER.debugCr(reconciliation, "creating/updating connector {} config: {}", connectorName, connectorSpec.getConfig());
+            connectors.put(connectorName, connectorSpec);
+        }
+
+        return connectors;
     }
 
     @SuppressWarnings("deprecation")
@@ -532,8 +565,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         return securityProtocol;
     }
 
-    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status) {
-        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2)
+    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> connectorSnapshot, KafkaMirrorMaker2Status mirrorMaker2Status) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2, connectorSnapshot)
                 .onComplete(result -> {
                     if (result.succeeded()) {
                         mirrorMaker2Status.addConditions(result.result().conditions);
@@ -37,10 +37,12 @@ import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebal
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlProposalCache;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlLoadParameters;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskTracker;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlUserTaskStatus;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RemoveBrokerOptions;
@@ -49,6 +51,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedNamespacedResourceOperator;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
@@ -70,6 +73,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -153,12 +157,17 @@ public class KafkaRebalanceAssemblyOperator
 
     private static final long REBALANCE_POLLING_TIMER_MS = 5_000;
     private static final int MAX_API_RETRIES = 5;
+    private static final int REBALANCE_POLLING_MAX_BACKOFF = 6;
+    private static final long PROPOSAL_CACHE_VALIDITY_MS = 60_000;
+    protected static final String PROPOSAL_CHANGES_KEY = "changesSincePreviousProposal";
     protected static final String BROKER_LOAD_KEY = "brokerLoad.json";
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final SecretOperator secretOperations;
     private final LabelSelector kafkaSelector;
     private boolean usingJbodStorage;
+    private CruiseControlUserTaskTracker userTaskTracker;
+    private CruiseControlProposalCache proposalCache;
 
     private final ConfigMapOperator configMapOperator;
     /**
@@ -168,7 +177,7 @@ public class KafkaRebalanceAssemblyOperator
      */
     public KafkaRebalanceAssemblyOperator(Vertx vertx,
                                           ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
-        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null);
+        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, new OperatorMetricsHolder(KafkaRebalance.RESOURCE_KIND, null, supplier.metricsProvider), null, config.getMaxConcurrentReconciliations());
         this.kafkaSelector = (config.getCustomResourceSelector() == null || config.getCustomResourceSelector().toMap().isEmpty()) ? null : new LabelSelector(null, config.getCustomResourceSelector().toMap());
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
         this.kafkaOperator = supplier.kafkaOperator;
@@ -180,6 +189,38 @@ public class KafkaRebalanceAssemblyOperator
         return REBALANCE_POLLING_TIMER_MS;
     }
 
+    /**
+     * Returns the tracker of the Cruise Control user tasks. It is created lazily so that it uses the polling interval
+     * which might be changed by the subclasses.
+     *
+     * @return  Cruise Control user task tracker
+     */
+    private synchronized CruiseControlUserTaskTracker userTaskTracker() {
+        if (userTaskTracker == null) {
+            userTaskTracker = new CruiseControlUserTaskTracker(vertx, rebalancePollingTimerDelay(), rebalancePollingTimerDelay() * REBALANCE_POLLING_MAX_BACKOFF);
+        }
+
+        return userTaskTracker;
+    }
+
+    protected long proposalCacheValidity() {
+        return PROPOSAL_CACHE_VALIDITY_MS;
+    }
+
+    /**
+     * Returns the cache of the optimization proposals. It is created lazily so that it uses the validity which might
+     * be changed by the subclasses.
+     *
+     * @return  Cruise Control proposal cache
+     */
+    private synchronized CruiseControlProposalCache proposalCache() {
+        if (proposalCache == null) {
+            proposalCache = new CruiseControlProposalCache(proposalCacheValidity());
+        }
+
+        return proposalCache;
+    }
+
     /**
      * Provides an implementation of the Cruise Control API client
      *
@@ -216,7 +257,8 @@ public class KafkaRebalanceAssemblyOperator
      */
     @Override
     public Future<ReconnectingWatcher<KafkaRebalance>> createWatch(String namespace) {
-        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(resourceOperator, KafkaRebalance.RESOURCE_KIND, namespace, selector(), this::eventHandler));
+        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(resourceOperator, KafkaRebalance.RESOURCE_KIND, namespace, selector(), this::eventHandler,
+                () -> reconcileAll("watch relist", namespace, ignored -> { }), metrics));
     }
 
     /**
@@ -732,11 +774,58 @@ public class KafkaRebalanceAssemblyOperator
         return new MapAndStatus<>(rebalanceMap, proposalJson.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()).getMap());
     }
 
+    /**
+     * Computes a compact difference between the summaries of two consecutive optimization proposals. Only the numeric
+     * fields which changed are included and their values are the difference between the current and the previous
+     * proposal.
+     *
+     * @param previousSummary   Summary of the previous optimization proposal
+     * @param currentSummary    Summary of the current optimization proposal
+     *
+     * @return  Map with the changed numeric fields and their differences
+     */
+    protected static Map<String, Object> proposalSummaryDiff(Map<String, Object> previousSummary, Map<String, Object> currentSummary) {
+        Map<String, Object> diff = new TreeMap<>();
+
+        for (Map.Entry<String, Object> entry : currentSummary.entrySet()) {
+            Object previous = previousSummary.get(entry.getKey());
+
+            if (entry.getValue() instanceof Number current && previous instanceof Number previousNumber) {
+                if (isIntegral(current) && isIntegral(previousNumber)) {
+                    long change = current.longValue() - previousNumber.longValue();
+                    if (change != 0) {
+                        diff.put(entry.getKey(), change);
+                    }
+                } else {
+                    double change = current.doubleValue() - previousNumber.doubleValue();
+                    if (change != 0) {
+                        diff.put(entry.getKey(), change);
+                    }
+                }
+            }
+        }
+
+        return diff;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
     private MapAndStatus<ConfigMap, KafkaRebalanceStatus> buildRebalanceStatus(KafkaRebalance kafkaRebalance, String sessionID, KafkaRebalanceState cruiseControlState, JsonObject proposalJson, Set<Condition> validation) {
         List<Condition> conditions = new ArrayList<>();
         conditions.add(StatusUtils.buildRebalanceCondition(cruiseControlState.toString()));
         conditions.addAll(validation);
         MapAndStatus<ConfigMap, Map<String, Object>> optimizationProposalMapAndStatus = processOptimizationProposal(kafkaRebalance, proposalJson);
+
+        if (cruiseControlState == KafkaRebalanceState.ProposalReady
+                && kafkaRebalance.getStatus() != null
+                && kafkaRebalance.getStatus().getOptimizationResult() != null
+                && !kafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+            optimizationProposalMapAndStatus.getStatus().put(PROPOSAL_CHANGES_KEY,
+                    proposalSummaryDiff(kafkaRebalance.getStatus().getOptimizationResult(), optimizationProposalMapAndStatus.getStatus()));
+        }
+
         return new MapAndStatus<>(optimizationProposalMapAndStatus.getLoadMap(), new KafkaRebalanceStatusBuilder()
                 .withSessionId(sessionID)
                 .withConditions(conditions)
@@ -953,8 +1042,9 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code Rebalancing} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
-     * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
+     * It registers the ongoing rebalance with the Cruise Control user task tracker in order to check its status on Cruise Control side.
+     * The tracker polls the user tasks of all rebalances running against the same Cruise Control instance with a single REST API request
+     * and backs off when the tasks do not change their status.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
      * and then transitions to the {@code Stopped} state.
@@ -975,120 +1065,119 @@ public class KafkaRebalanceAssemblyOperator
                                                                                 AbstractRebalanceOptions.AbstractRebalanceOptionsBuilder<?, ?> rebalanceOptionsBuilder) {
         Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
-            LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status timer");
+            LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status tracking");
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(rebalancePollingTimerDelay(), t -> {
-                // Check that we have not already failed to contact the API beyond the allowed number of times.
-                if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
-                    p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
-                }
+            CruiseControlUserTaskTracker tracker = userTaskTracker();
+            tracker.track(host, CruiseControl.REST_API_PORT, apiClient, sessionId, p, taskStatusResult ->
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
                     .onSuccess(currentKafkaRebalance -> {
-                        // Checking that the resource was not deleted between periodic polls
+                        // Checking that the resource was not deleted between the status checks
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
+                            // Safety check as the status might be delivered again (from a poll which was already in progress)
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
                                 if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control rebalance user task");
-                                    vertx.cancelTimer(t);
+                                    tracker.untrack(host, sessionId, p);
+                                    proposalCache().invalidate(host);
                                     apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
-                                        .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, kafkaRebalance))))
+                                        .onSuccess(r -> p.tryComplete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, kafkaRebalance))))
                                         .onFailure(e -> {
                                             LOGGER.errorCr(reconciliation, "Cruise Control stopping execution failed", e.getCause());
-                                            p.fail(e.getCause());
+                                            p.tryFail(e.getCause());
                                         });
                                 } else if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.refresh) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control rebalance user task since refresh annotation is applied on the KafkaRebalance resource and requesting a new proposal");
-                                    vertx.cancelTimer(t);
+                                    tracker.untrack(host, sessionId, p);
+                                    proposalCache().invalidate(host);
                                     apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
                                             .onSuccess(r -> {
-                                                requestRebalance(reconciliation, host, apiClient, currentKafkaRebalance, true, rebalanceOptionsBuilder).onSuccess(p::complete);
+                                                requestRebalance(reconciliation, host, apiClient, currentKafkaRebalance, true, rebalanceOptionsBuilder).onSuccess(p::tryComplete);
                                             })
                                             .onFailure(e -> {
                                                 LOGGER.errorCr(reconciliation, "Cruise Control stopping execution failed", e.getCause());
-                                                p.fail(e.getCause());
+                                                p.tryFail(e.getCause());
                                             });
+                                } else if (taskStatusResult.failed()) {
+                                    LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", taskStatusResult.cause());
+                                    // To make sure this error is not just a temporary problem with the network we retry several times.
+                                    // If the number of errors pass the MAX_API_RETRIES limit then we fail the promise.
+                                    if (ccApiErrorCount.incrementAndGet() >= MAX_API_RETRIES) {
+                                        tracker.untrack(host, sessionId, p);
+                                        p.tryFail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+                                    }
                                 } else {
-                                    LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
+                                    LOGGER.infoCr(reconciliation, "Got Cruise Control rebalance user task status");
                                     Set<Condition> conditions = StatusUtils.validate(reconciliation, kafkaRebalance);
                                     validateAnnotation(reconciliation, conditions, KafkaRebalanceState.Rebalancing, rebalanceAnnotation(currentKafkaRebalance), kafkaRebalance);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
-                                            switch (taskStatus) {
-                                                case COMPLETED:
-                                                    vertx.cancelTimer(t);
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
-                                                    p.complete(buildRebalanceStatus(
-                                                            kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
-                                                    break;
-                                                case COMPLETED_WITH_ERROR:
-                                                    // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
-                                                    //       We may need to propose an upstream PR for this.
-                                                    // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
-                                                    //       details of any issues while rebalancing.
-                                                    LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
-                                                    vertx.cancelTimer(t);
-                                                    p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
-                                                    break;
-                                                case IN_EXECUTION: // Rebalance is still in progress
-                                                    // We need to check that the status has been updated with the ongoing optimisation proposal
-                                                    // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
-                                                    // proposal was still being prepared (in progress). In that case the rebalance will start when
-                                                    // the proposal is complete but the optimisation proposal summary will be missing.
-                                                    if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
-                                                            currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
-                                                        LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
-                                                        // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
-                                                        p.complete(buildRebalanceStatus(
-                                                                kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
-                                                    }
-                                                    ccApiErrorCount.set(0);
-                                                    // TODO: Find out if there is any way to check the progress of a rebalance.
-                                                    //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
-                                                    //       We can then update the status at this point.
-                                                    break;
-                                                case ACTIVE: // Rebalance proposal is still being calculated
-                                                    // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
-                                                    // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
-                                                    // check that the optimisation proposal is added to the status on the next reconcile.
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
-                                                    ccApiErrorCount.set(0);
-                                                    break;
-                                                default:
-                                                    LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
-                                                    vertx.cancelTimer(t);
-                                                    p.fail("Unexpected state " + taskStatus);
-                                                    break;
+                                    JsonObject taskStatusJson = taskStatusResult.result().getJson();
+                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+                                    switch (taskStatus) {
+                                        case COMPLETED:
+                                            tracker.untrack(host, sessionId, p);
+                                            proposalCache().invalidate(host);
+                                            LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
+                                            p.tryComplete(buildRebalanceStatus(
+                                                    kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
+                                            break;
+                                        case COMPLETED_WITH_ERROR:
+                                            // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
+                                            //       We may need to propose an upstream PR for this.
+                                            // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
+                                            //       details of any issues while rebalancing.
+                                            LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
+                                            tracker.untrack(host, sessionId, p);
+                                            proposalCache().invalidate(host);
+                                            p.tryComplete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
+                                            break;
+                                        case IN_EXECUTION: // Rebalance is still in progress
+                                            // We need to check that the status has been updated with the ongoing optimisation proposal
+                                            // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
+                                            // proposal was still being prepared (in progress). In that case the rebalance will start when
+                                            // the proposal is complete but the optimisation proposal summary will be missing.
+                                            if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
+                                                    currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+                                                LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
+                                                // Stop tracking the task so that the status is returned and updated.
+                                                tracker.untrack(host, sessionId, p);
+                                                p.tryComplete(buildRebalanceStatus(
+                                                        kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, conditions));
                                             }
-                                        })
-                                        .onFailure(e -> {
-                                            LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", e.getCause());
-                                            // To make sure this error is not just a temporary problem with the network we retry several times.
-                                            // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
-                                            ccApiErrorCount.getAndIncrement();
-                                        });
+                                            ccApiErrorCount.set(0);
+                                            // TODO: Find out if there is any way to check the progress of a rebalance.
+                                            //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
+                                            //       We can then update the status at this point.
+                                            break;
+                                        case ACTIVE: // Rebalance proposal is still being calculated
+                                            // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
+                                            // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
+                                            // check that the optimisation proposal is added to the status on the next reconcile.
+                                            LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
+                                            ccApiErrorCount.set(0);
+                                            break;
+                                        default:
+                                            LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
+                                            tracker.untrack(host, sessionId, p);
+                                            p.tryFail("Unexpected state " + taskStatus);
+                                            break;
+                                    }
                                 }
                             } else {
-                                p.complete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
+                                tracker.untrack(host, sessionId, p);
+                                p.tryComplete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
                             }
                         } else {
                             LOGGER.warnCr(reconciliation, "Rebalance resource was deleted, rebalancing is still in progress but the status won't be reported");
-                            vertx.cancelTimer(t);
-                            p.complete();
+                            tracker.untrack(host, sessionId, p);
+                            p.tryComplete();
                         }
                     })
                     .onFailure(e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
-                        p.fail(e.getCause());
-                    });
-            });
+                        tracker.untrack(host, sessionId, p);
+                        p.tryFail(e.getCause());
+                    }));
         } else {
             p.complete(new MapAndStatus<>(null, kafkaRebalance.getStatus()));
         }
@@ -1282,6 +1371,16 @@ public class KafkaRebalanceAssemblyOperator
                                                                                    boolean dryrun,
                                                                                    AbstractRebalanceOptions.AbstractRebalanceOptionsBuilder<?, ?> rebalanceOptionsBuilder, String userTaskID) {
 
+        if (dryrun && userTaskID == null) {
+            // Repeated requests (for example refreshes) within the validity window are served from the cache
+            CruiseControlRebalanceResponse cachedProposal = proposalCache().get(host, kafkaRebalance.getSpec());
+
+            if (cachedProposal != null) {
+                LOGGER.infoCr(reconciliation, "Using cached Cruise Control rebalance proposal");
+                return Future.succeededFuture(handleRebalanceResponse(reconciliation, kafkaRebalance, true, cachedProposal));
+            }
+        }
+
         LOGGER.infoCr(reconciliation, "Requesting Cruise Control rebalance [dryrun={}]", dryrun);
         rebalanceOptionsBuilder.withVerboseResponse();
         if (!dryrun) {
@@ -1304,7 +1403,16 @@ public class KafkaRebalanceAssemblyOperator
                 future = apiClient.rebalance(host, CruiseControl.REST_API_PORT, ((RebalanceOptions.RebalanceOptionsBuilder) rebalanceOptionsBuilder).build(), userTaskID);
                 break;
         }
-        return future.map(response -> handleRebalanceResponse(reconciliation, kafkaRebalance, dryrun, response));
+        return future.map(response -> {
+            if (dryrun) {
+                proposalCache().put(host, kafkaRebalance.getSpec(), response);
+            } else {
+                // The rebalance is going to change the cluster model => the cached proposals are not valid anymore
+                proposalCache().invalidate(host);
+            }
+
+            return handleRebalanceResponse(reconciliation, kafkaRebalance, dryrun, response);
+        });
     }
 
     private MapAndStatus<ConfigMap, KafkaRebalanceStatus> handleRebalanceResponse(Reconciliation reconciliation, KafkaRebalance kafkaRebalance, boolean dryrun, CruiseControlRebalanceResponse response) {
@@ -58,6 +58,8 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.BlockingExecutor;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.cluster.model.MetricsAndLogging;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -127,6 +129,7 @@ public class KafkaReconciler {
     /* test */ final PlatformFeaturesAvailability pfa;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final boolean compactPodSets;
 
     private final StatefulSetOperator stsOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
@@ -149,6 +152,7 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
 
     private final AdminClientProvider adminClientProvider;
+    private final MetricsProvider metricsProvider;
 
     private final Set<String> fsResizingRestartRequest = new HashSet<>();
     private String logging = "";
@@ -225,6 +229,7 @@ public class KafkaReconciler {
         this.pfa = pfa;
         this.imagePullPolicy = config.getImagePullPolicy();
         this.imagePullSecrets = config.getImagePullSecrets();
+        this.compactPodSets = config.featureGates().compactPodSetsEnabled();
         this.skipBrokerScaleDownCheck = Annotations.booleanAnnotation(kafkaCr, Annotations.ANNO_STRIMZI_IO_SKIP_BROKER_SCALEDOWN_CHECK, false);
 
         this.stsOperator = supplier.stsOperations;
@@ -247,6 +252,7 @@ public class KafkaReconciler {
         this.eventsPublisher = supplier.restartEventsPublisher;
 
         this.adminClientProvider = supplier.adminClientProvider;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -260,34 +266,44 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> brokerScaleDownCheck())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> sharedKafkaConfigurationCleanup())
+        // The steps creating or updating the independent resources run concurrently. The steps which work with the
+        // Kafka pods or modify the Kafka status run one after another.
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(reconciliation, "KafkaReconciler", metricsProvider);
+
+        return new ReconciliationStepGraph(reconciliation, steps)
+                .step("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .step("brokerScaleDownCheck", this::brokerScaleDownCheck, "modelWarnings")
+                .step("manualPodCleaning", this::manualPodCleaning, "brokerScaleDownCheck")
+                .step("networkPolicy", this::networkPolicy, "brokerScaleDownCheck")
+                .step("manualRollingUpdate", this::manualRollingUpdate, "manualPodCleaning")
+                .step("pvcs", () -> pvcs(kafkaStatus), "manualRollingUpdate")
+                .step("serviceAccount", this::serviceAccount, "brokerScaleDownCheck")
+                .step("initClusterRoleBinding", this::initClusterRoleBinding, "brokerScaleDownCheck")
+                .step("scaleDown", this::scaleDown, "pvcs")
+                .step("updateNodePoolStatuses", () -> updateNodePoolStatuses(kafkaStatus), "scaleDown")
+                // The listeners and everything using them work with the node list after the scale-down
+                .step("listeners", this::listeners, "updateNodePoolStatuses")
+                .step("certificateSecret", () -> certificateSecret(clock), "listeners")
+                .step("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps, "listeners")
+                .step("jmxSecret", this::jmxSecret, "brokerScaleDownCheck")
+                .step("podDisruptionBudget", this::podDisruptionBudget, "brokerScaleDownCheck")
+                // All resources used by the pods have to be ready before the pods are created or rolled
+                .step("migrateFromStatefulSetToPodSet", this::migrateFromStatefulSetToPodSet,
+                        "networkPolicy", "serviceAccount", "initClusterRoleBinding", "certificateSecret",
+                        "brokerConfigurationConfigMaps", "jmxSecret", "podDisruptionBudget")
+                .run()
+                .compose(i -> steps.time("podSet", this::podSet))
+                .compose(podSetDiffs -> steps.time("rollingUpdate", () -> rollingUpdate(podSetDiffs))) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
+                .compose(i -> steps.time("podsReady", this::podsReady))
+                .compose(i -> steps.time("serviceEndpointsReady", this::serviceEndpointsReady))
+                .compose(i -> steps.time("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady))
+                .compose(i -> steps.time("clusterId", () -> clusterId(kafkaStatus)))
+                .compose(i -> steps.time("deletePersistentClaims", this::deletePersistentClaims))
+                .compose(i -> steps.time("sharedKafkaConfigurationCleanup", this::sharedKafkaConfigurationCleanup))
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> addListenersToKafkaStatus(kafkaStatus))
-                .compose(i -> updateKafkaVersion(kafkaStatus));
+                .compose(i -> steps.time("nodePortExternalListenerStatus", this::nodePortExternalListenerStatus))
+                .compose(i -> steps.time("addListenersToKafkaStatus", () -> addListenersToKafkaStatus(kafkaStatus)))
+                .compose(i -> steps.time("updateKafkaVersion", () -> updateKafkaVersion(kafkaStatus)));
     }
 
     protected Future<Void> brokerScaleDownCheck() {
@@ -821,7 +837,7 @@ public class KafkaReconciler {
                 .batchReconcile(
                         reconciliation,
                         reconciliation.namespace(),
-                        kafka.generatePodSets(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, this::podSetPodAnnotations),
+                        kafka.generatePodSets(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, this::podSetPodAnnotations, compactPodSets),
                         kafka.getSelectorLabels()
                 );
     }
@@ -895,7 +911,7 @@ public class KafkaReconciler {
                 .compose(compositeFuture -> {
                     LOGGER.debugCr(reconciliation, "Attempt to get clusterId");
                     Promise<Void> resultPromise = Promise.promise();
-                    vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                    BlockingExecutor.executeBlocking(vertx,
                             future -> {
                                 Admin kafkaAdmin = null;
 
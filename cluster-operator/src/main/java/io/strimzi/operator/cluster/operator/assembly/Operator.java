@@ -54,9 +54,22 @@ public interface Operator {
      * @param handler Handler called on completion.
      */
     default void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        reconcileAll(trigger, namespace, null, handler);
+    }
+
+    /**
+     * Triggers the asynchronous reconciliation of all resources which this operator consumes. The reconciliations are
+     * started by the scheduler which spreads them across the reconciliation interval.
+     * The resources to reconcile are identified by {@link #allResourceNames(String)}.
+     * @param trigger The cause of this reconciliation (for logging).
+     * @param namespace The namespace to reconcile, or {@code *} to reconcile across all namespaces.
+     * @param scheduler Scheduler of the periodic reconciliations or {@code null} to start the reconciliations immediately.
+     * @param handler Handler called on completion.
+     */
+    default void reconcileAll(String trigger, String namespace, PeriodicReconciliationScheduler scheduler, Handler<AsyncResult<Void>> handler) {
         allResourceNames(namespace).onComplete(ar -> {
             if (ar.succeeded()) {
-                reconcileThese(trigger, ar.result(), namespace, handler);
+                reconcileThese(trigger, ar.result(), namespace, scheduler, handler);
                 metrics().periodicReconciliationsCounter(namespace).increment();
             } else {
                 handler.handle(ar.map((Void) null));
@@ -73,6 +86,19 @@ public interface Operator {
      * @param handler       Handler called on completion.
      */
     default void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, Handler<AsyncResult<Void>> handler) {
+        reconcileThese(trigger, desiredNames, namespace, null, handler);
+    }
+
+    /**
+     * Reconciles a set of resources
+     *
+     * @param trigger       The cause of this reconciliation (for logging).
+     * @param desiredNames  Set of resources which should be reconciled
+     * @param namespace     The namespace to reconcile, or {@code *} to reconcile across all namespaces.
+     * @param scheduler     Scheduler of the periodic reconciliations or {@code null} to start the reconciliations immediately.
+     * @param handler       Handler called on completion.
+     */
+    default void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, PeriodicReconciliationScheduler scheduler, Handler<AsyncResult<Void>> handler) {
         if (namespace.equals("*")) {
             metrics().resetResourceAndPausedResourceCounters();
         } else {
@@ -85,7 +111,12 @@ public interface Operator {
             for (NamespaceAndName resourceRef : desiredNames) {
                 metrics().resourceCounter(resourceRef.getNamespace()).getAndIncrement();
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+
+                if (scheduler != null) {
+                    futures.add(scheduler.schedule(reconciliation, this::reconcile, metrics().periodicReconciliationsSchedulingLagTimer(resourceRef.getNamespace())));
+                } else {
+                    futures.add(reconcile(reconciliation));
+                }
             }
             Future.join(futures).map((Void) null).onComplete(handler);
         } else {
@@ -0,0 +1,226 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Spreads the periodic reconciliations evenly across the reconciliation interval instead of starting all of them at
+ * the same time. Each resource gets a stable phase offset within the interval derived from its kind, namespace and
+ * name. The number of periodic reconciliations running at the same time is limited. Reconciliations which cannot start
+ * at their scheduled time because of the limit wait in a queue and the time they spend waiting is recorded in the
+ * scheduling lag metric.
+ *
+ * A periodic reconciliation of a resource which was scheduled but did not finish yet is not scheduled again. Only the
+ * periodic reconciliations are handled by this scheduler. The reconciliations triggered by watch events start
+ * immediately.
+ *
+ * A single scheduler is shared by the ClusterOperator verticles of all namespaces, so the limit applies to the whole
+ * operator process. When the verticle of a namespace stops, it cancels the periodic reconciliations of its namespace
+ * which did not start yet.
+ */
+public class PeriodicReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PeriodicReconciliationScheduler.class.getName());
+
+    private final Vertx vertx;
+    private final long intervalMs;
+    private final int maxConcurrentReconciliations;
+
+    private final Map<String, ScheduledReconciliation> scheduled = new HashMap<>();
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private int running = 0;
+
+    /**
+     * Constructor
+     *
+     * @param vertx                         Vert.x instance
+     * @param intervalMs                    Periodic reconciliation interval in milliseconds
+     * @param maxConcurrentReconciliations  Maximal number of periodic reconciliations running at the same time
+     */
+    public PeriodicReconciliationScheduler(Vertx vertx, long intervalMs, int maxConcurrentReconciliations) {
+        this.vertx = vertx;
+        this.intervalMs = intervalMs;
+        this.maxConcurrentReconciliations = Math.max(1, maxConcurrentReconciliations);
+    }
+
+    /**
+     * Schedules the periodic reconciliation of a resource
+     *
+     * @param reconciliation    Reconciliation of the resource
+     * @param reconcile         Function which runs the reconciliation
+     * @param lagTimer          Timer metric for the time the reconciliation waited beyond its scheduled time
+     *
+     * @return  Future which completes when the reconciliation is finished
+     */
+    public synchronized Future<Void> schedule(Reconciliation reconciliation, Function<Reconciliation, Future<Void>> reconcile, Timer lagTimer) {
+        String key = key(reconciliation);
+        ScheduledReconciliation alreadyScheduled = scheduled.get(key);
+
+        if (alreadyScheduled != null) {
+            LOGGER.debugCr(reconciliation, "Periodic reconciliation is already scheduled and will not be scheduled again");
+            return alreadyScheduled.promise.future();
+        }
+
+        ScheduledReconciliation scheduledReconciliation = new ScheduledReconciliation(reconciliation.namespace());
+        scheduled.put(key, scheduledReconciliation);
+
+        long offsetMs = phaseOffset(key, intervalMs);
+        long plannedAt = System.nanoTime() + Duration.ofMillis(offsetMs).toNanos();
+        LOGGER.debugCr(reconciliation, "Periodic reconciliation scheduled in {} ms", offsetMs);
+
+        Runnable start = () -> {
+            if (!markStarted(scheduledReconciliation)) {
+                // Cancelled while waiting => the promise is already completed and only the slot has to be passed on
+                LOGGER.debugCr(reconciliation, "Periodic reconciliation is skipped because it was cancelled");
+                startNext();
+                return;
+            }
+
+            lagTimer.record(Duration.ofNanos(Math.max(0, System.nanoTime() - plannedAt)));
+
+            Future<Void> result;
+            try {
+                result = reconcile.apply(reconciliation);
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            result.onComplete(res -> {
+                synchronized (this) {
+                    scheduled.remove(key, scheduledReconciliation);
+                }
+
+                startNext();
+                scheduledReconciliation.promise.handle(res);
+            });
+        };
+
+        vertx.setTimer(Math.max(1, offsetMs), id -> startOrQueue(start));
+
+        return scheduledReconciliation.promise.future();
+    }
+
+    /**
+     * Cancels the periodic reconciliations in a namespace which are scheduled but did not start yet. This is used when
+     * the operator stops operating the namespace. The reconciliations which already started are not affected.
+     *
+     * @param namespace     Namespace of the reconciliations which should be cancelled or {@code *} for all namespaces
+     */
+    public void cancel(String namespace) {
+        List<Promise<Void>> cancelled = new ArrayList<>();
+
+        synchronized (this) {
+            Iterator<ScheduledReconciliation> iterator = scheduled.values().iterator();
+
+            while (iterator.hasNext()) {
+                ScheduledReconciliation scheduledReconciliation = iterator.next();
+
+                if (!scheduledReconciliation.started
+                        && ("*".equals(namespace) || namespace.equals(scheduledReconciliation.namespace))) {
+                    scheduledReconciliation.cancelled = true;
+                    cancelled.add(scheduledReconciliation.promise);
+                    iterator.remove();
+                }
+            }
+        }
+
+        LOGGER.debugOp("Cancelled {} periodic reconciliations in namespace {}", cancelled.size(), namespace);
+        cancelled.forEach(Promise::complete);
+    }
+
+    private synchronized boolean markStarted(ScheduledReconciliation scheduledReconciliation) {
+        if (scheduledReconciliation.cancelled) {
+            return false;
+        }
+
+        scheduledReconciliation.started = true;
+        return true;
+    }
+
+    /**
+     * @return  Number of periodic reconciliations which are scheduled and did not finish yet
+     */
+    /* test */ synchronized int scheduledReconciliations() {
+        return scheduled.size();
+    }
+
+    private void startOrQueue(Runnable start) {
+        synchronized (this) {
+            if (running >= maxConcurrentReconciliations) {
+                waiting.add(start);
+                return;
+            }
+
+            running++;
+        }
+
+        start.run();
+    }
+
+    private void startNext() {
+        Runnable next;
+
+        synchronized (this) {
+            next = waiting.poll();
+
+            if (next == null) {
+                running--;
+            }
+        }
+
+        // The finished reconciliation passes its slot to the next waiting reconciliation
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Calculates a stable phase offset of a resource within the reconciliation interval. The hash code of the key is
+     * mixed first so that resources with similar names get offsets which are far from each other.
+     *
+     * @param key           Key identifying the resource
+     * @param intervalMs    Reconciliation interval
+     *
+     * @return  Phase offset in milliseconds
+     */
+    /* test */ static long phaseOffset(String key, long intervalMs) {
+        long hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return Math.floorMod(hash, intervalMs);
+    }
+
+    /**
+     * Periodic reconciliation which was scheduled and did not finish yet. The flags are guarded by the scheduler.
+     */
+    private static class ScheduledReconciliation {
+        private final String namespace;
+        private final Promise<Void> promise = Promise.promise();
+        private boolean started = false;
+        private boolean cancelled = false;
+
+        private ScheduledReconciliation(String namespace) {
+            this.namespace = namespace;
+        }
+    }
+}
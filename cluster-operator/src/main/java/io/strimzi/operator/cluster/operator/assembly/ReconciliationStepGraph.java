@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs the steps of a reconciliation according to their dependencies. Each step starts as soon as all the steps it
+ * depends on completed successfully, so the steps which do not depend on each other run concurrently. The dependencies
+ * of a step have to be added to the graph before the step itself, which also makes sure that the graph has no cycles.
+ *
+ * When any of the steps fails, no other steps are started. The graph completes once the already running steps complete
+ * and fails with the cause of the first failed step.
+ *
+ * The duration of each step is recorded by the {@link ReconciliationStepTimer}.
+ */
+public class ReconciliationStepGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationStepGraph.class.getName());
+
+    private final Reconciliation reconciliation;
+    private final ReconciliationStepTimer stepTimer;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    // State of the run
+    private final Map<String, List<Step>> dependents = new HashMap<>();
+    private final Map<String, Integer> remainingDependencies = new HashMap<>();
+    private final Promise<Void> result = Promise.promise();
+    private int running = 0;
+    private int completed = 0;
+    private Throwable failure;
+    private boolean started = false;
+
+    /**
+     * Constructs the step graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param stepTimer         Timer used to record the duration of the steps
+     */
+    public ReconciliationStepGraph(Reconciliation reconciliation, ReconciliationStepTimer stepTimer) {
+        this.reconciliation = reconciliation;
+        this.stepTimer = stepTimer;
+    }
+
+    /**
+     * Adds a step to the graph
+     *
+     * @param name          Name of the step
+     * @param action        Supplier of the Future which runs the step
+     * @param dependencies  Names of the steps which have to complete before this step starts
+     *
+     * @return  This step graph
+     */
+    public ReconciliationStepGraph step(String name, Supplier<Future<Void>> action, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " is already defined");
+        }
+
+        for (String dependency : dependencies) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which is not defined");
+            }
+        }
+
+        steps.put(name, new Step(name, action, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Runs the steps of the graph. The graph can be run only once.
+     *
+     * @return  Future which completes when all steps completed or fails when any of the steps failed
+     */
+    public Future<Void> run() {
+        List<Step> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            if (started) {
+                throw new IllegalStateException("The reconciliation step graph can be run only once");
+            }
+
+            started = true;
+
+            for (Step step : steps.values()) {
+                remainingDependencies.put(step.name, step.dependencies.size());
+
+                for (String dependency : step.dependencies) {
+                    dependents.computeIfAbsent(dependency, d -> new ArrayList<>()).add(step);
+                }
+
+                if (step.dependencies.isEmpty()) {
+                    toStart.add(step);
+                }
+            }
+
+            running = toStart.size();
+        }
+
+        if (steps.isEmpty()) {
+            result.complete();
+        } else {
+            toStart.forEach(this::start);
+        }
+
+        return result.future();
+    }
+
+    private void start(Step step) {
+        LOGGER.debugCr(reconciliation, "Starting step {}", step.name);
+        stepTimer.time(step.name, step.action).onComplete(res -> completed(step, res));
+    }
+
+    private void completed(Step step, AsyncResult<Void> res) {
+        List<Step> toStart = new ArrayList<>();
+        boolean done;
+
+        synchronized (this) {
+            running--;
+            completed++;
+
+            if (res.failed() && failure == null) {
+                failure = res.cause();
+            }
+
+            if (failure == null) {
+                for (Step dependent : dependents.getOrDefault(step.name, List.of())) {
+                    int remaining = remainingDependencies.merge(dependent.name, -1, Integer::sum);
+
+                    if (remaining == 0) {
+                        toStart.add(dependent);
+                    }
+                }
+            }
+
+            running += toStart.size();
+            done = running == 0 && (failure != null || completed == steps.size());
+        }
+
+        toStart.forEach(this::start);
+
+        if (done) {
+            if (failure != null) {
+                result.fail(failure);
+            } else {
+                result.complete();
+            }
+        }
+    }
+
+    /**
+     * Step of the reconciliation
+     *
+     * @param name          Name of the step
+     * @param action        Supplier of the Future which runs the step
+     * @param dependencies  Names of the steps this step depends on
+     */
+    private record Step(String name, Supplier<Future<Void>> action, List<String> dependencies) { }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Measures the duration of the individual steps of the reconcilers. The duration of each step is recorded in the
+ * {@code strimzi_reconciliations_step_duration} histogram with the kind and namespace of the reconciled resource, the
+ * name of the reconciler and the name of the step. Steps which take longer than {@link #SLOW_STEP_THRESHOLD_MS} are
+ * logged on the INFO level, all other steps on the DEBUG level.
+ */
+public class ReconciliationStepTimer {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationStepTimer.class.getName());
+
+    /**
+     * Name of the metric with the duration of the reconciliation steps
+     */
+    public static final String STEP_DURATION_METRIC = AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration";
+
+    /**
+     * Duration after which the step is considered slow and logged on the INFO level
+     */
+    /* test */ static final long SLOW_STEP_THRESHOLD_MS = 30_000L;
+
+    private final Reconciliation reconciliation;
+    private final String reconciler;
+    private final MetricsProvider metricsProvider;
+
+    /**
+     * Constructs the step timer
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param reconciler        Name of the reconciler which owns the steps
+     * @param metricsProvider   Metrics provider used to record the step durations or null to only log them
+     */
+    public ReconciliationStepTimer(Reconciliation reconciliation, String reconciler, MetricsProvider metricsProvider) {
+        this.reconciliation = reconciliation;
+        this.reconciler = reconciler;
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * Runs the reconciliation step and records its duration when it completes
+     *
+     * @param step      Name of the step
+     * @param action    Supplier of the Future which runs the step
+     *
+     * @return  Future with the result of the step
+     *
+     * @param <T>   Type of the result of the step
+     */
+    public <T> Future<T> time(String step, Supplier<Future<T>> action) {
+        long startTime = System.nanoTime();
+
+        Future<T> stepFuture;
+        try {
+            stepFuture = action.get();
+        } catch (Throwable t) {
+            stepFuture = Future.failedFuture(t);
+        }
+
+        return stepFuture.onComplete(res -> record(step, res.succeeded(), System.nanoTime() - startTime));
+    }
+
+    private void record(String step, boolean succeeded, long durationNanos) {
+        long durationMs = Duration.ofNanos(durationNanos).toMillis();
+
+        if (durationMs >= SLOW_STEP_THRESHOLD_MS) {
+            LOGGER.infoCr(reconciliation, "{} step {} {} in {} ms", reconciler, step, succeeded ? "completed" : "failed", durationMs);
+        } else {
+            LOGGER.debugCr(reconciliation, "{} step {} {} in {} ms", reconciler, step, succeeded ? "completed" : "failed", durationMs);
+        }
+
+        if (metricsProvider != null) {
+            metricsProvider.timer(STEP_DURATION_METRIC, "The time the reconciliation step takes to complete",
+                            Tags.of(Tag.of("kind", reconciliation.kind()),
+                                    Tag.of("namespace", reconciliation.namespace()),
+                                    Tag.of("reconciler", reconciler),
+                                    Tag.of("step", step)))
+                    .record(Duration.ofNanos(durationNanos));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Work queue of the reconciliations of a single operator. It makes sure that only one reconciliation of a given
+ * resource runs at a time and replaces the waiting for the resource lock. When a resource is already being reconciled,
+ * the next reconciliation waits in the queue until the running reconciliation finishes. All reconciliations of a
+ * resource requested while it waits are coalesced into this one waiting reconciliation.
+ *
+ * The reconciliations waiting in the queue are started in the order of their priority. The reconciliations triggered
+ * by watch events (for example by a change of the custom resource done by the user) have a higher priority than the
+ * periodic reconciliations. The time the reconciliations wait in the queue is recorded in a timer metric for each
+ * priority class.
+ */
+public class ReconciliationWorkQueue {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationWorkQueue.class.getName());
+
+    /**
+     * Trigger used for the periodic reconciliations
+     */
+    public static final String PERIODIC_TRIGGER = "timer";
+
+    /**
+     * Priority classes of the reconciliations. The priorities are ordered from the highest to the lowest.
+     */
+    enum Priority {
+        /**
+         * Reconciliations triggered by watch events or other changes
+         */
+        EVENT,
+
+        /**
+         * Periodic reconciliations
+         */
+        PERIODIC;
+
+        /**
+         * Gets the priority of a reconciliation based on its trigger
+         *
+         * @param reconciliation    Reconciliation marker
+         *
+         * @return  Priority of the reconciliation
+         */
+        static Priority of(Reconciliation reconciliation) {
+            return PERIODIC_TRIGGER.equals(reconciliation.trigger()) ? PERIODIC : EVENT;
+        }
+
+        /**
+         * @return  Name of the priority class used in the metrics
+         */
+        String metricName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final OperatorMetricsHolder metrics;
+    private final int maxConcurrentReconciliations;
+
+    private final Map<String, Entry> waiting = new HashMap<>();
+    private final PriorityQueue<Entry> ready = new PriorityQueue<>(Comparator.comparing((Entry e) -> e.priority).thenComparingLong(e -> e.sequence));
+    private final Set<String> running = new HashSet<>();
+    private long sequence = 0;
+
+    /**
+     * Constructor
+     *
+     * @param metrics                       Metrics holder of the operator
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running at the same time
+     */
+    ReconciliationWorkQueue(OperatorMetricsHolder metrics, int maxConcurrentReconciliations) {
+        this.metrics = metrics;
+        this.maxConcurrentReconciliations = Math.max(1, maxConcurrentReconciliations);
+    }
+
+    /**
+     * Adds the reconciliation to the queue. If a reconciliation of the same resource already waits in the queue, the
+     * new reconciliation is coalesced into it and the future of the waiting reconciliation is returned. When the new
+     * reconciliation has a higher priority, the waiting reconciliation takes over its priority.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param reconcile         Function which runs the reconciliation
+     *
+     * @return  Future which completes when the reconciliation is finished
+     */
+    Future<Void> submit(Reconciliation reconciliation, Function<Reconciliation, Future<Void>> reconcile) {
+        Priority priority = Priority.of(reconciliation);
+        String key = reconciliation.namespace() + "/" + reconciliation.name();
+        Future<Void> result;
+
+        synchronized (this) {
+            Entry existing = waiting.get(key);
+
+            if (existing != null) {
+                LOGGER.debugCr(reconciliation, "Reconciliation is coalesced with the waiting {}", existing.reconciliation);
+
+                if (priority.compareTo(existing.priority) < 0) {
+                    boolean isReady = ready.remove(existing);
+                    existing.priority = priority;
+                    existing.reconciliation = reconciliation;
+
+                    if (isReady) {
+                        ready.add(existing);
+                    }
+                }
+
+                return existing.promise.future();
+            }
+
+            Entry entry = new Entry(key, reconciliation, priority, reconcile, sequence++);
+            waiting.put(key, entry);
+            result = entry.promise.future();
+
+            if (running.contains(key)) {
+                LOGGER.debugCr(reconciliation, "Reconciliation is waiting for the previous reconciliation to finish");
+            } else {
+                ready.add(entry);
+            }
+        }
+
+        dispatch();
+        return result;
+    }
+
+    /**
+     * @return  Number of the reconciliations waiting in the queue
+     */
+    /* test */ synchronized int waitingReconciliations() {
+        return waiting.size();
+    }
+
+    /**
+     * Starts the ready reconciliations while the limit of concurrent reconciliations allows it
+     */
+    private void dispatch() {
+        List<Entry> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            while (running.size() < maxConcurrentReconciliations && !ready.isEmpty()) {
+                Entry entry = ready.poll();
+                waiting.remove(entry.key);
+                running.add(entry.key);
+                toStart.add(entry);
+            }
+        }
+
+        for (Entry entry : toStart) {
+            start(entry);
+        }
+    }
+
+    private void start(Entry entry) {
+        metrics.reconciliationsQueueLatencyTimer(entry.reconciliation.namespace(), entry.priority.metricName())
+                .record(Duration.ofNanos(System.nanoTime() - entry.enqueuedAt));
+
+        Future<Void> result;
+        try {
+            result = entry.reconcile.apply(entry.reconciliation);
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(res -> {
+            finished(entry.key);
+            entry.promise.handle(res);
+        });
+    }
+
+    private void finished(String key) {
+        synchronized (this) {
+            running.remove(key);
+            Entry next = waiting.get(key);
+
+            if (next != null) {
+                ready.add(next);
+            }
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Reconciliation waiting in the queue
+     */
+    private static class Entry {
+        private final String key;
+        private final Function<Reconciliation, Future<Void>> reconcile;
+        private final long sequence;
+        private final long enqueuedAt = System.nanoTime();
+        private final Promise<Void> promise = Promise.promise();
+        private Reconciliation reconciliation;
+        private Priority priority;
+
+        Entry(String key, Reconciliation reconciliation, Priority priority, Function<Reconciliation, Future<Void>> reconcile, long sequence) {
+            this.key = key;
+            this.reconciliation = reconciliation;
+            this.priority = priority;
+            this.reconcile = reconcile;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -10,28 +10,40 @@ import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableNamespacedResourceOperator;
 
 import java.util.function.BiConsumer;
 
 /**
- * The Fabric8 Watcher which automatically reconnects when it is closed with an error.
+ * The Fabric8 Watcher which automatically reconnects when it is closed with an error. The watcher remembers the last
+ * resource version it has seen (including the resource versions received in bookmark events) and resumes the watch
+ * from it. Only when the resource version expired (HTTP 410 Gone), the watch is recreated from the current state and
+ * the relist handler is called to catch up with the events which might have been missed. Fabric8 keeps the watch open
+ * after the error events which do not close it, so the watch is recreated in the same way after them as well.
  *
  * @param <T> The resource type
  */
 public class ReconnectingWatcher<T extends HasMetadata> implements Watcher<T> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconnectingWatcher.class);
 
+    /* test */ static final String RECOVERY_RESUMED = "resumed";
+    /* test */ static final String RECOVERY_RELISTED = "relisted";
+
     private final AbstractWatchableNamespacedResourceOperator<?, T, ?, ?> resourceOperator;
     private final String kind;
     private final String namespace;
     private final LabelSelector selector;
     private final BiConsumer<Action, T> eventHandler;
+    private final Runnable relistHandler;
+    private final OperatorMetricsHolder metrics;
 
+    private volatile String resourceVersion;
+    private volatile boolean closed = false;
     private Watch watch;
 
     /**
-     * Creates an automatically reconnecting watch
+     * Creates an automatically reconnecting watch without any relist handler and without metrics
      *
      * @param resourceOperator  Operator for managing the resource which should be watched
      * @param kind              Kind of the resource this watcher is watching
@@ -40,24 +52,98 @@ public class ReconnectingWatcher<T extends HasMetadata> implements Watcher<T> {
      * @param eventHandler      Event handler for handling the received events
      */
     public ReconnectingWatcher(AbstractWatchableNamespacedResourceOperator<?, T, ?, ?> resourceOperator, String kind, String namespace, LabelSelector selector, BiConsumer<Action, T> eventHandler) {
+        this(resourceOperator, kind, namespace, selector, eventHandler, () -> { }, null);
+    }
+
+    /**
+     * Creates an automatically reconnecting watch
+     *
+     * @param resourceOperator  Operator for managing the resource which should be watched
+     * @param kind              Kind of the resource this watcher is watching
+     * @param namespace         Namespace which should be watched (or * for all namespaces)
+     * @param selector          Custom resource selector
+     * @param eventHandler      Event handler for handling the received events
+     * @param relistHandler     Handler called when the watch could not be resumed and some events might have been missed
+     * @param metrics           Metrics holder used to count the reconnects (or null when the reconnects should not be counted)
+     */
+    public ReconnectingWatcher(AbstractWatchableNamespacedResourceOperator<?, T, ?, ?> resourceOperator, String kind, String namespace, LabelSelector selector, BiConsumer<Action, T> eventHandler, Runnable relistHandler, OperatorMetricsHolder metrics) {
         this.resourceOperator = resourceOperator;
         this.kind = kind;
         this.namespace = namespace;
         this.selector = selector;
         this.eventHandler = eventHandler;
+        this.relistHandler = relistHandler;
+        this.metrics = metrics;
 
         this.watch = createWatch();
     }
 
     @Override
     public void eventReceived(Action action, T resource) {
-        eventHandler.accept(action, resource);
+        if (resource != null
+                && resource.getMetadata() != null
+                && resource.getMetadata().getResourceVersion() != null) {
+            resourceVersion = resource.getMetadata().getResourceVersion();
+        }
+
+        switch (action) {
+            case ADDED, MODIFIED, DELETED -> eventHandler.accept(action, resource);
+            // Bookmarks only move the resource version forward
+            case BOOKMARK -> LOGGER.traceOp("Watch for resource {} in namespace {} received bookmark with resource version {}", kind, namespace, resourceVersion);
+            case ERROR -> {
+                LOGGER.warnOp("Watch for resource {} in namespace {} with selector {} received an error event", kind, namespace, selector);
+                reconnect(false, null);
+            }
+            default -> LOGGER.warnOp("Watch for resource {} in namespace {} received unexpected event {}", kind, namespace, action);
+        }
     }
 
     @Override
     public void onClose(WatcherException e) {
-        LOGGER.warnOp("Watch for resource {} in namespace {} with selector {} failed and will be reconnected", kind, namespace, selector,  e);
-        watch = createWatch(); // We recreate the watch
+        reconnect(e.isHttpGone(), e);
+    }
+
+    /**
+     * Closes the current watch and creates a new one. The new watch resumes from the last seen resource version. When
+     * the resource version expired or is not known, the watch starts from the current state and the relist handler is
+     * called.
+     *
+     * @param gone      Whether the resource version expired
+     * @param cause     Cause of the reconnect or null when not available
+     */
+    private synchronized void reconnect(boolean gone, Throwable cause) {
+        if (closed) {
+            return;
+        }
+
+        if (watch != null) {
+            // Closing the watch which is already closed does nothing
+            watch.close();
+            watch = null;
+        }
+
+        if (gone || resourceVersion == null) {
+            LOGGER.warnOp("Watch for resource {} in namespace {} with selector {} failed and cannot be resumed. It will be recreated and all resources will be reconciled.", kind, namespace, selector, cause);
+            resourceVersion = null;
+            watch = createWatch(); // We recreate the watch from the current state
+            countReconnect(RECOVERY_RELISTED);
+            relistHandler.run();
+        } else {
+            LOGGER.warnOp("Watch for resource {} in namespace {} with selector {} failed and will be resumed from resource version {}", kind, namespace, selector, resourceVersion, cause);
+            watch = createWatch(); // We resume the watch from the last seen resource version
+            countReconnect(RECOVERY_RESUMED);
+        }
+    }
+
+    /**
+     * Counts the reconnect in the metrics
+     *
+     * @param recovery  How was the watch recovered
+     */
+    private void countReconnect(String recovery) {
+        if (metrics != null) {
+            metrics.watchReconnectsCounter(namespace, kind, recovery).increment();
+        }
     }
 
     /**
@@ -66,13 +152,25 @@ public class ReconnectingWatcher<T extends HasMetadata> implements Watcher<T> {
      * @return  The created watch
      */
     private Watch createWatch() {
-        return resourceOperator.watch(namespace, selector, this);
+        return resourceOperator.watch(namespace, selector, resourceVersion, this);
+    }
+
+    /**
+     * @return  The last resource version seen by this watcher
+     */
+    /* test */ String resourceVersion() {
+        return resourceVersion;
     }
 
     /**
      * Closes the watch
      */
-    public void close() {
-        watch.close();
+    public synchronized void close() {
+        closed = true;
+
+        if (watch != null) {
+            watch.close();
+            watch = null;
+        }
     }
 }
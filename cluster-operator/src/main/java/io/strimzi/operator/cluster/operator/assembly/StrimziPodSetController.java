@@ -46,17 +46,23 @@ import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.model.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 
-import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
- * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
+ * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them.
+ *
+ * All pods of the StrimziPodSet are reconciled when the StrimziPodSet is added, when its spec changes or when the
+ * informer resyncs. Pod events reconcile only the pods which changed and the status of the StrimziPodSet is updated
+ * from the cached state of the other pods.
  */
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
@@ -77,6 +83,11 @@ public class StrimziPodSetController implements Runnable {
     private final String watchedNamespace;
 
     private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    // Changes waiting for the next reconciliation of each StrimziPodSet. They are recorded by the informer threads and
+    // taken by the controller thread when the reconciliation starts.
+    private final Map<SimplifiedReconciliation, PendingChanges> pendingChanges = new ConcurrentHashMap<>();
+    // State of each StrimziPodSet from its last reconciliation
+    private final Map<SimplifiedReconciliation, PodSetState> podSetStates = new ConcurrentHashMap<>();
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -188,14 +199,17 @@ public class StrimziPodSetController implements Runnable {
      * Checks if the StrimziPodSet which should be enqueued matches the CR selector. If it does, it will enqueue the
      * reconciliation. This is used to enqueue reconciliations based on StrimziPodSet events.
      *
-     * @param podSet    StrimziPodSet which should be checked and possibly enqueued
-     * @param action    The action from the event which triggered this
+     * @param podSet                StrimziPodSet which should be checked and possibly enqueued
+     * @param action                The action from the event which triggered this
+     * @param fullReconciliation    Indicates whether all pods of the StrimziPodSet should be reconciled
      */
-    private void enqueueStrimziPodSet(StrimziPodSet podSet, String action)   {
+    private void enqueueStrimziPodSet(StrimziPodSet podSet, String action, boolean fullReconciliation)   {
         LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
 
         if (matchesCrSelector(podSet)) {
-            enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+            SimplifiedReconciliation reconciliation = new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName());
+            recordChanges(reconciliation, fullReconciliation, null);
+            enqueue(reconciliation);
         } else {
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {} but does not belong to a Kafka cluster managed by this operator", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
         }
@@ -207,6 +221,8 @@ public class StrimziPodSetController implements Runnable {
      * to enqueue reconciliations based on Pod events.
      *
      * Note: The reconciliation is enqueued per StrimziPodSet to which the pod belongs and not based on the Pod itself.
+     * The name of the Pod is recorded so that the reconciliation checks only this pod unless all pods need to be
+     * reconciled.
      *
      * @param pod      Pod which should be checked and possibly enqueued
      * @param action   The action from the event which triggered this
@@ -218,7 +234,9 @@ public class StrimziPodSetController implements Runnable {
 
         if (parentPodSet != null) {
             if (matchesCrSelector(parentPodSet)) {
-                enqueue(new SimplifiedReconciliation(parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
+                SimplifiedReconciliation reconciliation = new SimplifiedReconciliation(parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName());
+                recordChanges(reconciliation, false, pod.getMetadata().getName());
+                enqueue(reconciliation);
             } else {
                 LOGGER.debugOp("Pod {} in namespace {} was {} but does not belong to a cluster managed by this operator", pod.getMetadata().getName(), pod.getMetadata().getNamespace(), action);
             }
@@ -351,21 +369,25 @@ public class StrimziPodSetController implements Runnable {
      * The main reconciliation logic which handles the reconciliations.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     * @param changes           Changes recorded since the last reconciliation of this StrimziPodSet
      */
-    private void reconcile(Reconciliation reconciliation)    {
+    private void reconcile(Reconciliation reconciliation, PendingChanges changes)    {
         metrics().reconciliationsCounter(reconciliation.namespace()).increment(); // Increase the reconciliation counter
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry()); // Start the reconciliation timer
 
         try {
             String name = reconciliation.name();
             String namespace = reconciliation.namespace();
+            SimplifiedReconciliation key = new SimplifiedReconciliation(namespace, name);
             StrimziPodSet podSet = strimziPodSetLister.namespace(namespace).get(name);
 
             if (podSet == null) {
                 LOGGER.debugCr(reconciliation, "StrimziPodSet is null => nothing to do");
+                podSetStates.remove(key);
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
             } else if (!matchesCrSelector(podSet)) {
                 LOGGER.debugCr(reconciliation, "StrimziPodSet doesn't match the selector => nothing to do");
+                podSetStates.remove(key);
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
             } else if (isDeleting(podSet)) {
                 // When the PodSet is deleted, the pod deletion is done by Kubernetes Garbage Collection. When the PodSet
@@ -373,6 +395,7 @@ public class StrimziPodSetController implements Runnable {
                 // owner reference again, we need to check if the PodSet is being deleted and if it is, we leave it to
                 // Kubernetes.
                 LOGGER.infoCr(reconciliation, "StrimziPodSet is deleting => nothing to do");
+                podSetStates.remove(key);
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
             } else {
                 LOGGER.infoCr(reconciliation, "StrimziPodSet will be reconciled");
@@ -385,27 +408,42 @@ public class StrimziPodSetController implements Runnable {
                     // 1) Create missing pods
                     // 2) Modify changed pods if needed (patch owner reference)
                     // 3) Delete scaled down pods
-
-                    // Will be used later to find out if any pod needs to be deleted
-                    Set<String> desiredPods = new HashSet<>(podSet.getSpec().getPods().size());
-                    PodCounter podCounter = new PodCounter();
-                    podCounter.pods = podSet.getSpec().getPods().size();
-
-                    for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                        Pod pod = PodSetUtils.mapToPod(desiredPod);
-                        desiredPods.add(pod.getMetadata().getName());
-
-                        maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter);
+                    PodSetState state = podSetStates.get(key);
+
+                    if (state == null
+                            || changes.full
+                            || !Objects.equals(state.generation, podSet.getMetadata().getGeneration())) {
+                        LOGGER.debugCr(reconciliation, "Reconciling all pods");
+                        state = new PodSetState(podSet);
+                        podSetStates.put(key, state);
+
+                        for (Pod pod : state.desiredPods.values()) {
+                            maybeCreateOrPatchPod(reconciliation, pod, state);
+                        }
+
+                        // Check if any pods needs to be deleted
+                        removeDeletedPods(reconciliation, state);
+                    } else {
+                        LOGGER.debugCr(reconciliation, "Reconciling changed pods {}", changes.pods);
+
+                        for (String podName : changes.pods) {
+                            Pod pod = state.desiredPods.get(podName);
+
+                            if (pod != null) {
+                                maybeCreateOrPatchPod(reconciliation, pod, state);
+                            } else {
+                                maybeDeletePod(reconciliation, podName, state);
+                            }
+                        }
                     }
 
-                    // Check if any pods needs to be deleted
-                    removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter);
-
-                    status.setPods(podCounter.pods);
-                    status.setReadyPods(podCounter.readyPods);
-                    status.setCurrentPods(podCounter.currentPods);
+                    status.setPods(state.desiredPods.size() + state.deletedPods.size());
+                    status.setReadyPods(state.readyPods.size());
+                    status.setCurrentPods(state.currentPods.size());
                     metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
                 } catch (Exception e) {
+                    // The cached state might not match the pods anymore => the next reconciliation checks all pods
+                    podSetStates.remove(key);
                     LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), e);
                     status.addCondition(StatusUtils.buildConditionFromException("Error", "true", e));
                     metrics.failedReconciliationsCounter(reconciliation.namespace()).increment();
@@ -457,11 +495,15 @@ public class StrimziPodSetController implements Runnable {
      *
      * @param reconciliation    Reconciliation in which this is executed
      * @param pod               Pod which should be checked and created if needed
-     * @param owner             The OwnerReference which should be set to the pod
-     * @param podCounter        Pod Counter used to count pods for the status
+     * @param state             State of the StrimziPodSet used to track the ready and up-to-date pods
      */
-    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
-        Pod currentPod = podLister.namespace(reconciliation.namespace()).get(pod.getMetadata().getName());
+    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, PodSetState state)    {
+        String podName = pod.getMetadata().getName();
+        OwnerReference owner = state.owner;
+        Pod currentPod = podLister.namespace(reconciliation.namespace()).get(podName);
+
+        state.readyPods.remove(podName);
+        state.currentPods.remove(podName);
 
         if (currentPod == null) {
             // Pod does not exist => we create it
@@ -491,11 +533,11 @@ public class StrimziPodSetController implements Runnable {
             }
 
             if (Readiness.isPodReady(currentPod))   {
-                podCounter.readyPods++;
+                state.readyPods.add(podName);
             }
 
             if (!PodRevision.hasChanged(currentPod, pod))    {
-                podCounter.currentPods++;
+                state.currentPods.add(podName);
             }
 
             // TODO: Add patching of exiting pods => to be done in the future to handle selected changes to the Pods
@@ -507,27 +549,70 @@ public class StrimziPodSetController implements Runnable {
      * Removes the pods which were removed from the StrimziPodSet but which match the selector.
      *
      * @param reconciliation    Reconciliation in which this is executed
-     * @param selector          LabelSelector to match the pods belonging to this StrimziPodSet
-     * @param desiredPodNames   Collection with names of the pods which are still desired
-     * @param podCounter        Pod Counter used to count pods for the status
+     * @param state             State of the StrimziPodSet with the desired pods
      */
-    private void removeDeletedPods(Reconciliation reconciliation, LabelSelector selector, Collection<String> desiredPodNames, PodCounter podCounter) {
+    private void removeDeletedPods(Reconciliation reconciliation, PodSetState state) {
         Set<String> toBeDeleted = podLister
                 .namespace(reconciliation.namespace())
                 .list()
                 .stream()
-                .filter(pod -> Util.matchesSelector(selector, pod))
+                .filter(pod -> Util.matchesSelector(state.selector, pod))
                 .map(pod -> pod.getMetadata().getName())
                 .collect(Collectors.toSet());
-        toBeDeleted.removeAll(desiredPodNames);
+        toBeDeleted.removeAll(state.desiredPods.keySet());
 
         for (String podName : toBeDeleted)  {
-            LOGGER.debugCr(reconciliation, "Deleting pod {} in namespace {}", podName, reconciliation.namespace());
-            podOperator.client().inNamespace(reconciliation.namespace()).withName(podName).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
-            podCounter.pods++;
+            deletePod(reconciliation, podName, state);
+        }
+    }
+
+    /**
+     * Deletes a pod which is not part of the StrimziPodSet if it still exists and matches the selector. This is used
+     * when handling the events of the pods which are not desired anymore.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param podName           Name of the pod
+     * @param state             State of the StrimziPodSet used to track the deleted pods
+     */
+    private void maybeDeletePod(Reconciliation reconciliation, String podName, PodSetState state) {
+        Pod currentPod = podLister.namespace(reconciliation.namespace()).get(podName);
+        state.deletedPods.remove(podName);
+
+        if (currentPod != null && Util.matchesSelector(state.selector, currentPod)) {
+            deletePod(reconciliation, podName, state);
+        } else {
+            LOGGER.debugCr(reconciliation, "Pod {} in namespace {} does not belong to the StrimziPodSet anymore => nothing to do", podName, reconciliation.namespace());
         }
     }
 
+    private void deletePod(Reconciliation reconciliation, String podName, PodSetState state) {
+        LOGGER.debugCr(reconciliation, "Deleting pod {} in namespace {}", podName, reconciliation.namespace());
+        podOperator.client().inNamespace(reconciliation.namespace()).withName(podName).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
+        // The pod is counted in the status until it is gone
+        state.deletedPods.add(podName);
+    }
+
+    /**
+     * Records the changes which should be handled by the next reconciliation of the StrimziPodSet.
+     *
+     * @param reconciliation        Identifier of the StrimziPodSet
+     * @param fullReconciliation    Indicates whether all pods should be reconciled
+     * @param podName               Name of the pod which changed or null if no pod changed
+     */
+    private void recordChanges(SimplifiedReconciliation reconciliation, boolean fullReconciliation, String podName) {
+        // Compute is atomic => the changes cannot be modified after the controller thread took them from the map
+        pendingChanges.compute(reconciliation, (key, changes) -> {
+            PendingChanges updatedChanges = changes != null ? changes : new PendingChanges();
+            updatedChanges.full |= fullReconciliation;
+
+            if (podName != null) {
+                updatedChanges.pods.add(podName);
+            }
+
+            return updatedChanges;
+        });
+    }
+
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
      * the queue and enqueues the new event only if it is not there yet.
@@ -562,8 +647,10 @@ public class StrimziPodSetController implements Runnable {
         while (!stop) {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                SimplifiedReconciliation simplifiedReconciliation = workQueue.take();
+                // Changes recorded from now on will be handled by the next reconciliation
+                PendingChanges changes = pendingChanges.remove(simplifiedReconciliation);
+                reconcile(simplifiedReconciliation.toReconciliation(), changes != null ? changes : new PendingChanges());
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
@@ -600,13 +687,49 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Helper class to track the pod counts during reconciliation and to pass through different methods. This is used to
-     * count the numbers for the StrimziPodSet status subresource.
+     * Returns the state cached from the last reconciliation of a StrimziPodSet
+     *
+     * @param namespace     Namespace of the StrimziPodSet
+     * @param name          Name of the StrimziPodSet
+     *
+     * @return  The cached state or null if the StrimziPodSet has no cached state
+     */
+    /* test */ PodSetState podSetState(String namespace, String name)  {
+        return podSetStates.get(new SimplifiedReconciliation(namespace, name));
+    }
+
+    /**
+     * Changes which should be handled by the next reconciliation of a StrimziPodSet
      */
-    static class PodCounter    {
-        int pods = 0;
-        int readyPods = 0;
-        int currentPods = 0;
+    static class PendingChanges {
+        boolean full = false;
+        final Set<String> pods = new HashSet<>();
+    }
+
+    /**
+     * State of a StrimziPodSet from its last reconciliation. It caches the desired pods and tracks which pods are ready,
+     * up-to-date or being deleted. This is used to count the numbers for the StrimziPodSet status subresource when only
+     * some of the pods are reconciled. It is used only from the controller thread.
+     */
+    static class PodSetState {
+        final Long generation;
+        final LabelSelector selector;
+        final OwnerReference owner;
+        final Map<String, Pod> desiredPods = new LinkedHashMap<>();
+        final Set<String> readyPods = new HashSet<>();
+        final Set<String> currentPods = new HashSet<>();
+        final Set<String> deletedPods = new HashSet<>();
+
+        PodSetState(StrimziPodSet podSet) {
+            this.generation = podSet.getMetadata().getGeneration();
+            this.selector = podSet.getSpec().getSelector();
+            this.owner = ModelUtils.createOwnerReference(podSet, true);
+
+            // The PodSet might use the compact encoding => the pods are expanded from the pod template
+            for (Pod pod : PodSetUtils.podSetToPods(podSet)) {
+                desiredPods.put(pod.getMetadata().getName(), pod);
+            }
+        }
     }
 
     /**
@@ -680,12 +803,18 @@ public class StrimziPodSetController implements Runnable {
                 metrics.resourceCounter(podSet.getMetadata().getNamespace()).incrementAndGet();
             }
 
-            enqueueStrimziPodSet(podSet, "ADDED");
+            enqueueStrimziPodSet(podSet, "ADDED", true);
         }
 
         @Override
         public void onUpdate(StrimziPodSet oldPodSet, StrimziPodSet newPodSet) {
-            enqueueStrimziPodSet(newPodSet, "MODIFIED");
+            // Status updates (such as the ones done by this controller) do not need all pods to be reconciled. Other
+            // changes and the periodical resyncs (which do not change the resource version) reconcile all pods.
+            boolean statusOnly = !Objects.equals(oldPodSet.getMetadata().getResourceVersion(), newPodSet.getMetadata().getResourceVersion())
+                    && Objects.equals(oldPodSet.getMetadata().getGeneration(), newPodSet.getMetadata().getGeneration())
+                    && Objects.equals(oldPodSet.getSpec(), newPodSet.getSpec());
+
+            enqueueStrimziPodSet(newPodSet, "MODIFIED", !statusOnly);
         }
 
         @Override
@@ -695,7 +824,8 @@ public class StrimziPodSetController implements Runnable {
             }
 
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), "DELETED");
-            // Nothing to do => garbage collection should take care of things
+            podSetStates.remove(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+            // Nothing else to do => garbage collection should take care of things
         }
     }
 
@@ -31,6 +31,7 @@ import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperScaler;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperScalerProvider;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -87,6 +88,7 @@ public class ZooKeeperReconciler {
     private final int adminSessionTimeoutMs;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final boolean compactPodSets;
 
     private final StatefulSetOperator stsOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
@@ -102,6 +104,7 @@ public class ZooKeeperReconciler {
 
     private final ZookeeperScalerProvider zooScalerProvider;
     private final ZookeeperLeaderFinder zooLeaderFinder;
+    private final MetricsProvider metricsProvider;
 
     private final Integer currentReplicas;
 
@@ -152,6 +155,7 @@ public class ZooKeeperReconciler {
         this.adminSessionTimeoutMs = config.getZkAdminSessionTimeoutMs();
         this.imagePullPolicy = config.getImagePullPolicy();
         this.imagePullSecrets = config.getImagePullSecrets();
+        this.compactPodSets = config.featureGates().compactPodSetsEnabled();
 
         this.stsOperator = supplier.stsOperations;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
@@ -167,6 +171,7 @@ public class ZooKeeperReconciler {
 
         this.zooScalerProvider = supplier.zkScalerProvider;
         this.zooLeaderFinder = supplier.zookeeperLeaderFinder;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -180,29 +185,31 @@ public class ZooKeeperReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> jmxSecret())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> logVersionChange())
-                .compose(i -> serviceAccount())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> service())
-                .compose(i -> headlessService())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> loggingAndMetricsConfigMap())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(i -> scaleDown())
-                .compose(i -> rollingUpdate())
-                .compose(i -> podsReady())
-                .compose(i -> scaleUp())
-                .compose(i -> scalingCheck())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> deletePersistentClaims());
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(reconciliation, "ZooKeeperReconciler", metricsProvider);
+
+        return steps.time("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .compose(i -> steps.time("jmxSecret", this::jmxSecret))
+                .compose(i -> steps.time("manualPodCleaning", this::manualPodCleaning))
+                .compose(i -> steps.time("networkPolicy", this::networkPolicy))
+                .compose(i -> steps.time("manualRollingUpdate", this::manualRollingUpdate))
+                .compose(i -> steps.time("logVersionChange", this::logVersionChange))
+                .compose(i -> steps.time("serviceAccount", this::serviceAccount))
+                .compose(i -> steps.time("pvcs", () -> pvcs(kafkaStatus)))
+                .compose(i -> steps.time("service", this::service))
+                .compose(i -> steps.time("headlessService", this::headlessService))
+                .compose(i -> steps.time("certificateSecret", () -> certificateSecret(clock)))
+                .compose(i -> steps.time("loggingAndMetricsConfigMap", this::loggingAndMetricsConfigMap))
+                .compose(i -> steps.time("podDisruptionBudget", this::podDisruptionBudget))
+                .compose(i -> steps.time("migrateFromStatefulSetToPodSet", this::migrateFromStatefulSetToPodSet))
+                .compose(i -> steps.time("podSet", this::podSet))
+                .compose(i -> steps.time("scaleDown", this::scaleDown))
+                .compose(i -> steps.time("rollingUpdate", this::rollingUpdate))
+                .compose(i -> steps.time("podsReady", this::podsReady))
+                .compose(i -> steps.time("scaleUp", this::scaleUp))
+                .compose(i -> steps.time("scalingCheck", this::scalingCheck))
+                .compose(i -> steps.time("serviceEndpointsReady", this::serviceEndpointsReady))
+                .compose(i -> steps.time("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady))
+                .compose(i -> steps.time("deletePersistentClaims", this::deletePersistentClaims));
     }
 
     /**
@@ -497,7 +504,7 @@ public class ZooKeeperReconciler {
      * @return          Future which completes when the PodSet is created or updated
      */
     private Future<Void> podSet(int replicas) {
-        StrimziPodSet zkPodSet = zk.generatePodSet(replicas, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, this::zkPodSetPodAnnotations);
+        StrimziPodSet zkPodSet = zk.generatePodSet(replicas, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, this::zkPodSetPodAnnotations, compactPodSets);
         return strimziPodSetOperator.reconcile(reconciliation, reconciliation.namespace(), KafkaResources.zookeeperStatefulSetName(reconciliation.name()), zkPodSet)
                 .compose(rr -> {
                     podSetDiff = rr;
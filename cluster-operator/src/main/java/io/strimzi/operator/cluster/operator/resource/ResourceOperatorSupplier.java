@@ -30,7 +30,9 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.KubernetesApiRateLimiter;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -250,8 +252,10 @@ public class ResourceOperatorSupplier {
      * @param pfa                   Platform Availability Features
      * @param operationTimeoutMs    Operation timeout in milliseconds
      * @param operatorName          Name of this operator instance
+     * @param serverSideApply       Indicates whether the StrimziPodSets should be reconciled using server-side apply
+     * @param rateLimiter           Rate limiter of the Kubernetes API operations or null if they should not be limited
      */
-    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, long operationTimeoutMs, String operatorName) {
+    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, long operationTimeoutMs, String operatorName, boolean serverSideApply, KubernetesApiRateLimiter rateLimiter) {
         this(vertx,
                 client,
                 new ZookeeperLeaderFinder(vertx,
@@ -262,7 +266,9 @@ public class ResourceOperatorSupplier {
                 metricsProvider,
                 pfa,
                 operationTimeoutMs,
-                new KubernetesRestartEventPublisher(client, operatorName)
+                new KubernetesRestartEventPublisher(client, operatorName),
+                serverSideApply,
+                rateLimiter
         );
     }
 
@@ -294,7 +300,9 @@ public class ResourceOperatorSupplier {
                 metricsProvider,
                 pfa,
                 operationTimeoutMs,
-                new KubernetesRestartEventPublisher(client, "operatorName")
+                new KubernetesRestartEventPublisher(client, "operatorName"),
+                false,
+                null
         );
     }
 
@@ -306,36 +314,38 @@ public class ResourceOperatorSupplier {
                                     MetricsProvider metricsProvider,
                                     PlatformFeaturesAvailability pfa,
                                     long operationTimeoutMs,
-                                    KubernetesRestartEventPublisher restartEventPublisher) {
-        this(new ServiceOperator(vertx, client),
-                pfa.hasRoutes() ? new RouteOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
-                pfa.hasImages() ? new ImageStreamOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
-                new StatefulSetOperator(vertx, client, operationTimeoutMs),
-                new ConfigMapOperator(vertx, client),
-                new SecretOperator(vertx, client),
-                new PvcOperator(vertx, client),
-                new DeploymentOperator(vertx, client),
-                new ServiceAccountOperator(vertx, client),
-                new RoleBindingOperator(vertx, client),
-                new RoleOperator(vertx, client),
-                new ClusterRoleBindingOperator(vertx, client),
-                new NetworkPolicyOperator(vertx, client),
-                new PodDisruptionBudgetOperator(vertx, client),
-                new PodOperator(vertx, client),
-                new IngressOperator(vertx, client),
-                pfa.hasBuilds() ? new BuildConfigOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
-                pfa.hasBuilds() ? new BuildOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
-                new CrdOperator<>(vertx, client, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND),
-                new CrdOperator<>(vertx, client, KafkaConnect.class, KafkaConnectList.class, KafkaConnect.RESOURCE_KIND),
-                new CrdOperator<>(vertx, client, KafkaMirrorMaker.class, KafkaMirrorMakerList.class, KafkaMirrorMaker.RESOURCE_KIND),
-                new CrdOperator<>(vertx, client, KafkaBridge.class, KafkaBridgeList.class, KafkaBridge.RESOURCE_KIND),
-                new CrdOperator<>(vertx, client, KafkaConnector.class, KafkaConnectorList.class, KafkaConnector.RESOURCE_KIND),
-                new CrdOperator<>(vertx, client, KafkaMirrorMaker2.class, KafkaMirrorMaker2List.class, KafkaMirrorMaker2.RESOURCE_KIND),
-                new CrdOperator<>(vertx, client, KafkaRebalance.class, KafkaRebalanceList.class, KafkaRebalance.RESOURCE_KIND),
-                new CrdOperator<>(vertx, client, KafkaNodePool.class, KafkaNodePoolList.class, KafkaNodePool.RESOURCE_KIND),
-                new StrimziPodSetOperator(vertx, client),
-                new StorageClassOperator(vertx, client),
-                new NodeOperator(vertx, client),
+                                    KubernetesRestartEventPublisher restartEventPublisher,
+                                    boolean serverSideApply,
+                                    KubernetesApiRateLimiter rateLimiter) {
+        this(limited(new ServiceOperator(vertx, client), rateLimiter),
+                pfa.hasRoutes() ? limited(new RouteOperator(vertx, client.adapt(OpenShiftClient.class)), rateLimiter) : null,
+                pfa.hasImages() ? limited(new ImageStreamOperator(vertx, client.adapt(OpenShiftClient.class)), rateLimiter) : null,
+                limited(new StatefulSetOperator(vertx, client, operationTimeoutMs), rateLimiter),
+                limited(new ConfigMapOperator(vertx, client), rateLimiter),
+                limited(new SecretOperator(vertx, client), rateLimiter),
+                limited(new PvcOperator(vertx, client), rateLimiter),
+                limited(new DeploymentOperator(vertx, client), rateLimiter),
+                limited(new ServiceAccountOperator(vertx, client), rateLimiter),
+                limited(new RoleBindingOperator(vertx, client), rateLimiter),
+                limited(new RoleOperator(vertx, client), rateLimiter),
+                limited(new ClusterRoleBindingOperator(vertx, client), rateLimiter),
+                limited(new NetworkPolicyOperator(vertx, client), rateLimiter),
+                limited(new PodDisruptionBudgetOperator(vertx, client), rateLimiter),
+                limited(new PodOperator(vertx, client), rateLimiter),
+                limited(new IngressOperator(vertx, client), rateLimiter),
+                pfa.hasBuilds() ? limited(new BuildConfigOperator(vertx, client.adapt(OpenShiftClient.class)), rateLimiter) : null,
+                pfa.hasBuilds() ? limited(new BuildOperator(vertx, client.adapt(OpenShiftClient.class)), rateLimiter) : null,
+                limited(new CrdOperator<>(vertx, client, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND), rateLimiter),
+                limited(new CrdOperator<>(vertx, client, KafkaConnect.class, KafkaConnectList.class, KafkaConnect.RESOURCE_KIND), rateLimiter),
+                limited(new CrdOperator<>(vertx, client, KafkaMirrorMaker.class, KafkaMirrorMakerList.class, KafkaMirrorMaker.RESOURCE_KIND), rateLimiter),
+                limited(new CrdOperator<>(vertx, client, KafkaBridge.class, KafkaBridgeList.class, KafkaBridge.RESOURCE_KIND), rateLimiter),
+                limited(new CrdOperator<>(vertx, client, KafkaConnector.class, KafkaConnectorList.class, KafkaConnector.RESOURCE_KIND), rateLimiter),
+                limited(new CrdOperator<>(vertx, client, KafkaMirrorMaker2.class, KafkaMirrorMaker2List.class, KafkaMirrorMaker2.RESOURCE_KIND), rateLimiter),
+                limited(new CrdOperator<>(vertx, client, KafkaRebalance.class, KafkaRebalanceList.class, KafkaRebalance.RESOURCE_KIND), rateLimiter),
+                limited(new CrdOperator<>(vertx, client, KafkaNodePool.class, KafkaNodePoolList.class, KafkaNodePool.RESOURCE_KIND), rateLimiter),
+                limited(new StrimziPodSetOperator(vertx, client, serverSideApply), rateLimiter),
+                limited(new StorageClassOperator(vertx, client), rateLimiter),
+                limited(new NodeOperator(vertx, client), rateLimiter),
                 zkScalerProvider,
                 metricsProvider,
                 adminClientProvider,
@@ -345,6 +355,21 @@ public class ResourceOperatorSupplier {
                 new PreventBrokerScaleDownCheck());
     }
 
+    /**
+     * Sets the Kubernetes API rate limiter to the resource operator
+     *
+     * @param operator      Resource operator
+     * @param rateLimiter   Kubernetes API rate limiter or null if the operations should not be limited
+     *
+     * @return  The same resource operator
+     *
+     * @param <O>   Type of the resource operator
+     */
+    private static <O extends AbstractResourceOperator<?, ?, ?, ?>> O limited(O operator, KubernetesApiRateLimiter rateLimiter) {
+        operator.setRateLimiter(rateLimiter);
+        return operator;
+    }
+
     /**
      * Constructor
      *
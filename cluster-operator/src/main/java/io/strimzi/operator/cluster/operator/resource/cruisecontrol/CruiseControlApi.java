@@ -4,8 +4,12 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Cruise Control REST API interface definition
  */
@@ -88,6 +92,18 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskID);
 
+    /**
+     *  Get the state of several tasks (e.g. rebalances) from the Cruise Control server using a single request.
+     *
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIDs The unique IDs of previous rebalance requests or other tasks supported by Cruise Control.
+     * @return A future for the map of task IDs to their states. Tasks for which the Cruise Control server returned an
+     *         error have a failed result in the map. Tasks which are not known to the Cruise Control server are not
+     *         included in the map.
+     */
+    Future<Map<String, AsyncResult<CruiseControlResponse>>> getUserTaskStatuses(String host, int port, Set<String> userTaskIDs);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
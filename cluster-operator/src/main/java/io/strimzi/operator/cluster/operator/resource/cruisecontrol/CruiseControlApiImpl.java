@@ -21,13 +21,16 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -40,6 +43,19 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1;
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
+
+    // Fields of the rebalance responses which are kept when parsing them. The other fields (such as the list of
+    // proposed partition movements in the verbose responses) are not used by the operator.
+    private static final Set<String> REBALANCE_RESPONSE_FIELDS = Set.of(
+            CruiseControlRebalanceKeys.SUMMARY.getKey(),
+            CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+            CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+            "goalSummary");
+    private static final Set<String> ORIGINAL_RESPONSE_FIELDS = Set.of(
+            CruiseControlRebalanceKeys.SUMMARY.getKey(),
+            CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+            CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey());
 
     private final Vertx vertx;
     private final long idleTimeout;
@@ -178,7 +194,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                     if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
                         response.result().bodyHandler(buffer -> {
                             String userTaskID = response.result().getHeader(CC_REST_API_USER_ID_HEADER);
-                            JsonObject json = buffer.toJsonObject();
+                            JsonObject json = CruiseControlResponseParser.parse(buffer, REBALANCE_RESPONSE_FIELDS);
                             CruiseControlRebalanceResponse ccResponse = new CruiseControlRebalanceResponse(userTaskID, json);
                             result.complete(ccResponse);
                         });
@@ -297,15 +313,115 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     }
 
     @Override
-    @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskId) {
+        return getUserTasks(host, port, userTaskId)
+                .compose(response -> {
+                    JsonObject jsonUserTask = response.getJson().getJsonArray("userTasks").getJsonObject(0);
+                    // This should not be an error with a 200 status but we play it safe
+                    if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+                        return Future.failedFuture(new CruiseControlRestException(
+                                "Error for request: " + host + ":" + port + CruiseControlEndpoints.USER_TASKS + ". Server returned: " +
+                                        jsonUserTask.getString(CC_REST_API_ERROR_KEY)));
+                    }
+
+                    return Future.succeededFuture(new CruiseControlResponse(response.getUserTaskId(), userTaskStatusJson(jsonUserTask)));
+                });
+    }
+
+    @Override
+    public Future<Map<String, AsyncResult<CruiseControlResponse>>> getUserTaskStatuses(String host, int port, Set<String> userTaskIds) {
+        if (userTaskIds.isEmpty()) {
+            return Future.succeededFuture(Map.of());
+        }
+
+        return getUserTasks(host, port, String.join(",", userTaskIds))
+                .compose(response -> {
+                    JsonArray jsonUserTasks = response.getJson().getJsonArray("userTasks");
+                    Map<String, AsyncResult<CruiseControlResponse>> statuses = new HashMap<>(userTaskIds.size());
+
+                    for (int i = 0; i < jsonUserTasks.size(); i++) {
+                        JsonObject jsonUserTask = jsonUserTasks.getJsonObject(i);
 
+                        // When a single task was requested, the task in the response belongs to it
+                        String userTaskId = userTaskIds.size() == 1 ? userTaskIds.iterator().next() : jsonUserTask.getString(USER_TASK_ID_KEY);
+
+                        if (userTaskId != null && userTaskIds.contains(userTaskId) && !statuses.containsKey(userTaskId)) {
+                            // An error of one task fails only the status of this task and not of the other tasks
+                            if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+                                statuses.put(userTaskId, Future.failedFuture(new CruiseControlRestException(
+                                        "Error for request: " + host + ":" + port + CruiseControlEndpoints.USER_TASKS + ". Server returned: " +
+                                                jsonUserTask.getString(CC_REST_API_ERROR_KEY))));
+                            } else {
+                                statuses.put(userTaskId, Future.succeededFuture(new CruiseControlResponse(userTaskId, userTaskStatusJson(jsonUserTask))));
+                            }
+                        }
+                    }
+
+                    return Future.succeededFuture(statuses);
+                });
+    }
+
+    /**
+     * Extracts the status of a single user task from the user_tasks endpoint response.
+     *
+     * @param jsonUserTask  The JSON object describing the user task
+     *
+     * @return  JSON object with the task status and, when available, the summary and broker load of the original response
+     */
+    private static JsonObject userTaskStatusJson(JsonObject jsonUserTask) {
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                JsonObject originalResponse = CruiseControlResponseParser.parse(jsonUserTask.getString(
+                        CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()), ORIGINAL_RESPONSE_FIELDS);
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+
+        return statusJson;
+    }
+
+    /**
+     * Gets the raw response from the user_tasks endpoint.
+     *
+     * @param host          The address of the Cruise Control server.
+     * @param port          The port the Cruise Control Server is listening on.
+     * @param userTaskIds   Comma separated list of user task IDs or null to get all user tasks
+     *
+     * @return  Future with the response containing the user task ID header and the response JSON
+     */
+    @SuppressWarnings("deprecation")
+    private Future<CruiseControlResponse> getUserTasks(String host, int port, String userTaskIds) {
         PathBuilder pathBuilder = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
                         .withParameter(CruiseControlParameters.JSON, "true")
                         .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true");
 
-        if (userTaskId != null) {
-            pathBuilder.withParameter(CruiseControlParameters.USER_TASK_IDS, userTaskId);
+        if (userTaskIds != null) {
+            pathBuilder.withParameter(CruiseControlParameters.USER_TASK_IDS, userTaskIds);
         }
 
         String path = pathBuilder.build();
@@ -324,49 +440,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                         if (response.succeeded()) {
                             if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
                                 String userTaskID = response.result().getHeader(CC_REST_API_USER_ID_HEADER);
-                                response.result().bodyHandler(buffer -> {
-                                    JsonObject json = buffer.toJsonObject();
-                                    JsonObject jsonUserTask = json.getJsonArray("userTasks").getJsonObject(0);
-                                    // This should not be an error with a 200 status but we play it safe
-                                    if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
-                                        result.fail(new CruiseControlRestException(
-                                                "Error for request: " + host + ":" + port + path + ". Server returned: " +
-                                                        json.getString(CC_REST_API_ERROR_KEY)));
-                                    }
-                                    JsonObject statusJson = new JsonObject();
-                                    String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                    statusJson.put(STATUS_KEY, taskStatusStr);
-                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                    switch (taskStatus) {
-                                        case ACTIVE:
-                                            // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                            break;
-                                        case IN_EXECUTION:
-                                            // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                            // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                        case COMPLETED:
-                                            // Completed tasks will have the original rebalance proposal summary in their original response
-                                            JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                    CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                            // Extract the load before/after information for the brokers
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                            break;
-                                        case COMPLETED_WITH_ERROR:
-                                            // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            break;
-                                        default:
-                                            throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                                    }
-                                    result.complete(new CruiseControlResponse(userTaskID, statusJson));
-                                });
+                                response.result().bodyHandler(buffer -> result.complete(new CruiseControlResponse(userTaskID, buffer.toJsonObject())));
                             } else if (response.result().statusCode() == 500) {
                                 response.result().bodyHandler(buffer -> {
                                     JsonObject json = buffer.toJsonObject();
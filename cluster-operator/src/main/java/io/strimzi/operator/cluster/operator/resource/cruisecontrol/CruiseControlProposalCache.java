@@ -0,0 +1,119 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.json.Json;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the optimization proposals (dry-run rebalance responses) returned by Cruise Control. Computing a proposal is
+ * expensive on the Cruise Control side for large clusters. The cache allows the operator to serve repeated proposal
+ * requests with the same options from the last proposal as long as it is still valid.
+ *
+ * A cached proposal is valid until its validity window expires or until the cluster model changes because a rebalance
+ * was executed by the same Cruise Control instance. The operator invalidates the proposals of the Cruise Control
+ * instance in such case using the {@link #invalidate(String)} method.
+ *
+ * The proposals are cached by the Cruise Control address (which identifies the Kafka cluster) and by the JSON
+ * serialization of the options. The options (such as the KafkaRebalance spec) are mutable and serializing them makes
+ * sure that later changes to the options objects do not affect the cached proposals.
+ */
+public class CruiseControlProposalCache {
+    private final long validityMs;
+    private final LongSupplier clock;
+    private final Map<ProposalKey, CachedProposal> proposals = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param validityMs    How long the cached proposal can be used (in milliseconds)
+     */
+    public CruiseControlProposalCache(long validityMs) {
+        this(validityMs, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param validityMs    How long the cached proposal can be used (in milliseconds)
+     * @param clock         Supplier of the current time in milliseconds
+     */
+    /* test */ CruiseControlProposalCache(long validityMs, LongSupplier clock) {
+        this.validityMs = validityMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets a cached proposal
+     *
+     * @param host      The address of the Cruise Control server
+     * @param options   Options used to request the proposal. They need to be serializable to JSON.
+     *
+     * @return  A copy of the cached proposal or null if no valid proposal is cached
+     */
+    public synchronized CruiseControlRebalanceResponse get(String host, Object options) {
+        ProposalKey key = ProposalKey.of(host, options);
+        CachedProposal proposal = proposals.get(key);
+
+        if (proposal == null) {
+            return null;
+        } else if (clock.getAsLong() - proposal.createdAt() >= validityMs) {
+            proposals.remove(key);
+            return null;
+        } else {
+            // The proposal JSON is modified when processing the proposal => we pass a copy to the caller
+            return new CruiseControlRebalanceResponse(proposal.response().getUserTaskId(), proposal.response().getJson().copy());
+        }
+    }
+
+    /**
+     * Caches a proposal. Only complete proposals are cached. Expired proposals (for example of deleted KafkaRebalance
+     * resources or of changed options) are removed from the cache when a new proposal is cached.
+     *
+     * @param host      The address of the Cruise Control server
+     * @param options   Options used to request the proposal. They need to be serializable to JSON.
+     * @param response  The response from Cruise Control with the proposal
+     */
+    public synchronized void put(String host, Object options, CruiseControlRebalanceResponse response) {
+        if (validityMs > 0
+                && !response.isNotEnoughDataForProposal()
+                && !response.isProposalStillCalculating()
+                && response.getJson() != null) {
+            long now = clock.getAsLong();
+            proposals.values().removeIf(proposal -> now - proposal.createdAt() >= validityMs);
+
+            proposals.put(ProposalKey.of(host, options),
+                    new CachedProposal(new CruiseControlRebalanceResponse(response.getUserTaskId(), response.getJson().copy()), now));
+        }
+    }
+
+    /**
+     * Removes all proposals of given Cruise Control instance. This should be called when the cluster model changes
+     * (for example when a rebalance is executed).
+     *
+     * @param host  The address of the Cruise Control server
+     */
+    public synchronized void invalidate(String host) {
+        proposals.keySet().removeIf(key -> key.host().equals(host));
+    }
+
+    /**
+     * @return  Number of cached proposals
+     */
+    /* test */ synchronized int size() {
+        return proposals.size();
+    }
+
+    private record ProposalKey(String host, String options) {
+        private static ProposalKey of(String host, Object options) {
+            return new ProposalKey(host, Json.encode(options));
+        }
+    }
+
+    private record CachedProposal(CruiseControlRebalanceResponse response, long createdAt) { }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Parses the responses from Cruise Control while keeping only the top-level fields used by the operator. The verbose
+ * responses of large clusters contain fields such as the list of all proposed partition movements which can have many
+ * megabytes. These fields are skipped by the streaming parser without building their JSON tree.
+ */
+class CruiseControlResponseParser {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+
+    private CruiseControlResponseParser() { }
+
+    /**
+     * Parses the response body
+     *
+     * @param buffer    Buffer with the response body
+     * @param fields    Top-level fields which should be kept
+     *
+     * @return  JSON object with the requested fields which were present in the response
+     */
+    static JsonObject parse(Buffer buffer, Set<String> fields) {
+        try (JsonParser parser = FACTORY.createParser(buffer.getBytes())) {
+            return parse(parser, fields);
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode the Cruise Control response: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses a JSON string, such as the original response embedded in the user task
+     *
+     * @param json      String with the JSON object
+     * @param fields    Top-level fields which should be kept
+     *
+     * @return  JSON object with the requested fields which were present in the JSON string
+     */
+    static JsonObject parse(String json, Set<String> fields) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return parse(parser, fields);
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode the Cruise Control response: " + e.getMessage(), e);
+        }
+    }
+
+    private static JsonObject parse(JsonParser parser, Set<String> fields) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new DecodeException("The Cruise Control response is not a JSON object");
+        }
+
+        JsonObject json = new JsonObject();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+
+            if (fields.contains(field)) {
+                // The Vert.x JSON object wraps the Maps and Lists of the Jackson binding lazily
+                json.put(field, MAPPER.readValue(parser, Object.class));
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return json;
+    }
+}
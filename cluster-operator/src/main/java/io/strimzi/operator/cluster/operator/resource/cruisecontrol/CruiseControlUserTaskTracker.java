@@ -0,0 +1,235 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Tracks the Cruise Control user tasks of the KafkaRebalance resources. Instead of polling each task separately, the
+ * statuses of all tracked tasks of a Cruise Control instance are fetched with a single user_tasks request and the
+ * results are passed to the handlers of the individual tasks.
+ *
+ * The polling interval adapts to the progress of the tasks: it starts at the minimal interval and doubles up to the
+ * maximal interval while none of the tracked tasks changes its status. It drops back to the minimal interval when any
+ * task changes its status or when a new task starts to be tracked.
+ */
+public class CruiseControlUserTaskTracker {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlUserTaskTracker.class.getName());
+
+    private final Vertx vertx;
+    private final long minPollingIntervalMs;
+    private final long maxPollingIntervalMs;
+    private final Map<String, TrackedInstance> instances = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx                 Vert.x instance
+     * @param minPollingIntervalMs  Minimal interval between two polls of the same Cruise Control instance
+     * @param maxPollingIntervalMs  Maximal interval between two polls of the same Cruise Control instance
+     */
+    public CruiseControlUserTaskTracker(Vertx vertx, long minPollingIntervalMs, long maxPollingIntervalMs) {
+        this.vertx = vertx;
+        this.minPollingIntervalMs = minPollingIntervalMs;
+        this.maxPollingIntervalMs = Math.max(minPollingIntervalMs, maxPollingIntervalMs);
+    }
+
+    /**
+     * Starts tracking a user task. The handler is called with the task status after every poll of the Cruise Control
+     * instance until the owner stops tracking the task. The same task can be tracked by multiple owners at the same
+     * time. All their handlers are called with the result of the same poll.
+     *
+     * @param host          The address of the Cruise Control server
+     * @param port          The port the Cruise Control server is listening on
+     * @param apiClient     Cruise Control API client used for the polling
+     * @param userTaskId    ID of the user task which should be tracked
+     * @param owner         Object identifying the caller which tracks the task. It is used to untrack the task.
+     * @param handler       Handler called with the task status after every poll
+     */
+    public synchronized void track(String host, int port, CruiseControlApi apiClient, String userTaskId, Object owner, Handler<AsyncResult<CruiseControlResponse>> handler) {
+        TrackedInstance instance = instances.computeIfAbsent(host, h -> new TrackedInstance(host, port));
+        instance.apiClient = apiClient;
+
+        TrackedTask task = instance.tasks.computeIfAbsent(userTaskId, id -> new TrackedTask());
+        if (task.handlers.putIfAbsent(owner, handler) != null) {
+            throw new IllegalStateException("Cruise Control user task " + userTaskId + " on " + host + " is already tracked by the same owner");
+        }
+
+        LOGGER.debugOp("Tracking Cruise Control user task {} on {} ({} tasks tracked)", userTaskId, host, instance.tasks.size());
+
+        // A new task should be checked soon => we reset the polling interval
+        instance.pollingIntervalMs = minPollingIntervalMs;
+        if (!instance.polling) {
+            if (instance.timerId != -1) {
+                vertx.cancelTimer(instance.timerId);
+            }
+
+            schedulePoll(instance);
+        }
+    }
+
+    /**
+     * Stops tracking a user task by given owner. The handler of this owner will not be called anymore. The task is
+     * still polled if it is tracked by other owners.
+     *
+     * @param host          The address of the Cruise Control server
+     * @param userTaskId    ID of the user task which should not be tracked anymore
+     * @param owner         Object identifying the caller which tracked the task
+     */
+    public synchronized void untrack(String host, String userTaskId, Object owner) {
+        TrackedInstance instance = instances.get(host);
+
+        if (instance != null) {
+            TrackedTask task = instance.tasks.get(userTaskId);
+
+            if (task != null) {
+                task.handlers.remove(owner);
+
+                if (task.handlers.isEmpty()) {
+                    instance.tasks.remove(userTaskId);
+                }
+            }
+
+            LOGGER.debugOp("Stopped tracking Cruise Control user task {} on {} ({} tasks tracked)", userTaskId, host, instance.tasks.size());
+
+            if (instance.tasks.isEmpty() && !instance.polling) {
+                if (instance.timerId != -1) {
+                    vertx.cancelTimer(instance.timerId);
+                }
+
+                instances.remove(host);
+            }
+        }
+    }
+
+    /**
+     * @param host  The address of the Cruise Control server
+     *
+     * @return  Number of tasks tracked for given Cruise Control server
+     */
+    public synchronized int trackedTasks(String host) {
+        TrackedInstance instance = instances.get(host);
+        return instance != null ? instance.tasks.size() : 0;
+    }
+
+    private void schedulePoll(TrackedInstance instance) {
+        instance.timerId = vertx.setTimer(instance.pollingIntervalMs, t -> poll(instance));
+    }
+
+    private void poll(TrackedInstance instance) {
+        Set<String> userTaskIds;
+        CruiseControlApi apiClient;
+
+        synchronized (this) {
+            instance.timerId = -1;
+
+            if (instance.tasks.isEmpty()) {
+                instances.remove(instance.host);
+                return;
+            }
+
+            instance.polling = true;
+            userTaskIds = new HashSet<>(instance.tasks.keySet());
+            apiClient = instance.apiClient;
+        }
+
+        LOGGER.debugOp("Polling Cruise Control user tasks {} on {}", userTaskIds, instance.host);
+        apiClient.getUserTaskStatuses(instance.host, instance.port, userTaskIds)
+                .onComplete(result -> {
+                    List<Map.Entry<Handler<AsyncResult<CruiseControlResponse>>, AsyncResult<CruiseControlResponse>>> results = new ArrayList<>(userTaskIds.size());
+                    boolean changed = false;
+
+                    synchronized (this) {
+                        for (String userTaskId : userTaskIds) {
+                            TrackedTask task = instance.tasks.get(userTaskId);
+
+                            if (task == null) {
+                                // The task was untracked while we were waiting for the response
+                                continue;
+                            }
+
+                            AsyncResult<CruiseControlResponse> taskResult;
+
+                            if (result.failed()) {
+                                taskResult = Future.failedFuture(result.cause());
+                            } else if (result.result().get(userTaskId) == null) {
+                                taskResult = Future.failedFuture(new CruiseControlRestException("User task " + userTaskId + " was not found"));
+                            } else if (result.result().get(userTaskId).failed()) {
+                                taskResult = result.result().get(userTaskId);
+                            } else {
+                                CruiseControlResponse response = result.result().get(userTaskId).result();
+                                String status = response.getJson().getString("Status");
+                                changed |= task.lastStatus != null && !Objects.equals(task.lastStatus, status);
+                                task.lastStatus = status;
+                                taskResult = Future.succeededFuture(response);
+                            }
+
+                            // All owners tracking the task get the result of the same poll
+                            for (Handler<AsyncResult<CruiseControlResponse>> handler : task.handlers.values()) {
+                                results.add(Map.entry(handler, taskResult));
+                            }
+                        }
+                    }
+
+                    for (Map.Entry<Handler<AsyncResult<CruiseControlResponse>>, AsyncResult<CruiseControlResponse>> entry : results) {
+                        try {
+                            entry.getKey().handle(entry.getValue());
+                        } catch (Exception e) {
+                            LOGGER.warnOp("Failed to handle the status of a Cruise Control user task on {}", instance.host, e);
+                        }
+                    }
+
+                    synchronized (this) {
+                        instance.polling = false;
+
+                        if (instance.tasks.isEmpty()) {
+                            instances.remove(instance.host);
+                        } else {
+                            instance.pollingIntervalMs = changed ? minPollingIntervalMs : Math.min(instance.pollingIntervalMs * 2, maxPollingIntervalMs);
+                            schedulePoll(instance);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Tasks tracked for a single Cruise Control instance
+     */
+    private static class TrackedInstance {
+        private final String host;
+        private final int port;
+        private final Map<String, TrackedTask> tasks = new HashMap<>();
+        private CruiseControlApi apiClient;
+        private long pollingIntervalMs;
+        private long timerId = -1;
+        private boolean polling = false;
+
+        private TrackedInstance(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+    }
+
+    /**
+     * Single tracked task with the handlers of all its owners
+     */
+    private static class TrackedTask {
+        private final Map<Object, Handler<AsyncResult<CruiseControlResponse>>> handlers = new LinkedHashMap<>();
+        private String lastStatus;
+    }
+}
@@ -82,6 +82,7 @@ public class ClusterOperatorConfigTest {
                 .with(ClusterOperatorConfig.ZOOKEEPER_ADMIN_SESSION_TIMEOUT_MS.key(), "20000")
                 .with(ClusterOperatorConfig.CONNECT_BUILD_TIMEOUT_MS.key(), "120000")
                 .with(ClusterOperatorConfig.DNS_CACHE_TTL.key(), "10")
+                .with(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key(), "25")
                 .build();
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
@@ -90,6 +91,7 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getZkAdminSessionTimeoutMs(), is(20_000));
         assertThat(config.getConnectBuildTimeoutMs(), is(120_000L));
         assertThat(config.getDnsCacheTtlSec(), is(10));
+        assertThat(config.getMaxConcurrentReconciliations(), is(25));
     }
 
     @Test
@@ -120,6 +122,7 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
         assertThat(config.getDnsCacheTtlSec(), is(Integer.parseInt(ClusterOperatorConfig.DNS_CACHE_TTL.defaultValue())));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.POD_SECURITY_PROVIDER_CLASS.defaultValue()));
+        assertThat(config.getMaxConcurrentReconciliations(), is(Integer.parseInt(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.defaultValue())));
     }
 
     private Map<String, String> envWithImages() {
@@ -380,4 +383,29 @@ public class ClusterOperatorConfigTest {
         config.getLeaderElectionConfig();
         assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getLeaderElectionConfig(), is(notNullValue()));
     }
+
+    @Test
+    public void testShardingConfig() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.NAMESPACE.key(), "namespace1,namespace2");
+        envVars.put(ClusterOperatorConfig.SHARDING_ENABLED.key(), "true");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), "my-pod");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getShardingConfig(), is(notNullValue()));
+        assertThat(config.getShardingConfig().getIdentity(), is("my-pod"));
+        assertThat(config.getLeaderElectionConfig(), is(nullValue()));
+
+        // Sharding cannot be combined with leader election
+        Map<String, String> withLeaderElection = new HashMap<>(envVars);
+        withLeaderElection.put(ClusterOperatorConfig.LEADER_ELECTION_ENABLED.key(), "true");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(withLeaderElection, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        // Sharding needs a list of namespaces
+        Map<String, String> allNamespaces = new HashMap<>(envVars);
+        allNamespaces.put(ClusterOperatorConfig.NAMESPACE.key(), "*");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(allNamespaces, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
 }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
@@ -138,11 +139,12 @@ public class ClusterOperatorTest {
             when(mockCmInformer.stopped()).thenReturn(CompletableFuture.completedFuture(null));
 
             MixedOperation mockNamespacedCms = mock(MixedOperation.class);
-            when(mockNamespacedCms.watch(any())).thenAnswer(invo -> {
+            // The watches are created with the list options to resume them from the last seen resource version
+            when(mockNamespacedCms.watch(any(ListOptions.class), any())).thenAnswer(invo -> {
                 numWatchers.incrementAndGet();
                 Watch mockWatch = mock(Watch.class);
                 doAnswer(invo2 -> {
-                    ((Watcher) invo.getArgument(0)).onClose(null);
+                    ((Watcher) invo.getArgument(1)).onClose(null);
                     return null;
                 }).when(mockWatch).close();
                 return mockWatch;
@@ -233,11 +235,11 @@ public class ClusterOperatorTest {
 
         AnyNamespaceOperation mockFilteredCms = mock(AnyNamespaceOperation.class);
         when(mockFilteredCms.withLabels(any())).thenReturn(mockFilteredCms);
-        when(mockFilteredCms.watch(any())).thenAnswer(invo -> {
+        when(mockFilteredCms.watch(any(ListOptions.class), any())).thenAnswer(invo -> {
             numWatchers.incrementAndGet();
             Watch mockWatch = mock(Watch.class);
             doAnswer(invo2 -> {
-                ((Watcher) invo.getArgument(0)).onClose(null);
+                ((Watcher) invo.getArgument(1)).onClose(null);
                 return null;
             }).when(mockWatch).close();
             return mockWatch;
@@ -70,6 +70,9 @@ public class FeatureGatesTest {
         assertThat(new FeatureGates("  +UseKRaft    ,    +KafkaNodePools").kafkaNodePoolsEnabled(), is(true));
         assertThat(new FeatureGates("+StableConnectIdentities,-UseKRaft").useKRaftEnabled(), is(false));
         assertThat(new FeatureGates("+StableConnectIdentities,-UseKRaft").stableConnectIdentitiesEnabled(), is(true));
+        assertThat(new FeatureGates("+ServerSideApply").serverSideApplyEnabled(), is(true));
+        assertThat(new FeatureGates("-ServerSideApply,+KafkaNodePools").serverSideApplyEnabled(), is(false));
+        assertThat(new FeatureGates("+CompactPodSets,-ServerSideApply").compactPodSetsEnabled(), is(true));
     }
 
     @ParallelTest
@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class ConsistentHashRingTest {
+    private static final int NAMESPACES = 1000;
+
+    @Test
+    public void testEmptyRing() {
+        assertThat(new ConsistentHashRing(List.of()).owner("my-namespace"), is(nullValue()));
+    }
+
+    @Test
+    public void testOwnershipIsStable() {
+        ConsistentHashRing ring1 = new ConsistentHashRing(List.of("co-1", "co-2", "co-3"));
+        ConsistentHashRing ring2 = new ConsistentHashRing(List.of("co-3", "co-1", "co-2"));
+
+        for (int i = 0; i < NAMESPACES; i++) {
+            assertThat(ring1.owner("namespace-" + i), is(ring2.owner("namespace-" + i)));
+        }
+    }
+
+    @Test
+    public void testNamespacesAreSpreadBetweenMembers() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("co-1", "co-2", "co-3"));
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < NAMESPACES; i++) {
+            counts.merge(ring.owner("namespace-" + i), 1, Integer::sum);
+        }
+
+        assertThat(counts.size(), is(3));
+        // Each member should get a reasonable share of the namespaces
+        counts.values().forEach(count -> assertThat(count, greaterThan(NAMESPACES / 6)));
+    }
+
+    @Test
+    public void testOnlyNamespacesOfTheLeavingMemberMove() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("co-1", "co-2", "co-3"));
+        ConsistentHashRing after = new ConsistentHashRing(List.of("co-1", "co-3"));
+
+        for (int i = 0; i < NAMESPACES; i++) {
+            String namespace = "namespace-" + i;
+
+            if (!"co-2".equals(before.owner(namespace))) {
+                assertThat(after.owner(namespace), is(before.owner(namespace)));
+            }
+        }
+    }
+}
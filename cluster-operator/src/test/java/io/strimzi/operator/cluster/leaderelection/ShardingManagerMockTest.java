@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@EnableKubernetesMockClient(crud = true)
+public class ShardingManagerMockTest {
+    private final static String NAMESPACE = "my-sharding-namespace";
+    private final static String GROUP_NAME = "my-group";
+    private final static Set<String> NAMESPACES = IntStream.range(0, 20).mapToObj(i -> "namespace-" + i).collect(Collectors.toSet());
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    // Namespace => member operating it
+    private final Map<String, String> owners = new ConcurrentHashMap<>();
+    private final List<String> violations = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testNamespacesAreDividedBetweenMembers() throws InterruptedException {
+        ShardingManager sm1 = createShardingManager("co-1");
+        ShardingManager sm2 = createShardingManager("co-2");
+
+        // Start the first member => it should operate all namespaces
+        sm1.start();
+        waitFor(() -> owners.size() == NAMESPACES.size() && owners.values().stream().allMatch("co-1"::equals));
+
+        // Start the second member => the namespaces should be divided
+        sm2.start();
+        waitFor(() -> owners.size() == NAMESPACES.size() && owners.containsValue("co-1") && owners.containsValue("co-2"));
+
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("co-1", "co-2"));
+        for (String namespace : NAMESPACES) {
+            assertThat(owners.get(namespace), is(ring.owner(namespace)));
+        }
+
+        // Stop the first member => the second member should take over all namespaces
+        sm1.stop(10_000L);
+        assertThat(getLease("co-1") == null, is(true));
+        waitFor(() -> owners.size() == NAMESPACES.size() && owners.values().stream().allMatch("co-2"::equals));
+
+        sm2.stop(10_000L);
+        assertThat(owners.isEmpty(), is(true));
+
+        // No namespace should have been operated by two members at the same time
+        assertThat(violations, is(List.of()));
+    }
+
+    @Test
+    public void testParseView() {
+        assertThat(ShardingManager.parseView(null), is(List.of()));
+        assertThat(ShardingManager.parseView(""), is(List.of()));
+        assertThat(ShardingManager.parseView("co-2,co-1"), is(List.of("co-1", "co-2")));
+    }
+
+    @Test
+    public void testNamespacesOfExpiredMemberAreTakenOverAfterReleaseTimeout() throws InterruptedException {
+        // Lease of a member which expired without releasing its namespaces
+        ZonedDateTime renewTime = ZonedDateTime.now(ZoneOffset.UTC).minus(Duration.ofMillis(2_500L));
+        client.leases().inNamespace(NAMESPACE).resource(new LeaseBuilder()
+                    .withNewMetadata()
+                        .withName(GROUP_NAME + "-co-0")
+                        .withNamespace(NAMESPACE)
+                        .withLabels(Map.of(ShardingManager.GROUP_LABEL, GROUP_NAME))
+                        .withAnnotations(Map.of(ShardingManager.VIEW_ANNOTATION, "co-0"))
+                    .endMetadata()
+                    .withNewSpec()
+                        .withHolderIdentity("co-0")
+                        .withLeaseDurationSeconds(2)
+                        .withAcquireTime(renewTime)
+                        .withRenewTime(renewTime)
+                    .endSpec()
+                    .build())
+                .create();
+
+        ShardingManager sm1 = createShardingManager("co-1", Duration.ofMillis(3_000L));
+        sm1.start();
+
+        // The expired member might still be finishing its reconciliations => its namespaces are not taken over yet
+        Thread.sleep(1_000L);
+        assertThat(owners.isEmpty(), is(true));
+
+        waitFor(() -> owners.size() == NAMESPACES.size() && owners.values().stream().allMatch("co-1"::equals));
+
+        sm1.stop(10_000L);
+        assertThat(violations, is(List.of()));
+    }
+
+    private ShardingManager createShardingManager(String identity) {
+        return createShardingManager(identity, Duration.ZERO);
+    }
+
+    private ShardingManager createShardingManager(String identity, Duration releaseTimeout) {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), GROUP_NAME);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), NAMESPACE);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), identity);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_DURATION_MS.key(), "2000");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RENEW_DEADLINE_MS.key(), "1500");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS.key(), "100");
+
+        return new ShardingManager(client, LeaderElectionManagerConfig.fromMap(envVars), releaseTimeout, NAMESPACES,
+                namespace -> {
+                    String previous = owners.putIfAbsent(namespace, identity);
+
+                    if (previous != null) {
+                        violations.add(namespace + " started by " + identity + " while operated by " + previous);
+                    }
+
+                    return Future.succeededFuture();
+                },
+                namespace -> {
+                    owners.remove(namespace, identity);
+                    return Future.succeededFuture();
+                });
+    }
+
+    private Lease getLease(String identity) {
+        return client.leases().inNamespace(NAMESPACE).withName(GROUP_NAME + "-" + identity).get();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+
+            Thread.sleep(100);
+        }
+
+        fail("Timed out while waiting for the condition");
+    }
+}
@@ -107,7 +107,7 @@ public class KafkaClusterPodSetTest {
 
     @ParallelTest
     public void testPodSet()   {
-        StrimziPodSet ps = KC.generatePodSets(true, null, null, brokerId -> Map.of("test-anno", KC.getPodName(brokerId))).get(0);
+        StrimziPodSet ps = KC.generatePodSets(true, null, null, brokerId -> Map.of("test-anno", KC.getPodName(brokerId)), false).get(0);
 
         assertThat(ps.getMetadata().getName(), is(KafkaResources.kafkaStatefulSetName(CLUSTER)));
         assertThat(ps.getMetadata().getLabels().entrySet().containsAll(KC.labels.withAdditionalLabels(null).toMap().entrySet()), is(true));
@@ -362,7 +362,7 @@ public class KafkaClusterPodSetTest {
         // Test the resources
         List<KafkaPool> pools = NodePoolUtils.createKafkaPools(Reconciliation.DUMMY_RECONCILIATION, kafka, null, Map.of(), Map.of(), false, SHARED_ENV_PROVIDER);
         KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, false, null, SHARED_ENV_PROVIDER);
-        StrimziPodSet ps = kc.generatePodSets(true, null, null, brokerId -> Map.of("special", "annotation")).get(0);
+        StrimziPodSet ps = kc.generatePodSets(true, null, null, brokerId -> Map.of("special", "annotation"), false).get(0);
 
         assertThat(ps.getMetadata().getName(), is(KafkaResources.kafkaStatefulSetName(CLUSTER)));
         assertThat(ps.getMetadata().getLabels().entrySet().containsAll(spsLabels.entrySet()), is(true));
@@ -456,7 +456,7 @@ public class KafkaClusterPodSetTest {
 
         List<KafkaPool> pools = NodePoolUtils.createKafkaPools(Reconciliation.DUMMY_RECONCILIATION, kafka, null, Map.of(), Map.of(), false, SHARED_ENV_PROVIDER);
         KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, false, null, SHARED_ENV_PROVIDER);
-        StrimziPodSet ps = kc.generatePodSets(true, null, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = kc.generatePodSets(true, null, null, brokerId -> new HashMap<>(), false).get(0);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
@@ -476,7 +476,7 @@ public class KafkaClusterPodSetTest {
         secrets.add(secret1);
         secrets.add(secret2);
 
-        StrimziPodSet ps = KC.generatePodSets(true, null, secrets, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = KC.generatePodSets(true, null, secrets, brokerId -> new HashMap<>(), false).get(0);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
@@ -507,7 +507,7 @@ public class KafkaClusterPodSetTest {
 
         List<KafkaPool> pools = NodePoolUtils.createKafkaPools(Reconciliation.DUMMY_RECONCILIATION, kafka, null, Map.of(), Map.of(), false, SHARED_ENV_PROVIDER);
         KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, false, null, SHARED_ENV_PROVIDER);
-        StrimziPodSet ps = kc.generatePodSets(true, null, List.of(secret1), brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = kc.generatePodSets(true, null, List.of(secret1), brokerId -> new HashMap<>(), false).get(0);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
@@ -520,7 +520,7 @@ public class KafkaClusterPodSetTest {
 
     @ParallelTest
     public void testDefaultImagePullSecrets() {
-        StrimziPodSet ps = KC.generatePodSets(true, null, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = KC.generatePodSets(true, null, null, brokerId -> new HashMap<>(), false).get(0);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
@@ -532,7 +532,7 @@ public class KafkaClusterPodSetTest {
     @ParallelTest
     public void testImagePullPolicy() {
         // Test ALWAYS policy
-        StrimziPodSet ps = KC.generatePodSets(true, ImagePullPolicy.ALWAYS, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = KC.generatePodSets(true, ImagePullPolicy.ALWAYS, null, brokerId -> new HashMap<>(), false).get(0);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
@@ -541,7 +541,7 @@ public class KafkaClusterPodSetTest {
         }
 
         // Test IFNOTPRESENT policy
-        ps = KC.generatePodSets(true, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> new HashMap<>()).get(0);
+        ps = KC.generatePodSets(true, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> new HashMap<>(), false).get(0);
 
         // We need to loop through the pods to make sure they have the right values
         pods = PodSetUtils.podSetToPods(ps);
@@ -565,7 +565,7 @@ public class KafkaClusterPodSetTest {
         KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, false, null, SHARED_ENV_PROVIDER);
 
         // Test generated SPS
-        StrimziPodSet ps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>(), false).get(0);
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
 
         for (Pod pod : pods) {
@@ -587,7 +587,7 @@ public class KafkaClusterPodSetTest {
         KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, false, null, SHARED_ENV_PROVIDER);
 
         // Test generated SPS
-        StrimziPodSet ps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>(), false).get(0);
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
 
         for (Pod pod : pods) {
@@ -609,7 +609,7 @@ public class KafkaClusterPodSetTest {
         KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, false, null, SHARED_ENV_PROVIDER);
 
         // Test generated SPS
-        StrimziPodSet ps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>(), false).get(0);
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
 
         for (Pod pod : pods) {
@@ -629,7 +629,7 @@ public class KafkaClusterPodSetTest {
         kc.securityProvider.configure(new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION));
 
         // Test generated SPS
-        StrimziPodSet ps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet ps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>(), false).get(0);
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
 
         for (Pod pod : pods) {
@@ -654,7 +654,7 @@ public class KafkaClusterPodSetTest {
         KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, false, null, SHARED_ENV_PROVIDER);
 
         // Test generated SPS
-        StrimziPodSet sps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet sps = kc.generatePodSets(false, null, null, brokerId -> new HashMap<>(), false).get(0);
         assertThat(sps.getMetadata().getLabels().get("foo"), is("bar"));
 
         List<Pod> pods = PodSetUtils.podSetToPods(sps);
@@ -665,7 +665,7 @@ public class KafkaClusterPodSetTest {
 
     @ParallelTest
     public void testDefaultSecurityContext() {
-        StrimziPodSet sps = KC.generatePodSets(false, null, null, brokerId -> new HashMap<>()).get(0);
+        StrimziPodSet sps = KC.generatePodSets(false, null, null, brokerId -> new HashMap<>(), false).get(0);
 
         List<Pod> pods = PodSetUtils.podSetToPods(sps);
         for (Pod pod : pods) {
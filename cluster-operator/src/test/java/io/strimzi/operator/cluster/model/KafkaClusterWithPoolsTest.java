@@ -324,7 +324,7 @@ public class KafkaClusterWithPoolsTest {
                 null, SHARED_ENV_PROVIDER
         );
 
-        List<StrimziPodSet> podSets = kc.generatePodSets(false, null, null, i -> Map.of());
+        List<StrimziPodSet> podSets = kc.generatePodSets(false, null, null, i -> Map.of(), false);
         assertThat(podSets.size(), is(2));
         assertThat(podSets.get(0).getMetadata().getName(), is("my-cluster-pool-a"));
         assertThat(podSets.get(0).getSpec().getPods().size(), is(3));
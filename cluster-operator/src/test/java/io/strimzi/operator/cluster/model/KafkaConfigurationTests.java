@@ -105,4 +105,10 @@ public class KafkaConfigurationTests {
 
         assertThat(exc.getMessage(), containsString("Configuration model /kafka-2.6.0-config-model.json was not found"));
     }
+
+    @ParallelTest
+    public void configModelIsReadOnce() {
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion) == KafkaConfiguration.readConfigModel(kafkaVersion), is(true));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> KafkaConfiguration.readConfigModel(kafkaVersion).clear());
+    }
 }
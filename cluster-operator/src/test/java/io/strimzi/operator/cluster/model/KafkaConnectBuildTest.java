@@ -501,6 +501,8 @@ public class KafkaConnectBuildTest {
         expectedArgs.add("--reproducible");
         expectedArgs.add("--single-snapshot");
         expectedArgs.add("--log-format=json");
+        expectedArgs.add("--cache=true");
+        expectedArgs.add("--cache-repo=my-registry/my-image-cache");
 
         KafkaConnect kc = new KafkaConnectBuilder()
                 .withNewMetadata()
@@ -513,7 +515,7 @@ public class KafkaConnectBuildTest {
                         .withNewDockerOutput()
                             .withImage("my-image:latest")
                             .withPushSecret("my-docker-credentials")
-                            .withAdditionalKanikoOptions("--reproducible", "--single-snapshot", "--log-format=json")
+                            .withAdditionalKanikoOptions("--reproducible", "--single-snapshot", "--log-format=json", "--cache=true", "--cache-repo=my-registry/my-image-cache")
                         .endDockerOutput()
                         .withPlugins(new PluginBuilder().withName("my-connector").withArtifacts(jarArtifactWithChecksum).build(),
                                 new PluginBuilder().withName("my-connector2").withArtifacts(jarArtifactNoChecksum).build())
@@ -7,12 +7,17 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ParallelSuite
@@ -40,4 +45,71 @@ public class PodSetUtilsTest {
 
         assertThat(PodSetUtils.mapToPod(PodSetUtils.podToMap(pod)), is(pod));
     }
+
+    private static Pod pod(String name, String image) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("my-namespace")
+                    .withLabels(Map.of("some-label", "some-label-value", "pod-label", name))
+                .endMetadata()
+                .withNewSpec()
+                    .withHostname(name)
+                    .withContainers(new ContainerBuilder()
+                            .withName("busybox")
+                            .withImage(image)
+                            .withCommand("sleep", "3600")
+                            .build())
+                    .withRestartPolicy("Always")
+                .endSpec()
+                .build();
+    }
+
+    private static StrimziPodSet podSet(List<Pod> pods, boolean compactEncoding) {
+        StrimziPodSet podSet = new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName("my-pod-set")
+                .endMetadata()
+                .withNewSpec()
+                .endSpec()
+                .build();
+
+        PodSetUtils.setPods(podSet.getSpec(), PodSetUtils.podsToMaps(pods), compactEncoding);
+
+        return podSet;
+    }
+
+    @ParallelTest
+    public void testCompactEncoding() {
+        List<Pod> pods = List.of(pod("pod-0", "busybox:latest"), pod("pod-1", "busybox:latest"), pod("pod-2", "busybox:1.36"));
+        StrimziPodSet podSet = podSet(pods, true);
+
+        assertThat(podSet.getSpec().getPodTemplate(), is(notNullValue()));
+        assertThat(podSet.getSpec().getPods().size(), is(3));
+        // The shared fields are only in the template and the name is always kept with the pod
+        assertThat(podSet.getSpec().getPods().get(0).containsKey("apiVersion"), is(false));
+        assertThat(PodSetUtils.mapToPod(podSet.getSpec().getPods().get(1)).getMetadata().getName(), is("pod-1"));
+        assertThat(PodSetUtils.podSetToPods(podSet), is(pods));
+        assertThat(PodSetUtils.podNames(podSet), is(List.of("pod-0", "pod-1", "pod-2")));
+
+        // Single pod
+        podSet = podSet(List.of(pods.get(0)), true);
+        assertThat(PodSetUtils.mapToPod(podSet.getSpec().getPods().get(0)).getMetadata().getName(), is("pod-0"));
+        assertThat(PodSetUtils.podSetToPods(podSet), is(List.of(pods.get(0))));
+
+        // Removing a pod from the compact PodSet keeps the other pods unchanged
+        podSet = podSet(pods, true);
+        podSet.getSpec().setPods(podSet.getSpec().getPods().subList(0, 2));
+        assertThat(PodSetUtils.podSetToPods(podSet), is(pods.subList(0, 2)));
+    }
+
+    @ParallelTest
+    public void testFullEncoding() {
+        List<Pod> pods = List.of(pod("pod-0", "busybox:latest"), pod("pod-1", "busybox:latest"));
+        StrimziPodSet podSet = podSet(pods, false);
+
+        assertThat(podSet.getSpec().getPodTemplate(), is(nullValue()));
+        assertThat(podSet.getSpec().getPods(), is(PodSetUtils.podsToMaps(pods)));
+        assertThat(PodSetUtils.podSetToPods(podSet), is(pods));
+    }
 }
@@ -205,6 +205,7 @@ public class WorkloadUtilsTest {
                 REPLICAS,
                 Map.of("extra", "annotations"),
                 LABELS.strimziSelectorLabels(),
+                false,
                 i -> {
                     podIds.add(i);
                     return new PodBuilder()
@@ -251,6 +252,7 @@ public class WorkloadUtilsTest {
                 REPLICAS,
                 Map.of("extra", "annotations"),
                 Labels.fromMap(Map.of("custom", "selector")),
+                false,
                 i -> {
                     podIds.add(i);
                     return new PodBuilder()
@@ -291,6 +293,7 @@ public class WorkloadUtilsTest {
                 NODES,
                 Map.of("extra", "annotations"),
                 LABELS.strimziSelectorLabels(),
+                false,
                 n -> {
                     podNames.add(n.podName());
                     return new PodBuilder()
@@ -337,6 +340,7 @@ public class WorkloadUtilsTest {
                 NODES,
                 Map.of("extra", "annotations"),
                 Labels.fromMap(Map.of("custom", "selector")),
+                false,
                 n -> {
                     podNames.add(n.podName());
                     return new PodBuilder()
@@ -90,7 +90,7 @@ public class ZookeeperClusterPodSetTest {
     @ParallelTest
     public void testPodSet()   {
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, KAFKA, VERSIONS, SHARED_ENV_PROVIDER);
-        StrimziPodSet ps = zc.generatePodSet(3, true, null, null, podNumber -> Map.of());
+        StrimziPodSet ps = zc.generatePodSet(3, true, null, null, podNumber -> Map.of(), false);
 
         assertThat(ps.getMetadata().getName(), is(KafkaResources.zookeeperStatefulSetName(CLUSTER)));
         assertThat(ps.getMetadata().getLabels().entrySet().containsAll(zc.labels.withAdditionalLabels(null).toMap().entrySet()), is(true));
@@ -279,7 +279,7 @@ public class ZookeeperClusterPodSetTest {
 
         // Test the resources
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS, SHARED_ENV_PROVIDER);
-        StrimziPodSet ps = zc.generatePodSet(3, true, null, null, podNum -> Map.of("special", "annotation"));
+        StrimziPodSet ps = zc.generatePodSet(3, true, null, null, podNum -> Map.of("special", "annotation"), false);
 
         assertThat(ps.getMetadata().getName(), is(KafkaResources.zookeeperStatefulSetName(CLUSTER)));
         assertThat(ps.getMetadata().getLabels().entrySet().containsAll(spsLabels.entrySet()), is(true));
@@ -373,7 +373,7 @@ public class ZookeeperClusterPodSetTest {
                 .build();
 
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS, SHARED_ENV_PROVIDER);
-        StrimziPodSet sps = zc.generatePodSet(3, true, null, null, podNum -> Map.of());
+        StrimziPodSet sps = zc.generatePodSet(3, true, null, null, podNum -> Map.of(), false);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(sps);
@@ -394,7 +394,7 @@ public class ZookeeperClusterPodSetTest {
         secrets.add(secret2);
 
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, KAFKA, VERSIONS, SHARED_ENV_PROVIDER);
-        StrimziPodSet ps = zc.generatePodSet(3, true, null, secrets, podNum -> Map.of());
+        StrimziPodSet ps = zc.generatePodSet(3, true, null, secrets, podNum -> Map.of(), false);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
@@ -424,7 +424,7 @@ public class ZookeeperClusterPodSetTest {
                 .build();
 
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS, SHARED_ENV_PROVIDER);
-        StrimziPodSet ps = zc.generatePodSet(3, true, null, List.of(secret1), podNum -> Map.of());
+        StrimziPodSet ps = zc.generatePodSet(3, true, null, List.of(secret1), podNum -> Map.of(), false);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
@@ -440,7 +440,7 @@ public class ZookeeperClusterPodSetTest {
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, KAFKA, VERSIONS, SHARED_ENV_PROVIDER);
 
         // Test ALWAYS policy
-        StrimziPodSet ps = zc.generatePodSet(3, true, ImagePullPolicy.ALWAYS, null, podNum -> Map.of());
+        StrimziPodSet ps = zc.generatePodSet(3, true, ImagePullPolicy.ALWAYS, null, podNum -> Map.of(), false);
 
         // We need to loop through the pods to make sure they have the right values
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
@@ -449,7 +449,7 @@ public class ZookeeperClusterPodSetTest {
         }
 
         // Test IFNOTPRESENT policy
-        ps = zc.generatePodSet(3, true, ImagePullPolicy.IFNOTPRESENT, null, podNum -> Map.of());
+        ps = zc.generatePodSet(3, true, ImagePullPolicy.IFNOTPRESENT, null, podNum -> Map.of(), false);
 
         // We need to loop through the pods to make sure they have the right values
         pods = PodSetUtils.podSetToPods(ps);
@@ -471,7 +471,7 @@ public class ZookeeperClusterPodSetTest {
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS, SHARED_ENV_PROVIDER);
 
         // Test generated SPS
-        StrimziPodSet ps = zc.generatePodSet(3, false, null, null, podNum -> Map.of());
+        StrimziPodSet ps = zc.generatePodSet(3, false, null, null, podNum -> Map.of(), false);
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
         for (Pod pod : pods) {
             assertThat(pod.getSpec().getVolumes().get(4).getEmptyDir().getSizeLimit(), is(new Quantity("1", "Gi")));
@@ -491,7 +491,7 @@ public class ZookeeperClusterPodSetTest {
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS, SHARED_ENV_PROVIDER);
 
         // Test generated SPS
-        StrimziPodSet ps = zc.generatePodSet(3, false, null, null, podNum -> Map.of());
+        StrimziPodSet ps = zc.generatePodSet(3, false, null, null, podNum -> Map.of(), false);
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
         for (Pod pod : pods) {
             assertThat(pod.getSpec().getVolumes().get(4).getEmptyDir().getSizeLimit(), is(Matchers.nullValue()));
@@ -510,7 +510,7 @@ public class ZookeeperClusterPodSetTest {
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS, SHARED_ENV_PROVIDER);
 
         // Test generated SPS
-        StrimziPodSet ps = zc.generatePodSet(3, false, null, null, podNum -> Map.of());
+        StrimziPodSet ps = zc.generatePodSet(3, false, null, null, podNum -> Map.of(), false);
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
         for (Pod pod : pods) {
             assertThat(pod.getSpec().getVolumes().stream().filter(v -> "data".equals(v.getName())).findFirst().orElseThrow().getEmptyDir(), is(notNullValue()));
@@ -528,7 +528,7 @@ public class ZookeeperClusterPodSetTest {
         zc.securityProvider.configure(new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION));
 
         // Test generated SPS
-        StrimziPodSet ps = zc.generatePodSet(3, false, null, null, podNum -> Map.of());
+        StrimziPodSet ps = zc.generatePodSet(3, false, null, null, podNum -> Map.of(), false);
         List<Pod> pods = PodSetUtils.podSetToPods(ps);
         for (Pod pod : pods) {
             assertThat(pod.getSpec().getSecurityContext().getFsGroup(), is(0L));
@@ -550,7 +550,7 @@ public class ZookeeperClusterPodSetTest {
         ZookeeperCluster zc = ZookeeperCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS, SHARED_ENV_PROVIDER);
 
         // Test generated SPS
-        StrimziPodSet sps = zc.generatePodSet(3, false, null, null, podNum -> Map.of());
+        StrimziPodSet sps = zc.generatePodSet(3, false, null, null, podNum -> Map.of(), false);
         assertThat(sps.getMetadata().getLabels().get("foo"), is("bar"));
 
         List<Pod> pods = PodSetUtils.podSetToPods(sps);
@@ -561,7 +561,7 @@ public class ZookeeperClusterPodSetTest {
 
     @ParallelTest
     public void testDefaultSecurityContext() {
-        StrimziPodSet sps = ZC.generatePodSet(3, false, null, null, podNum -> Map.of());
+        StrimziPodSet sps = ZC.generatePodSet(3, false, null, null, podNum -> Map.of(), false);
 
         List<Pod> pods = PodSetUtils.podSetToPods(sps);
         for (Pod pod : pods) {
@@ -8,15 +8,24 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.KafkaBridgeList;
+import io.strimzi.api.kafka.model.KafkaBridge;
+import io.strimzi.api.kafka.model.KafkaBridgeBuilder;
+import io.strimzi.api.kafka.model.KafkaBridgeSpec;
 import io.strimzi.api.kafka.model.Spec;
+import io.strimzi.api.kafka.model.status.KafkaBridgeStatus;
+import io.strimzi.api.kafka.model.status.KafkaBridgeStatusBuilder;
 import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedNamespacedResourceOperator;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -36,6 +45,13 @@ import java.util.concurrent.TimeUnit;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
 class AbstractOperatorTest {
@@ -213,6 +229,82 @@ class AbstractOperatorTest {
         handlersRegistered.complete();
     }
 
+    @Test
+    /*
+     * Verifies that the status is not read again and not updated when it did not change since the beginning of the
+     * reconciliation.
+     */
+    @SuppressWarnings("unchecked")
+    void testUnchangedStatusIsNotUpdated(VertxTestContext context) {
+        KafkaBridgeStatus status = new KafkaBridgeStatusBuilder().withUrl("http://my-bridge:8080").build();
+        KafkaBridge bridge = new KafkaBridgeBuilder(ResourceUtils.createEmptyKafkaBridge("my-namespace", "my-bridge"))
+                .withStatus(status)
+                .build();
+
+        CrdOperator<KubernetesClient, KafkaBridge, KafkaBridgeList> resourceOperator = mock(CrdOperator.class);
+        when(resourceOperator.getAsync(eq("my-namespace"), eq("my-bridge"))).thenReturn(Future.succeededFuture(bridge));
+
+        var target = new StatusOperator(vertx, resourceOperator, new KafkaBridgeStatusBuilder(status).build());
+
+        target.reconcile(new Reconciliation("test", "KafkaBridge", "my-namespace", "my-bridge"))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    verify(resourceOperator, times(1)).getAsync(eq("my-namespace"), eq("my-bridge"));
+                    verify(resourceOperator, never()).updateStatusAsync(any(), any());
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    /*
+     * Verifies that the status update which fails with a conflict is retried with the current resource
+     */
+    @SuppressWarnings("unchecked")
+    void testStatusUpdateIsRetriedOnConflict(VertxTestContext context) {
+        KafkaBridge bridge = ResourceUtils.createEmptyKafkaBridge("my-namespace", "my-bridge");
+        KafkaBridgeStatus desiredStatus = new KafkaBridgeStatusBuilder().withUrl("http://my-bridge:8080").build();
+
+        CrdOperator<KubernetesClient, KafkaBridge, KafkaBridgeList> resourceOperator = mock(CrdOperator.class);
+        when(resourceOperator.getAsync(eq("my-namespace"), eq("my-bridge"))).thenReturn(Future.succeededFuture(bridge));
+        when(resourceOperator.updateStatusAsync(any(), any()))
+                .thenReturn(Future.failedFuture(new KubernetesClientException("Conflict", 409, null)))
+                .thenAnswer(i -> Future.succeededFuture(i.getArgument(1)));
+
+        var target = new StatusOperator(vertx, resourceOperator, desiredStatus);
+
+        target.reconcile(new Reconciliation("test", "KafkaBridge", "my-namespace", "my-bridge"))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // The first read is done at the beginning of the reconciliation, the second one after the conflict
+                    verify(resourceOperator, times(2)).getAsync(eq("my-namespace"), eq("my-bridge"));
+                    verify(resourceOperator, times(2)).updateStatusAsync(any(), any());
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    void testReconciliationsInProgressAreTracked(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+
+        assertThat(target.hasReconciliationsInProgress("my-namespace"), is(false));
+
+        Promise<String> callable = Promise.promise();
+        @SuppressWarnings("unchecked")
+        Future<String> result = target.withLockTest(reconciliation, callable::future);
+
+        assertThat(target.hasReconciliationsInProgress("my-namespace"), is(true));
+        assertThat(target.hasReconciliationsInProgress("other-namespace"), is(false));
+
+        Checkpoint async = context.checkpoint();
+        result.onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(target.hasReconciliationsInProgress("my-namespace"), is(false));
+            async.flag();
+        })));
+
+        vertx.setTimer(10, t -> callable.complete("OK"));
+    }
+
     private static class DefaultOperator<
             T extends CustomResource<P, S>,
             P extends Spec,
@@ -248,6 +340,30 @@ class AbstractOperatorTest {
         }
     }
 
+    private static class StatusOperator extends AbstractOperator<KafkaBridge, KafkaBridgeSpec, KafkaBridgeStatus, CrdOperator<KubernetesClient, KafkaBridge, KafkaBridgeList>> {
+        private final KafkaBridgeStatus desiredStatus;
+
+        public StatusOperator(Vertx vertx, CrdOperator<KubernetesClient, KafkaBridge, KafkaBridgeList> resourceOperator, KafkaBridgeStatus desiredStatus) {
+            super(vertx, "KafkaBridge", resourceOperator, new MicrometerMetricsProvider(), null);
+            this.desiredStatus = desiredStatus;
+        }
+
+        @Override
+        protected Future<KafkaBridgeStatus> createOrUpdate(Reconciliation reconciliation, KafkaBridge resource) {
+            return Future.succeededFuture(desiredStatus);
+        }
+
+        @Override
+        protected Future<Boolean> delete(Reconciliation reconciliation) {
+            return Future.succeededFuture(false);
+        }
+
+        @Override
+        protected KafkaBridgeStatus createStatus(KafkaBridge cr) {
+            return new KafkaBridgeStatus();
+        }
+    }
+
     private static class DefaultWatchableStatusedResourceOperator<
             C extends KubernetesClient,
             T extends HasMetadata,
@@ -0,0 +1,246 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.PasswordGenerator;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.platform.KubernetesVersion;
+import io.strimzi.test.benchmark.BenchmarkReport;
+import io.strimzi.test.benchmark.ThreadResourceMeter;
+import io.strimzi.test.mockkube2.ApiRequestCounter;
+import io.strimzi.test.mockkube2.MockKube2;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the Kafka cluster reconciliation. It runs complete reconciliations of a KRaft based Kafka cluster with
+ * node pools (3 controllers and a configurable number of brokers) against MockKube2 with the mock Pod and Service
+ * controllers. For the initial reconciliation which creates the cluster and for the following reconciliations without
+ * any changes, it measures the duration, the CPU time and memory allocated by the operator threads and the number of
+ * Kubernetes API requests by verb and resource. The results are written by {@link BenchmarkReport}.
+ *
+ * The CPU time and allocations include all threads apart from the mock API server threads. So they include also the
+ * mock controllers, which use only a small fraction of them. The API requests include the requests made by the mock
+ * controllers and by the StrimziPodSet controller.
+ *
+ * The benchmark does not run as part of the regular build. It can be run with:
+ * mvn test -pl cluster-operator -Dtest=KafkaAssemblyOperatorReconcileBenchmark
+ */
+@EnableKubernetesMockClient(crud = true)
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
+public class KafkaAssemblyOperatorReconcileBenchmark {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CLUSTER_NAME = "my-cluster";
+    private static final int CONTROLLERS = 3;
+    private static final String RECONCILIATIONS_PROPERTY = "strimzi.benchmark.reconciliations";
+    private static final long OPERATION_TIMEOUT_MS = 120_000L;
+    private static final long RECONCILIATION_TIMEOUT_MS = 600_000L;
+
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+
+    private Vertx vertx;
+    private WorkerExecutor sharedWorkerExecutor;
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    private MockKube2 mockKube;
+    private StrimziPodSetController podSetController;
+    private KafkaAssemblyOperator operator;
+
+    private void init(int brokers) {
+        vertx = Vertx.vertx();
+        sharedWorkerExecutor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+
+        Kafka cluster = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withAnnotations(Map.of(
+                            Annotations.ANNO_STRIMZI_IO_NODE_POOLS, "enabled",
+                            Annotations.ANNO_STRIMZI_IO_KRAFT, "enabled"
+                    ))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withConfig(new HashMap<>())
+                        .withReplicas(3)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("tls")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                                .build())
+                        .withNewPersistentClaimStorage()
+                            .withSize("123")
+                            .withStorageClass("foo")
+                            .withDeleteClaim(true)
+                        .endPersistentClaimStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewPersistentClaimStorage()
+                            .withSize("123")
+                            .withStorageClass("foo")
+                            .withDeleteClaim(true)
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                .endSpec()
+                .withNewStatus()
+                    .withClusterId("CLUSTERID") // Needed to avoid CLuster ID conflicts => should be the same as used in the Kafka Admin API
+                .endStatus()
+                .build();
+
+        KafkaNodePool controllers = nodePool("controllers", CONTROLLERS, ProcessRoles.CONTROLLER);
+        KafkaNodePool brokerPool = nodePool("brokers", brokers, ProcessRoles.BROKER);
+
+        // Configure the Kubernetes Mock
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaNodePoolCrd()
+                .withInitialKafkaNodePools(controllers, brokerPool)
+                .withKafkaCrd()
+                .withInitialKafkas(cluster)
+                .withStrimziPodSetCrd()
+                .withDeploymentController()
+                .withPodController()
+                .withServiceController()
+                .build();
+        mockKube.start();
+
+        // We have to update the status to store the Kafka Cluster ID in it.
+        // This is needed to keep the resources in sync with the Kafka Admin API mocks.
+        Crds.kafkaOperation(client).resource(cluster).updateStatus();
+
+        PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, client, ResourceUtils.zookeeperLeaderFinder(vertx, client),
+                ResourceUtils.adminClientProvider(), ResourceUtils.zookeeperScalerProvider(),
+                ResourceUtils.metricsProvider(), pfa, OPERATION_TIMEOUT_MS);
+        podSetController = new StrimziPodSetController(NAMESPACE, Labels.EMPTY, supplier.kafkaOperator, supplier.connectOperator, supplier.mirrorMaker2Operator, supplier.strimziPodSetOperator, supplier.podOperations, supplier.metricsProvider, Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORK_QUEUE_SIZE.defaultValue()));
+        podSetController.start();
+
+        ClusterOperatorConfig config = new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), VERSIONS)
+                .with(ClusterOperatorConfig.OPERATION_TIMEOUT_MS.key(), String.valueOf(OPERATION_TIMEOUT_MS))
+                .with(ClusterOperatorConfig.FEATURE_GATES.key(), "+KafkaNodePools,+UseKRaft")
+                .build();
+        operator = new KafkaAssemblyOperator(vertx, pfa, new MockCertManager(),
+                new PasswordGenerator(10, "a", "a"), supplier, config);
+    }
+
+    private static KafkaNodePool nodePool(String name, int replicas, ProcessRoles role) {
+        return new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, CLUSTER_NAME))
+                    .withGeneration(1L)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(replicas)
+                    .withNewJbodStorage()
+                        .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").withStorageClass("gp99").build())
+                    .endJbodStorage()
+                    .withRoles(role)
+                .endSpec()
+                .build();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        podSetController.stop();
+        mockKube.stop();
+        sharedWorkerExecutor.close();
+        vertx.close();
+        ResourceUtils.cleanUpTemporaryTLSFiles();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30, 300})
+    public void benchmarkReconciliation(int brokers) throws Exception {
+        init(brokers);
+
+        int reconciliations = Integer.getInteger(RECONCILIATIONS_PROPERTY, 5);
+        BenchmarkReport report = new BenchmarkReport("kafka-assembly-operator-reconcile-" + brokers + "-brokers")
+                .parameter("controllers", CONTROLLERS)
+                .parameter("brokers", brokers)
+                .parameter("steadyStateReconciliations", reconciliations);
+
+        ThreadResourceMeter meter = new ThreadResourceMeter(name -> !name.startsWith("MockWebServer") && !name.startsWith("OkHttp"));
+
+        try (ApiRequestCounter apiRequests = new ApiRequestCounter()) {
+            report.result("initialReconciliation", reconcile(meter, apiRequests));
+
+            List<Map<String, Object>> steadyState = new ArrayList<>(reconciliations);
+            for (int i = 0; i < reconciliations; i++) {
+                steadyState.add(reconcile(meter, apiRequests));
+            }
+
+            Map<String, Object> average = new LinkedHashMap<>();
+            for (String key : List.of("durationMs", "cpuTimeMs", "allocatedBytes", "apiRequests")) {
+                average.put(key, steadyState.stream().mapToLong(r -> (Long) r.get(key)).average().orElse(0));
+            }
+            // The requests by verb should be the same in every reconciliation without changes => we use the last one
+            average.put("apiRequestsByVerb", steadyState.get(steadyState.size() - 1).get("apiRequestsByVerb"));
+
+            report.result("steadyStateReconciliation", average);
+        }
+
+        report.write();
+    }
+
+    private Map<String, Object> reconcile(ThreadResourceMeter meter, ApiRequestCounter apiRequests) throws Exception {
+        apiRequests.reset();
+        meter.start();
+        long start = System.nanoTime();
+
+        operator.reconcile(new Reconciliation("benchmark", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME))
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(RECONCILIATION_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000L;
+        Map<String, Long> usage = meter.stop();
+
+        // The mock server logs the requests only after it sent the responses => we give it a moment to log the last ones
+        Thread.sleep(100L);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("durationMs", durationMs);
+        result.put("cpuTimeMs", usage.get("cpuTimeMs"));
+        result.put("allocatedBytes", usage.get("allocatedBytes"));
+        result.put("apiRequests", apiRequests.total());
+        result.put("apiRequestsByVerb", apiRequests.counts());
+
+        return result;
+    }
+}
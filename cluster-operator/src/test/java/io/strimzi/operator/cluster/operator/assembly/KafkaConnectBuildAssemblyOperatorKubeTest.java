@@ -487,7 +487,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -674,7 +675,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -863,7 +865,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -1059,7 +1062,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -1259,7 +1263,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -1445,7 +1450,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -1590,7 +1596,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
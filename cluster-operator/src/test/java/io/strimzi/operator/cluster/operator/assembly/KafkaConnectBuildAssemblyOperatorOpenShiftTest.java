@@ -466,7 +466,8 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -648,7 +649,8 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -815,7 +817,8 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -954,7 +957,8 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -1134,7 +1138,8 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -1338,7 +1343,8 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
@@ -1544,7 +1550,8 @@ public class KafkaConnectBuildAssemblyOperatorOpenShiftTest {
                             false,
                             null,
                             null,
-                            null);
+                            null,
+                            false);
 
             return Future.succeededFuture(sps);
         });
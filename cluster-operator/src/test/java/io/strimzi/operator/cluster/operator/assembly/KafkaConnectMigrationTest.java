@@ -66,6 +66,7 @@ public class KafkaConnectMigrationTest {
                 null,
                 1_000L,
                 false,
+                false,
                 null,
                 null,
                 null,
@@ -75,7 +76,7 @@ public class KafkaConnectMigrationTest {
         );
 
         Checkpoint async = context.checkpoint();
-        migration.migrateFromDeploymentToStrimziPodSets(null, CLUSTER.generatePodSet(3, null, null, false, null, null, null))
+        migration.migrateFromDeploymentToStrimziPodSets(null, CLUSTER.generatePodSet(3, null, null, false, null, null, null, false))
                 .onComplete(context.succeeding(v -> context.verify(async::flag)));
     }
 
@@ -88,6 +89,7 @@ public class KafkaConnectMigrationTest {
                 null,
                 1_000L,
                 false,
+                false,
                 null,
                 null,
                 null,
@@ -115,6 +117,7 @@ public class KafkaConnectMigrationTest {
                 null,
                 1_000L,
                 false,
+                false,
                 null,
                 null,
                 null,
@@ -171,6 +174,7 @@ public class KafkaConnectMigrationTest {
                 null,
                 1_000L,
                 false,
+                false,
                 null,
                 null,
                 null,
@@ -216,6 +220,7 @@ public class KafkaConnectMigrationTest {
                 null,
                 1_000L,
                 false,
+                false,
                 null,
                 null,
                 null,
@@ -227,7 +232,7 @@ public class KafkaConnectMigrationTest {
         Checkpoint async = context.checkpoint();
         migration.migrateFromDeploymentToStrimziPodSets(
                 CLUSTER.generateDeployment(2, null, null, false, null, null, null),
-                CLUSTER.generatePodSet(1, null, null, false, null, null, null)
+                CLUSTER.generatePodSet(1, null, null, false, null, null, null, false)
         ).onComplete(context.succeeding(v -> context.verify(() -> {
             assertThat(events.size(), is(7));
 
@@ -257,6 +262,7 @@ public class KafkaConnectMigrationTest {
                 null,
                 1_000L,
                 false,
+                false,
                 null,
                 null,
                 null,
@@ -268,7 +274,7 @@ public class KafkaConnectMigrationTest {
         Checkpoint async = context.checkpoint();
         migration.migrateFromStrimziPodSetsToDeployment(
                 null,
-                CLUSTER.generatePodSet(3, null, null, false, null, null, null)
+                CLUSTER.generatePodSet(3, null, null, false, null, null, null, false)
         ).onComplete(context.succeeding(v -> context.verify(() -> {
             assertThat(events.size(), is(10));
 
@@ -312,6 +318,7 @@ public class KafkaConnectMigrationTest {
                 null,
                 1_000L,
                 false,
+                false,
                 null,
                 null,
                 null,
@@ -323,7 +330,7 @@ public class KafkaConnectMigrationTest {
         Checkpoint async = context.checkpoint();
         migration.migrateFromStrimziPodSetsToDeployment(
                 null,
-                CLUSTER.generatePodSet(3, null, null, false, null, null, null)
+                CLUSTER.generatePodSet(3, null, null, false, null, null, null, false)
         ).onComplete(context.succeeding(v -> context.verify(() -> {
             assertThat(events.size(), is(10));
 
@@ -356,6 +363,7 @@ public class KafkaConnectMigrationTest {
                 null,
                 1_000L,
                 false,
+                false,
                 null,
                 null,
                 null,
@@ -367,7 +375,7 @@ public class KafkaConnectMigrationTest {
         Checkpoint async = context.checkpoint();
         migration.migrateFromStrimziPodSetsToDeployment(
                 CLUSTER.generateDeployment(1, null, null, false, null, null, null),
-                CLUSTER.generatePodSet(2, null, null, false, null, null, null)
+                CLUSTER.generatePodSet(2, null, null, false, null, null, null, false)
         ).onComplete(context.succeeding(v -> context.verify(() -> {
             assertThat(events.size(), is(7));
 
@@ -47,7 +47,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.List;
 
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -167,7 +167,7 @@ public class KafkaMirrorMaker2AssemblyOperatorMockTest {
             .build()).create();
 
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mock.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         Checkpoint async = context.checkpoint();
@@ -195,7 +195,7 @@ public class KafkaMirrorMaker2AssemblyOperatorMockTest {
                 .build()).create();
 
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mock.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         Checkpoint async = context.checkpoint();
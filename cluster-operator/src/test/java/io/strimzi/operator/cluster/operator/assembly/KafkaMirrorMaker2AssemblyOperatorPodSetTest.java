@@ -66,6 +66,7 @@ import java.util.List;
 import java.util.Map;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -79,6 +80,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -170,7 +172,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
         // Mock Connect API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(
@@ -233,7 +235,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
     @Test
     public void testScaleCluster(VertxTestContext context)  {
         KafkaMirrorMaker2 mm2 = new KafkaMirrorMaker2Builder(MM2).build();
-        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(1, null, null, false, null, null, null);
+        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(1, null, null, false, null, null, null, false);
         List<Pod> oldPods = PodSetUtils.podSetToPods(oldPodSet);
 
         ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
@@ -291,7 +293,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
         // Mock Connect API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(
@@ -335,7 +337,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
                 .endSpec()
                 .build();
 
-        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(3, null, null, false, null, null, null);
+        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(3, null, null, false, null, null, null, false);
         List<Pod> oldPods = PodSetUtils.podSetToPods(oldPodSet);
 
         ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
@@ -393,7 +395,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
         // Mock Connect API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(
@@ -436,7 +438,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
                     .withResources(new ResourceRequirementsBuilder().withRequests(Map.of("Memory", new Quantity("1Gi"))).build())
                 .endSpec()
                 .build();
-        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(3, null, null, false, null, null, null);
+        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(3, null, null, false, null, null, null, false);
         List<Pod> oldPods = PodSetUtils.podSetToPods(oldPodSet);
 
         ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
@@ -494,7 +496,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
         // Mock Connect API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(
@@ -594,7 +596,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
         // Mock Connect API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(
@@ -746,6 +748,74 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
                 })));
     }
 
+    @Test
+    public void testConnectorsReconciledFromSnapshot(VertxTestContext context) {
+        String kmm2Name = "foo";
+        String targetNamespace = "target-ns";
+        String sourceClusterAlias = "my-cluster-src";
+        String targetClusterAlias = "my-cluster-tgt";
+        String sourceConnectorName = sourceClusterAlias + "->" + targetClusterAlias + ".MirrorSourceConnector";
+        String heartbeatConnectorName = sourceClusterAlias + "->" + targetClusterAlias + ".MirrorHeartbeatConnector";
+        String staleConnectorName = "old-src->old-tgt.MirrorSourceConnector";
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        KafkaMirrorMaker2 kmm2 = ResourceUtils.createEmptyKafkaMirrorMaker2(targetNamespace, kmm2Name);
+        createMirrorMaker2CaptorMock(targetNamespace, kmm2Name, kmm2, supplier);
+
+        KafkaMirrorMaker2ClusterSpec sourceCluster =
+                new KafkaMirrorMaker2ClusterSpecBuilder(true)
+                        .withAlias(sourceClusterAlias)
+                        .withBootstrapServers(sourceClusterAlias + ".source-ns.svc:9092")
+                        .build();
+        KafkaMirrorMaker2ClusterSpec targetCluster =
+                new KafkaMirrorMaker2ClusterSpecBuilder(true)
+                        .withAlias(targetClusterAlias)
+                        .withBootstrapServers(targetClusterAlias + "." + targetNamespace + ".svc:9092")
+                        .build();
+        kmm2.getSpec().setClusters(List.of(sourceCluster, targetCluster));
+        kmm2.getSpec().setMirrors(List.of(new KafkaMirrorMaker2MirrorSpecBuilder()
+                .withSourceCluster(sourceClusterAlias)
+                .withTargetCluster(targetClusterAlias)
+                .withNewSourceConnector()
+                .endSourceConnector()
+                .withNewHeartbeatConnector()
+                .endHeartbeatConnector()
+                .build()));
+
+        Map<String, Object> runningStatus = Map.of("connector", Map.of("state", "RUNNING"), "tasks", emptyList());
+
+        // The heartbeat connector exists with outdated configuration, the source connector does not exist yet
+        KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(Map.of(
+                heartbeatConnectorName, Map.of("info", Map.of("config", Map.of("name", heartbeatConnectorName)), "status", runningStatus),
+                staleConnectorName, Map.of("info", Map.of("config", Map.of("name", staleConnectorName)), "status", runningStatus))));
+        when(mockConnectClient.delete(any(), anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture());
+        when(mockConnectClient.createOrUpdatePutRequest(any(), anyString(), anyInt(), anyString(), any())).thenReturn(Future.succeededFuture());
+        when(mockConnectClient.statusWithBackOff(any(), any(), anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture(runningStatus));
+        when(mockConnectClient.status(any(), anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture(runningStatus));
+        when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
+
+        KafkaMirrorMaker2AssemblyOperator mm2AssemblyOperator = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, KubernetesVersion.MINIMAL_SUPPORTED_VERSION),
+                supplier, ResourceUtils.dummyClusterOperatorConfig(), x -> mockConnectClient);
+
+        Checkpoint async = context.checkpoint();
+        mm2AssemblyOperator.reconcile(new Reconciliation("test-snapshot", KafkaMirrorMaker2.RESOURCE_KIND, targetNamespace, kmm2Name))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // All connectors are read at once
+                    verify(mockConnectClient, times(1)).listWithInfoAndStatus(any(), anyString(), anyInt());
+                    verify(mockConnectClient, never()).list(any(), anyString(), anyInt());
+                    verify(mockConnectClient, never()).getConnectorConfig(any(), any(), anyString(), anyInt(), anyString());
+
+                    // Only the differences are applied
+                    verify(mockConnectClient, times(1)).delete(any(), anyString(), anyInt(), eq(staleConnectorName));
+                    verify(mockConnectClient, times(1)).createOrUpdatePutRequest(any(), anyString(), anyInt(), eq(sourceConnectorName), any());
+                    verify(mockConnectClient, times(1)).createOrUpdatePutRequest(any(), anyString(), anyInt(), eq(heartbeatConnectorName), any());
+                    verify(mockConnectClient, times(1)).updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class));
+
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testDeleteClusterRoleBindings(VertxTestContext context) {
         ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
@@ -814,7 +884,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
     @Test
     public void testManualRollingUpdate(VertxTestContext context)  {
-        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(3, null, null, false, null, null, null);
+        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(3, null, null, false, null, null, null, false);
         oldPodSet.getMetadata().getAnnotations().put(Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true"); // We want the pods to roll manually
         List<Pod> oldPods = PodSetUtils.podSetToPods(oldPodSet);
 
@@ -873,7 +943,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
         // Mock Connect API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(
@@ -902,7 +972,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
     @Test
     public void testManualRollingUpdateAtScaleUp(VertxTestContext context)  {
-        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(1, null, null, false, null, null, null);
+        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(1, null, null, false, null, null, null, false);
         oldPodSet.getMetadata().getAnnotations().put(Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true"); // We want the pods to roll manually
         List<Pod> oldPods = PodSetUtils.podSetToPods(oldPodSet);
 
@@ -961,7 +1031,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
         // Mock Connect API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(
@@ -991,7 +1061,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
     @Test
     public void testManualRollingUpdatePerPod(VertxTestContext context)  {
-        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(3, null, null, false, null, null, null);
+        StrimziPodSet oldPodSet = CLUSTER.generatePodSet(3, null, null, false, null, null, null, false);
         List<Pod> oldPods = PodSetUtils.podSetToPods(oldPodSet);
         oldPods.get(1).getMetadata().getAnnotations().put(Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, "true"); // We want the pod to roll manually
 
@@ -1050,7 +1120,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
         // Mock Connect API
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(
@@ -1079,7 +1149,7 @@ public class KafkaMirrorMaker2AssemblyOperatorPodSetTest {
 
     private KafkaConnectApi createConnectClientMock() {
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithInfoAndStatus(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
         return mockConnectClient;
     }
@@ -167,4 +167,19 @@ public class KafkaRebalanceStatusTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    public void testProposalSummaryDiff() {
+        Map<String, Object> previous = Map.of("numReplicaMovements", 10, "dataToMoveMB", 100L,
+                "onDemandBalancednessScoreAfter", 80.5, "numLeaderMovements", 3, "afterBeforeLoadConfigMap", RESOURCE_NAME);
+        Map<String, Object> current = Map.of("numReplicaMovements", 12, "dataToMoveMB", 100,
+                "onDemandBalancednessScoreAfter", 82.0, "numLeaderMovements", 3, "afterBeforeLoadConfigMap", RESOURCE_NAME,
+                "numIntraBrokerReplicaMovements", 0);
+
+        Map<String, Object> diff = KafkaRebalanceAssemblyOperator.proposalSummaryDiff(previous, current);
+
+        assertThat(diff.size(), is(2));
+        assertThat(diff, hasEntry("numReplicaMovements", (Object) 2L));
+        assertThat(diff, hasEntry("onDemandBalancednessScoreAfter", (Object) 1.5));
+    }
 }
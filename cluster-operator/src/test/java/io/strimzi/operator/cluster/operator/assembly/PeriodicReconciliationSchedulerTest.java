@@ -0,0 +1,165 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@ExtendWith(VertxExtension.class)
+public class PeriodicReconciliationSchedulerTest {
+    private static final Timer LAG_TIMER = new SimpleMeterRegistry().timer("lag");
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("timer", "Kafka", "my-namespace", name);
+    }
+
+    @Test
+    public void testPhaseOffsetIsStableAndSpread() {
+        Set<Long> offsets = new HashSet<>();
+
+        for (int i = 0; i < 100; i++) {
+            long offset = PeriodicReconciliationScheduler.phaseOffset("Kafka/my-namespace/my-cluster-" + i, 120_000);
+            assertThat(offset, is(PeriodicReconciliationScheduler.phaseOffset("Kafka/my-namespace/my-cluster-" + i, 120_000)));
+            assertThat(offset >= 0, is(true));
+            assertThat(offset, lessThan(120_000L));
+            offsets.add(offset / 12_000);
+        }
+
+        // 100 resources should use most of the 10 buckets of the interval
+        assertThat(offsets.size(), greaterThan(7));
+    }
+
+    @Test
+    public void testConcurrencyLimit(Vertx vertx, VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, 50, 2);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(scheduler.schedule(reconciliation("my-cluster-" + i), r -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Promise<Void> reconcile = Promise.promise();
+                vertx.setTimer(20, id -> {
+                    running.decrementAndGet();
+                    reconcile.complete();
+                });
+                return reconcile.future();
+            }, LAG_TIMER));
+        }
+
+        Checkpoint checkpoint = context.checkpoint();
+        Future.all(futures).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(maxRunning.get(), lessThanOrEqualTo(2));
+            assertThat(scheduler.scheduledReconciliations(), is(0));
+            checkpoint.flag();
+        })));
+    }
+
+    @Test
+    public void testAlreadyScheduledReconciliationIsNotScheduledAgain(Vertx vertx, VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, 10, 10);
+        AtomicInteger reconciliations = new AtomicInteger(0);
+        Promise<Void> reconcile = Promise.promise();
+
+        Future<Void> first = scheduler.schedule(reconciliation("my-cluster"), r -> {
+            reconciliations.incrementAndGet();
+            return reconcile.future();
+        }, LAG_TIMER);
+        Future<Void> second = scheduler.schedule(reconciliation("my-cluster"), r -> {
+            reconciliations.incrementAndGet();
+            return Future.succeededFuture();
+        }, LAG_TIMER);
+
+        assertThat(second == first, is(true));
+        assertThat(scheduler.scheduledReconciliations(), is(1));
+
+        vertx.setTimer(50, id -> reconcile.complete());
+
+        Checkpoint checkpoint = context.checkpoint();
+        first.onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(reconciliations.get(), is(1));
+            assertThat(scheduler.scheduledReconciliations(), is(0));
+            checkpoint.flag();
+        })));
+    }
+
+    @Test
+    public void testFailedReconciliationReleasesTheSlot(Vertx vertx, VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, 10, 1);
+
+        Future<Void> failing = scheduler.schedule(reconciliation("my-cluster"), r -> {
+            throw new RuntimeException("Failed");
+        }, LAG_TIMER);
+        Future<Void> other = scheduler.schedule(reconciliation("my-other-cluster"), r -> Future.succeededFuture(), LAG_TIMER);
+
+        Checkpoint checkpoint = context.checkpoint();
+        Future.join(failing, other).onComplete(res -> context.verify(() -> {
+            assertThat(failing.failed(), is(true));
+            assertThat(other.succeeded(), is(true));
+            assertThat(scheduler.scheduledReconciliations(), is(0));
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void testCancelSkipsReconciliationsInNamespace(Vertx vertx, VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, 50, 10);
+        AtomicInteger reconciliations = new AtomicInteger(0);
+        AtomicInteger otherReconciliations = new AtomicInteger(0);
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(scheduler.schedule(reconciliation("my-cluster-" + i), r -> {
+                reconciliations.incrementAndGet();
+                return Future.succeededFuture();
+            }, LAG_TIMER));
+            futures.add(scheduler.schedule(new Reconciliation("timer", "Kafka", "my-other-namespace", "my-cluster-" + i), r -> {
+                otherReconciliations.incrementAndGet();
+                return Future.succeededFuture();
+            }, LAG_TIMER));
+        }
+
+        // Only the reconciliations in my-namespace are cancelled. The scheduler is shared by all namespaces.
+        scheduler.cancel("my-namespace");
+
+        Checkpoint checkpoint = context.checkpoint();
+        Future.all(futures).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(reconciliations.get(), is(0));
+            assertThat(otherReconciliations.get(), is(10));
+            assertThat(scheduler.scheduledReconciliations(), is(0));
+
+            // Cancelled resources can be scheduled again
+            scheduler.schedule(reconciliation("my-cluster-0"), r -> {
+                reconciliations.incrementAndGet();
+                return Future.succeededFuture();
+            }, LAG_TIMER).onComplete(context.succeeding(v2 -> context.verify(() -> {
+                assertThat(reconciliations.get(), is(1));
+                checkpoint.flag();
+            })));
+        })));
+    }
+}
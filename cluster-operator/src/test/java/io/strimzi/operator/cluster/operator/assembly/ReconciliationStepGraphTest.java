@@ -0,0 +1,137 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconciliationStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+    private static final ReconciliationStepTimer STEP_TIMER = new ReconciliationStepTimer(RECONCILIATION, "TestReconciler", null);
+
+    /**
+     * Creates steps which record when they start and keep running until they are completed by the test
+     */
+    private static class Steps {
+        private final List<String> started = new ArrayList<>();
+        private final Map<String, Promise<Void>> promises = new HashMap<>();
+
+        Supplier<Future<Void>> step(String name) {
+            return () -> {
+                started.add(name);
+                Promise<Void> promise = Promise.promise();
+                promises.put(name, promise);
+                return promise.future();
+            };
+        }
+
+        void complete(String name) {
+            promises.get(name).complete();
+        }
+
+        void fail(String name) {
+            promises.get(name).fail(new RuntimeException(name + " failed"));
+        }
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Steps steps = new Steps();
+
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, new ReconciliationStepTimer(RECONCILIATION, "TestReconciler", new MicrometerMetricsProvider(registry)))
+                .step("first", steps.step("first"))
+                .step("a", steps.step("a"), "first")
+                .step("b", steps.step("b"), "first")
+                .step("c", steps.step("c"), "a")
+                .step("last", steps.step("last"), "b", "c")
+                .run();
+
+        assertThat(steps.started, contains("first"));
+
+        steps.complete("first");
+        assertThat(steps.started, containsInAnyOrder("first", "a", "b"));
+
+        steps.complete("b");
+        assertThat(steps.started.size(), is(3));
+
+        steps.complete("a");
+        assertThat(steps.started, contains("first", "a", "b", "c"));
+
+        steps.complete("c");
+        assertThat(steps.started.size(), is(5));
+        assertThat(result.isComplete(), is(false));
+
+        steps.complete("last");
+        assertThat(result.succeeded(), is(true));
+
+        assertThat(registry.get(ReconciliationStepTimer.STEP_DURATION_METRIC).tag("reconciler", "TestReconciler").timers().size(), is(5));
+        assertThat(registry.get(ReconciliationStepTimer.STEP_DURATION_METRIC).tag("step", "last").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testFailedStepStopsTheGraph() {
+        Steps steps = new Steps();
+
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, STEP_TIMER)
+                .step("a", steps.step("a"))
+                .step("b", steps.step("b"))
+                .step("c", steps.step("c"), "a")
+                .step("d", steps.step("d"), "b")
+                .run();
+
+        steps.fail("a");
+        // The graph waits for the running steps to complete
+        assertThat(result.isComplete(), is(false));
+
+        steps.complete("b");
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("a failed"));
+        assertThat(steps.started, contains("a", "b"));
+    }
+
+    @Test
+    public void testStepThrowingException() {
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, STEP_TIMER)
+                .step("a", () -> {
+                    throw new RuntimeException("Failed");
+                })
+                .run();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Failed"));
+    }
+
+    @Test
+    public void testEmptyGraph() {
+        assertThat(new ReconciliationStepGraph(RECONCILIATION, STEP_TIMER).run().succeeded(), is(true));
+    }
+
+    @Test
+    public void testInvalidSteps() {
+        ReconciliationStepGraph graph = new ReconciliationStepGraph(RECONCILIATION, STEP_TIMER)
+                .step("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", Future::succeededFuture, "c"));
+    }
+}
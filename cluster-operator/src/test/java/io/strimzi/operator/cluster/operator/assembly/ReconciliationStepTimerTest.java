@@ -0,0 +1,70 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ReconciliationStepTimerTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    @Test
+    public void testStepDurationIsRecorded() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(RECONCILIATION, "TestReconciler", new MicrometerMetricsProvider(registry));
+
+        Promise<String> promise = Promise.promise();
+        Future<String> result = steps.time("my-step", promise::future);
+
+        // The duration is recorded only once the step completes
+        assertThat(registry.find(ReconciliationStepTimer.STEP_DURATION_METRIC).timer() == null, is(true));
+
+        promise.complete("done");
+        assertThat(result.result(), is("done"));
+
+        Timer timer = registry.get(ReconciliationStepTimer.STEP_DURATION_METRIC)
+                .tag("kind", "Kafka")
+                .tag("namespace", "my-namespace")
+                .tag("reconciler", "TestReconciler")
+                .tag("step", "my-step")
+                .timer();
+        assertThat(timer.count(), is(1L));
+    }
+
+    @Test
+    public void testFailedStepIsRecorded() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(RECONCILIATION, "TestReconciler", new MicrometerMetricsProvider(registry));
+
+        Future<Void> failed = steps.time("failing-step", () -> Future.failedFuture(new RuntimeException("Failed")));
+        Future<Void> thrown = steps.time("throwing-step", () -> {
+            throw new RuntimeException("Thrown");
+        });
+
+        assertThat(failed.failed(), is(true));
+        assertThat(failed.cause().getMessage(), is("Failed"));
+        assertThat(thrown.failed(), is(true));
+        assertThat(thrown.cause().getMessage(), is("Thrown"));
+
+        assertThat(registry.get(ReconciliationStepTimer.STEP_DURATION_METRIC).tag("step", "failing-step").timer().count(), is(1L));
+        assertThat(registry.get(ReconciliationStepTimer.STEP_DURATION_METRIC).tag("step", "throwing-step").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testWithoutMetricsProvider() {
+        ReconciliationStepTimer steps = new ReconciliationStepTimer(RECONCILIATION, "TestReconciler", null);
+
+        assertThat(steps.time("my-step", () -> Future.succeededFuture(42)).result(), is(42));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public class ReconciliationWorkQueueTest {
+    private static final String KIND = "Kafka";
+    private static final String NAMESPACE = "my-namespace";
+
+    private static Reconciliation reconciliation(String trigger, String name) {
+        return new Reconciliation(trigger, KIND, NAMESPACE, name);
+    }
+
+    /**
+     * Reconcile function which records the started reconciliations and keeps them running until their promise is
+     * completed
+     */
+    private static class BlockingReconcile implements Function<Reconciliation, Future<Void>> {
+        private final List<String> started = new ArrayList<>();
+        private final List<Promise<Void>> promises = new ArrayList<>();
+
+        @Override
+        public Future<Void> apply(Reconciliation reconciliation) {
+            started.add(reconciliation.trigger() + "/" + reconciliation.name());
+            Promise<Void> promise = Promise.promise();
+            promises.add(promise);
+            return promise.future();
+        }
+
+        void complete(int index) {
+            promises.get(index).complete();
+        }
+    }
+
+    @Test
+    public void testReconciliationsOfSameResourceAreCoalesced() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(new OperatorMetricsHolder(KIND, null, new MicrometerMetricsProvider(new SimpleMeterRegistry())), 10);
+        BlockingReconcile reconcile = new BlockingReconcile();
+
+        Future<Void> first = queue.submit(reconciliation("watch", "my-cluster"), reconcile);
+        Future<Void> second = queue.submit(reconciliation("watch", "my-cluster"), reconcile);
+        Future<Void> third = queue.submit(reconciliation("watch", "my-cluster"), reconcile);
+
+        // The first reconciliation is running and the other two wait as a single reconciliation
+        assertThat(reconcile.started.size(), is(1));
+        assertThat(queue.waitingReconciliations(), is(1));
+        assertThat(third == second, is(true));
+
+        reconcile.complete(0);
+        assertThat(first.succeeded(), is(true));
+        assertThat(reconcile.started.size(), is(2));
+        assertThat(queue.waitingReconciliations(), is(0));
+
+        reconcile.complete(1);
+        assertThat(second.succeeded(), is(true));
+        assertThat(reconcile.started.size(), is(2));
+    }
+
+    @Test
+    public void testEventReconciliationsJumpAheadOfPeriodicReconciliations() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(new OperatorMetricsHolder(KIND, null, new MicrometerMetricsProvider(registry)), 1);
+        BlockingReconcile reconcile = new BlockingReconcile();
+
+        queue.submit(reconciliation(ReconciliationWorkQueue.PERIODIC_TRIGGER, "cluster-a"), reconcile);
+        queue.submit(reconciliation(ReconciliationWorkQueue.PERIODIC_TRIGGER, "cluster-b"), reconcile);
+        queue.submit(reconciliation(ReconciliationWorkQueue.PERIODIC_TRIGGER, "cluster-c"), reconcile);
+        queue.submit(reconciliation("watch", "cluster-d"), reconcile);
+        // Coalesced with the waiting periodic reconciliation which takes over the higher priority
+        queue.submit(reconciliation("watch", "cluster-c"), reconcile);
+
+        for (int i = 0; i < 4; i++) {
+            reconcile.complete(i);
+        }
+
+        assertThat(reconcile.started, contains("timer/cluster-a", "watch/cluster-c", "watch/cluster-d", "timer/cluster-b"));
+        assertThat(registry.get("strimzi.reconciliations.queue.latency").tag("priority", "periodic").timer().count(), is(2L));
+        assertThat(registry.get("strimzi.reconciliations.queue.latency").tag("priority", "event").timer().count(), is(2L));
+    }
+
+    @Test
+    public void testFailingReconciliationDoesNotBlockTheResource() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(new OperatorMetricsHolder(KIND, null, new MicrometerMetricsProvider(new SimpleMeterRegistry())), 10);
+        List<String> started = new ArrayList<>();
+
+        Future<Void> failed = queue.submit(reconciliation("watch", "my-cluster"), r -> {
+            started.add(r.name());
+            throw new RuntimeException("Failed");
+        });
+        Future<Void> next = queue.submit(reconciliation("watch", "my-cluster"), r -> {
+            started.add(r.name());
+            return Future.succeededFuture();
+        });
+
+        assertThat(failed.failed(), is(true));
+        assertThat(next.succeeded(), is(true));
+        assertThat(started.size(), is(2));
+        assertThat(queue.waitingReconciliations(), is(0));
+    }
+}
@@ -6,11 +6,18 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.test.mockkube2.MockKube2;
 import io.vertx.core.Vertx;
@@ -253,4 +260,68 @@ public class ReconnectingWatcherMockTest {
 
         watcher.close();
     }
+
+    @Test
+    public void testWatchIsResumedOrRelisted() throws InterruptedException {
+        CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOps = new CrdOperator<>(vertx, client, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OperatorMetricsHolder metrics = new OperatorMetricsHolder(Kafka.RESOURCE_KIND, null, new MicrometerMetricsProvider(registry));
+
+        CountDownLatch addedLatch = new CountDownLatch(1);
+        AtomicInteger relistCounter = new AtomicInteger(0);
+        AtomicInteger otherEventsCounter = new AtomicInteger(0);
+
+        ReconnectingWatcher<Kafka> watcher = new ReconnectingWatcher<>(kafkaOps, Kafka.RESOURCE_KIND, NAMESPACE, null, (a, r) -> {
+            if (a == Watcher.Action.ADDED) {
+                addedLatch.countDown();
+            } else {
+                otherEventsCounter.incrementAndGet();
+            }
+        }, relistCounter::incrementAndGet, metrics);
+
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(1)
+                    .endKafka()
+                .endSpec()
+                .build();
+
+        Crds.kafkaOperation(client).inNamespace(NAMESPACE).resource(kafka).create();
+        assertThat(addedLatch.await(5_000, TimeUnit.MILLISECONDS), is(true));
+        assertThat(watcher.resourceVersion() != null, is(true));
+
+        // Bookmarks and errors are not passed to the event handler
+        watcher.eventReceived(Watcher.Action.BOOKMARK, new KafkaBuilder().withNewMetadata().withResourceVersion("1000").endMetadata().build());
+        watcher.eventReceived(Watcher.Action.ERROR, new KafkaBuilder().withNewMetadata().withResourceVersion("1001").endMetadata().build());
+        assertThat(otherEventsCounter.get(), is(0));
+        assertThat(watcher.resourceVersion(), is("1001"));
+
+        // Error event => the watch is recreated and resumed from the last resource version
+        assertThat(relistCounter.get(), is(0));
+        assertThat(registry.get("strimzi.watch.reconnects").tag("recovery", ReconnectingWatcher.RECOVERY_RESUMED).counter().count(), is(1.0));
+
+        // Regular error => the watch is resumed from the last resource version
+        watcher.onClose(new WatcherException("Connection reset", new KubernetesClientException("Connection reset")));
+        assertThat(relistCounter.get(), is(0));
+        assertThat(watcher.resourceVersion(), is("1001"));
+        assertThat(registry.get("strimzi.watch.reconnects").tag("recovery", ReconnectingWatcher.RECOVERY_RESUMED).counter().count(), is(2.0));
+
+        // Expired resource version => the watch is recreated and the relist handler is called
+        watcher.onClose(new WatcherException("Gone", new KubernetesClientException("Gone", 410, null)));
+        assertThat(relistCounter.get(), is(1));
+        assertThat(registry.get("strimzi.watch.reconnects").tag("recovery", ReconnectingWatcher.RECOVERY_RELISTED).counter().count(), is(1.0));
+
+        watcher.close();
+
+        // Closed watcher is not recreated anymore
+        watcher.onClose(new WatcherException("Gone", new KubernetesClientException("Gone", 410, null)));
+        assertThat(relistCounter.get(), is(1));
+
+        // Closing the watcher again does nothing
+        watcher.close();
+    }
 }
@@ -10,6 +10,8 @@ import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodConditionBuilder;
+import io.fabric8.kubernetes.api.model.PodStatusBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -41,6 +43,7 @@ import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.strimzi.test.TestUtils;
 import io.strimzi.test.mockkube2.MockKube2;
+import io.strimzi.test.mockkube2.controllers.MockPodController;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.junit5.VertxExtension;
@@ -60,9 +63,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 @EnableKubernetesMockClient(crud = true)
 @ExtendWith(VertxExtension.class)
@@ -786,4 +791,143 @@ public class StrimziPodSetControllerMockTest {
             podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
         }
     }
+
+    /**
+     * Tests that pods matching the selector which are not part of the StrimziPodSet are deleted when they are created
+     * and that the status counts the pods which are not affected by the event from the cached state.
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testUnwantedPodDeletion(VertxTestContext context) {
+        String podSetName = "unwanted-pod";
+        String podName = podSetName + "-0";
+        String unwantedPodName = podSetName + "-1";
+
+        try {
+            Pod pod = pod(podName, KAFKA_NAME, podSetName, "Kafka");
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, KAFKA_NAME, "Kafka", pod)).create();
+
+            // Check status of the PodSet
+            TestUtils.waitFor(
+                    "Wait for StrimziPodSetStatus",
+                    100,
+                    10_000,
+                    () -> {
+                        StrimziPodSet podSet = podSetOp().inNamespace(NAMESPACE).withName(podSetName).get();
+                        return podSet.getStatus() != null
+                                && podSet.getStatus().getCurrentPods() == 1
+                                && podSet.getStatus().getReadyPods() == 1
+                                && podSet.getStatus().getPods() == 1;
+                    },
+                    () -> context.failNow("Pod stats do not match"));
+
+            // Create a pod which matches the selector but is not part of the PodSet
+            client.pods().inNamespace(NAMESPACE).resource(pod(unwantedPodName, KAFKA_NAME, podSetName, "Kafka")).create();
+
+            // Check that the unwanted pod is deleted
+            TestUtils.waitFor(
+                    "Wait for Pod to be deleted",
+                    100,
+                    10_000,
+                    () -> client.pods().inNamespace(NAMESPACE).withName(unwantedPodName).get() == null,
+                    () -> context.failNow("Test timed out waiting for pod deletion!"));
+
+            // Check that the status still counts the existing pod
+            TestUtils.waitFor(
+                    "Wait for StrimziPodSetStatus",
+                    100,
+                    10_000,
+                    () -> {
+                        StrimziPodSet podSet = podSetOp().inNamespace(NAMESPACE).withName(podSetName).get();
+                        return podSet.getStatus().getCurrentPods() == 1
+                                && podSet.getStatus().getReadyPods() == 1
+                                && podSet.getStatus().getPods() == 1;
+                    },
+                    () -> context.failNow("Pod stats do not match"));
+
+            // The desired pod should not be touched
+            assertThat(client.pods().inNamespace(NAMESPACE).withName(podName).get(), is(notNullValue()));
+
+            context.completeNow();
+        } finally {
+            podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+        }
+    }
+
+    /**
+     * Tests that pod events reconcile only the pods which changed:
+     *   - Readiness changes of a single pod update the cached state and the StrimziPodSet status
+     *   - The cached state is kept between the reconciliations (i.e. the pods are not all reconciled again)
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testIncrementalReconciliation(VertxTestContext context) {
+        String podSetName = "incremental";
+        String pod0Name = podSetName + "-0";
+        String pod1Name = podSetName + "-1";
+        String pod2Name = podSetName + "-2";
+
+        try {
+            // The second pod is not marked as ready by the MockPodController so that we can change its readiness
+            Pod pod1 = pod(pod1Name, KAFKA_NAME, podSetName, "Kafka");
+            pod1.getMetadata().getAnnotations().put(MockPodController.ANNO_DO_NOT_SET_READY, "true");
+
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, KAFKA_NAME, "Kafka", pod(pod0Name, KAFKA_NAME, podSetName, "Kafka"), pod1, pod(pod2Name, KAFKA_NAME, podSetName, "Kafka"))).create();
+
+            // Check status of the PodSet
+            waitForPodSetStatus(context, podSetName, 3, 2);
+
+            StrimziPodSetController.PodSetState state = controller.podSetState(NAMESPACE, podSetName);
+            assertThat(state, is(notNullValue()));
+            assertThat(state.readyPods, containsInAnyOrder(pod0Name, pod2Name));
+            assertThat(state.currentPods, containsInAnyOrder(pod0Name, pod1Name, pod2Name));
+
+            // Mark the second pod as ready
+            setPodReadiness(pod1Name, true);
+            waitForPodSetStatus(context, podSetName, 3, 3);
+
+            // The state should be updated in place and not rebuilt by reconciling all pods
+            assertThat(controller.podSetState(NAMESPACE, podSetName), is(sameInstance(state)));
+            assertThat(state.readyPods, containsInAnyOrder(pod0Name, pod1Name, pod2Name));
+            assertThat(state.currentPods, containsInAnyOrder(pod0Name, pod1Name, pod2Name));
+
+            // Mark the second pod as not ready again
+            setPodReadiness(pod1Name, false);
+            waitForPodSetStatus(context, podSetName, 3, 2);
+
+            assertThat(controller.podSetState(NAMESPACE, podSetName), is(sameInstance(state)));
+            assertThat(state.readyPods, containsInAnyOrder(pod0Name, pod2Name));
+            assertThat(state.currentPods, containsInAnyOrder(pod0Name, pod1Name, pod2Name));
+            assertThat(state.deletedPods.isEmpty(), is(true));
+
+            context.completeNow();
+        } finally {
+            podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+        }
+    }
+
+    private void setPodReadiness(String podName, boolean ready)   {
+        Pod pod = client.pods().inNamespace(NAMESPACE).withName(podName).get();
+        pod.setStatus(new PodStatusBuilder()
+                .withConditions(new PodConditionBuilder().withType("Ready").withStatus(ready ? "True" : "False").build())
+                .build());
+        client.pods().inNamespace(NAMESPACE).resource(pod).patchStatus();
+    }
+
+    private void waitForPodSetStatus(VertxTestContext context, String podSetName, int pods, int readyPods)   {
+        TestUtils.waitFor(
+                "Wait for StrimziPodSetStatus",
+                100,
+                10_000,
+                () -> {
+                    StrimziPodSet podSet = podSetOp().inNamespace(NAMESPACE).withName(podSetName).get();
+                    return podSet.getStatus() != null
+                            && podSet.getStatus().getCurrentPods() == pods
+                            && podSet.getStatus().getReadyPods() == readyPods
+                            && podSet.getStatus().getPods() == pods;
+                },
+                () -> context.failNow("Pod stats do not match"));
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.strimzi.api.kafka.model.KafkaRebalanceSpec;
+import io.strimzi.api.kafka.model.KafkaRebalanceSpecBuilder;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CruiseControlProposalCacheTest {
+    private static final String HOST = "my-cluster-cruise-control.my-namespace.svc";
+    private static final String OTHER_HOST = "other-cluster-cruise-control.my-namespace.svc";
+
+    private static CruiseControlRebalanceResponse proposal() {
+        return new CruiseControlRebalanceResponse("task-1", new JsonObject().put("summary", new JsonObject().put("numReplicaMovements", 10)));
+    }
+
+    @Test
+    public void testProposalIsCachedForSameOptions() {
+        AtomicLong time = new AtomicLong(0);
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(1_000, time::get);
+        KafkaRebalanceSpec spec = new KafkaRebalanceSpecBuilder().withGoals("DiskCapacityGoal").build();
+
+        cache.put(HOST, spec, proposal());
+
+        CruiseControlRebalanceResponse cached = cache.get(HOST, new KafkaRebalanceSpecBuilder().withGoals("DiskCapacityGoal").build());
+        assertThat(cached, is(notNullValue()));
+        assertThat(cached.getUserTaskId(), is("task-1"));
+        assertThat(cached.getJson().getJsonObject("summary").getInteger("numReplicaMovements"), is(10));
+
+        // Modifications of the returned proposal do not change the cached proposal
+        cached.getJson().getJsonObject("summary").put("afterBeforeLoadConfigMap", "my-rebalance");
+        assertThat(cache.get(HOST, spec).getJson().getJsonObject("summary").containsKey("afterBeforeLoadConfigMap"), is(false));
+
+        assertThat(cache.get(HOST, new KafkaRebalanceSpecBuilder().withGoals("CpuCapacityGoal").build()), is(nullValue()));
+        assertThat(cache.get(OTHER_HOST, spec), is(nullValue()));
+    }
+
+    @Test
+    public void testChangedOptionsDoNotChangeCachedProposal() {
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(60_000);
+        KafkaRebalanceSpec spec = new KafkaRebalanceSpecBuilder().withGoals("DiskCapacityGoal").build();
+
+        cache.put(HOST, spec, proposal());
+
+        // The spec is modified after the proposal was cached => the cached proposal does not match it anymore
+        spec.setGoals(List.of("CpuCapacityGoal"));
+        assertThat(cache.get(HOST, spec), is(nullValue()));
+        assertThat(cache.get(HOST, new KafkaRebalanceSpecBuilder().withGoals("DiskCapacityGoal").build()), is(notNullValue()));
+    }
+
+    @Test
+    public void testProposalExpires() {
+        AtomicLong time = new AtomicLong(0);
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(1_000, time::get);
+        KafkaRebalanceSpec spec = new KafkaRebalanceSpec();
+
+        cache.put(HOST, spec, proposal());
+        time.set(999);
+        assertThat(cache.get(HOST, spec), is(notNullValue()));
+
+        time.set(1_000);
+        assertThat(cache.get(HOST, spec), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testExpiredProposalsArePurged() {
+        AtomicLong time = new AtomicLong(0);
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(1_000, time::get);
+
+        // Proposals which are never requested again (e.g. of deleted KafkaRebalance resources)
+        cache.put(HOST, new KafkaRebalanceSpecBuilder().withGoals("DiskCapacityGoal").build(), proposal());
+        cache.put(OTHER_HOST, new KafkaRebalanceSpecBuilder().withGoals("CpuCapacityGoal").build(), proposal());
+        assertThat(cache.size(), is(2));
+
+        time.set(500);
+        cache.put(HOST, new KafkaRebalanceSpec(), proposal());
+        assertThat(cache.size(), is(3));
+
+        // Caching a new proposal removes the expired ones
+        time.set(1_000);
+        cache.put(OTHER_HOST, new KafkaRebalanceSpec(), proposal());
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(HOST, new KafkaRebalanceSpec()), is(notNullValue()));
+        assertThat(cache.get(OTHER_HOST, new KafkaRebalanceSpec()), is(notNullValue()));
+    }
+
+    @Test
+    public void testInvalidate() {
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(60_000);
+        KafkaRebalanceSpec spec = new KafkaRebalanceSpec();
+
+        cache.put(HOST, spec, proposal());
+        cache.put(OTHER_HOST, spec, proposal());
+        assertThat(cache.size(), is(2));
+
+        cache.invalidate(HOST);
+        assertThat(cache.get(HOST, spec), is(nullValue()));
+        assertThat(cache.get(OTHER_HOST, spec), is(notNullValue()));
+    }
+
+    @Test
+    public void testIncompleteProposalIsNotCached() {
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(60_000);
+        KafkaRebalanceSpec spec = new KafkaRebalanceSpec();
+
+        CruiseControlRebalanceResponse pending = new CruiseControlRebalanceResponse("task-1", new JsonObject());
+        pending.setProposalStillCalculating(true);
+        cache.put(HOST, spec, pending);
+
+        CruiseControlRebalanceResponse notEnoughData = new CruiseControlRebalanceResponse("task-1", new JsonObject());
+        notEnoughData.setNotEnoughDataForProposal(true);
+        cache.put(HOST, spec, notEnoughData);
+
+        assertThat(cache.size(), is(0));
+    }
+}
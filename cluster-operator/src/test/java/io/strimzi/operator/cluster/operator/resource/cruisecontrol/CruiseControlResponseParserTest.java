@@ -0,0 +1,53 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CruiseControlResponseParserTest {
+    private static final String RESPONSE = "{" +
+            "\"summary\":{\"numReplicaMovements\":10,\"dataToMoveMB\":512,\"onDemandBalancednessScoreAfter\":82.5,\"excludedTopics\":[]}," +
+            "\"proposals\":[{\"topicPartition\":{\"partition\":0,\"topic\":\"my-topic\"},\"oldReplicas\":[0,1],\"newReplicas\":[1,2]}]," +
+            "\"loadAfterOptimization\":{\"brokers\":[{\"Broker\":0,\"Replicas\":10}],\"hosts\":[]}," +
+            "\"version\":1" +
+            "}";
+
+    @Test
+    public void testParseKeepsOnlyRequestedFields() {
+        JsonObject json = CruiseControlResponseParser.parse(Buffer.buffer(RESPONSE), Set.of("summary", "loadAfterOptimization", "loadBeforeOptimization"));
+
+        assertThat(json.fieldNames(), is(Set.of("summary", "loadAfterOptimization")));
+        assertThat(json.getJsonObject("summary").getInteger("numReplicaMovements"), is(10));
+        assertThat(json.getJsonObject("summary").getDouble("onDemandBalancednessScoreAfter"), is(82.5));
+        assertThat(json.getJsonObject("summary").getJsonArray("excludedTopics"), is(new JsonArray()));
+
+        JsonArray brokers = json.getJsonObject("loadAfterOptimization").getJsonArray("brokers");
+        assertThat(brokers.size(), is(1));
+        assertThat(brokers.getJsonObject(0).getInteger("Replicas"), is(10));
+    }
+
+    @Test
+    public void testParseString() {
+        JsonObject json = CruiseControlResponseParser.parse(RESPONSE, Set.of("version"));
+
+        assertThat(json, is(new JsonObject().put("version", 1)));
+    }
+
+    @Test
+    public void testParseInvalidJson() {
+        assertThrows(DecodeException.class, () -> CruiseControlResponseParser.parse("[]", Set.of("summary")));
+        assertThrows(DecodeException.class, () -> CruiseControlResponseParser.parse(Buffer.buffer("{\"summary\":"), Set.of("summary")));
+    }
+}
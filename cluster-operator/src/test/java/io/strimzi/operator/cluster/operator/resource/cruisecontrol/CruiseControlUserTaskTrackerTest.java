@@ -0,0 +1,134 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlUserTaskTrackerTest {
+    private static final String HOST = "my-cluster-cruise-control.my-namespace.svc";
+    private static final int PORT = 9090;
+
+    private static AsyncResult<CruiseControlResponse> response(String userTaskId, String status) {
+        return Future.succeededFuture(new CruiseControlResponse(userTaskId, new JsonObject().put("Status", status)));
+    }
+
+    @Test
+    public void testTasksArePolledTogether(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTaskStatuses(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", response("task-1", "Active"), "task-2", response("task-2", "InExecution"))));
+
+        CruiseControlUserTaskTracker tracker = new CruiseControlUserTaskTracker(vertx, 10, 100);
+
+        Checkpoint checkpoint = context.checkpoint(2);
+        tracker.track(HOST, PORT, apiClient, "task-1", this, result -> context.verify(() -> {
+            assertThat(result.succeeded(), is(true));
+            assertThat(result.result().getJson().getString("Status"), is("Active"));
+            tracker.untrack(HOST, "task-1", this);
+            checkpoint.flag();
+        }));
+        tracker.track(HOST, PORT, apiClient, "task-2", this, result -> context.verify(() -> {
+            assertThat(result.succeeded(), is(true));
+            assertThat(result.result().getJson().getString("Status"), is("InExecution"));
+            tracker.untrack(HOST, "task-2", this);
+            assertThat(tracker.trackedTasks(HOST), is(0));
+            verify(apiClient, atLeastOnce()).getUserTaskStatuses(HOST, PORT, Set.of("task-1", "task-2"));
+            verify(apiClient, never()).getUserTaskStatus(anyString(), anyInt(), anyString());
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void testMissingTaskFails(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTaskStatuses(anyString(), anyInt(), any())).thenReturn(Future.succeededFuture(Map.of()));
+
+        CruiseControlUserTaskTracker tracker = new CruiseControlUserTaskTracker(vertx, 10, 100);
+
+        Checkpoint checkpoint = context.checkpoint();
+        tracker.track(HOST, PORT, apiClient, "task-1", this, result -> context.verify(() -> {
+            assertThat(result.failed(), is(true));
+            assertThat(result.cause(), instanceOf(CruiseControlRestException.class));
+            tracker.untrack(HOST, "task-1", this);
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void testFailedTaskDoesNotFailOtherTasks(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTaskStatuses(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", Future.failedFuture(new CruiseControlRestException("Task failed")), "task-2", response("task-2", "Active"))));
+
+        CruiseControlUserTaskTracker tracker = new CruiseControlUserTaskTracker(vertx, 10, 100);
+
+        Checkpoint checkpoint = context.checkpoint(2);
+        tracker.track(HOST, PORT, apiClient, "task-1", this, result -> context.verify(() -> {
+            assertThat(result.failed(), is(true));
+            assertThat(result.cause().getMessage(), is("Task failed"));
+            tracker.untrack(HOST, "task-1", this);
+            checkpoint.flag();
+        }));
+        tracker.track(HOST, PORT, apiClient, "task-2", this, result -> context.verify(() -> {
+            assertThat(result.succeeded(), is(true));
+            assertThat(result.result().getJson().getString("Status"), is("Active"));
+            tracker.untrack(HOST, "task-2", this);
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void testTaskTrackedByMultipleOwners(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTaskStatuses(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", response("task-1", "Active"))));
+
+        CruiseControlUserTaskTracker tracker = new CruiseControlUserTaskTracker(vertx, 10, 100);
+        Object owner1 = new Object();
+        Object owner2 = new Object();
+
+        Checkpoint checkpoint = context.checkpoint(2);
+        tracker.track(HOST, PORT, apiClient, "task-1", owner1, result -> context.verify(() -> {
+            assertThat(result.succeeded(), is(true));
+            tracker.untrack(HOST, "task-1", owner1);
+            checkpoint.flag();
+        }));
+        // The second owner does not replace the handler of the first one
+        tracker.track(HOST, PORT, apiClient, "task-1", owner2, result -> context.verify(() -> {
+            assertThat(result.succeeded(), is(true));
+            tracker.untrack(HOST, "task-1", owner2);
+            checkpoint.flag();
+        }));
+
+        // The same owner cannot track the same task twice
+        assertThrows(IllegalStateException.class, () -> tracker.track(HOST, PORT, apiClient, "task-1", owner1, result -> { }));
+        assertThat(tracker.trackedTasks(HOST), is(1));
+    }
+}
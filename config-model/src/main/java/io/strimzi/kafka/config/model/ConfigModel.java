@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -20,6 +22,8 @@ import static java.util.Collections.singletonList;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ConfigModel {
+    private static final Pattern LIST_SEPARATOR = Pattern.compile(" *, *");
+
     private Scope scope;
     private Type type;
     private Number minimum;
@@ -29,6 +33,11 @@ public class ConfigModel {
     private List<String> values;
     private String pattern;
 
+    // Validators compiled from the model when they are first used. They are reset when the model changes.
+    private volatile Pattern compiledPattern;
+    private volatile Set<String> valueSet;
+    private volatile Set<String> itemSet;
+
     /**
      * @return The scope of the parameter.
      */
@@ -107,6 +116,7 @@ public class ConfigModel {
      */
     public void setItems(List<String> items) {
         this.items = items;
+        this.itemSet = null;
     }
 
     /**
@@ -123,6 +133,7 @@ public class ConfigModel {
      */
     public void setValues(List<String> values) {
         this.values = values;
+        this.valueSet = null;
     }
 
     /**
@@ -139,6 +150,34 @@ public class ConfigModel {
      */
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = null;
+    }
+
+    private Pattern compiledPattern() {
+        Pattern compiled = compiledPattern;
+        if (compiled == null) {
+            compiled = Pattern.compile(pattern);
+            compiledPattern = compiled;
+        }
+        return compiled;
+    }
+
+    private Set<String> valueSet() {
+        Set<String> set = valueSet;
+        if (set == null) {
+            set = new HashSet<>(values);
+            valueSet = set;
+        }
+        return set;
+    }
+
+    private Set<String> itemSet() {
+        Set<String> set = itemSet;
+        if (set == null) {
+            set = new HashSet<>(items);
+            itemSet = set;
+        }
+        return set;
     }
 
     /**
@@ -177,12 +216,12 @@ public class ConfigModel {
     private List<String> validateString(String configName, String value) {
         List<String> errors = emptyList();
         if (getValues() != null
-                && !getValues().contains(value)) {
+                && !valueSet().contains(value)) {
             errors = new ArrayList<>(1);
             errors.add(configName + " has value '" + value + "' which is not one of the allowed values: " + getValues());
         }
         if (getPattern() != null
-                && !value.matches(getPattern())) {
+                && !compiledPattern().matcher(value).matches()) {
             if (errors.isEmpty()) {
                 errors = new ArrayList<>(1);
             }
@@ -192,17 +231,17 @@ public class ConfigModel {
     }
 
     private List<String> validateBoolean(String configName, String value) {
-        if (!value.matches("true|false")) {
+        if (!"true".equals(value) && !"false".equals(value)) {
             return singletonList(configName + " has value '" + value + "' which is not a boolean");
         }
         return emptyList();
     }
 
     private List<String> validateList(String configName, String value) {
-        List<String> l = asList(value.trim().split(" *, *", -1));
+        List<String> l = asList(LIST_SEPARATOR.split(value.trim(), -1));
         if (getItems() != null) {
             HashSet<String> items = new HashSet<>(l);
-            items.removeAll(getItems());
+            items.removeAll(itemSet());
             if (!items.isEmpty()) {
                 return singletonList(configName + " contains values " + items + " which are not in the allowed items " + getItems());
             }
@@ -0,0 +1,56 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the broker configuration models. The configuration model of each Kafka version is read from the
+ * {@code kafka-<version>-config-model.json} classpath resource only once and shared afterwards. The returned models
+ * should not be modified.
+ */
+public class ConfigModelRegistry {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
+    private ConfigModelRegistry() { }
+
+    /**
+     * Gets the config model for the given version of the Kafka broker.
+     *
+     * @param kafkaVersion  The broker version.
+     *
+     * @return The config model for that broker version.
+     */
+    public static Map<String, ConfigModel> configModel(String kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion, ConfigModelRegistry::readConfigModel);
+    }
+
+    private static Map<String, ConfigModel> readConfigModel(String kafkaVersion) {
+        String name = "/kafka-" + kafkaVersion + "-config-model.json";
+        try {
+            try (InputStream in = ConfigModelRegistry.class.getResourceAsStream(name)) {
+                if (in != null) {
+                    ConfigModels configModels = MAPPER.readValue(in, ConfigModels.class);
+                    if (!kafkaVersion.equals(configModels.getVersion())) {
+                        throw new RuntimeException("Incorrect version");
+                    }
+                    return Collections.unmodifiableMap(configModels.getConfigs());
+                } else {
+                    // The configuration model does not exist
+                    throw new RuntimeException("Configuration model " + name + " was not found");
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+}
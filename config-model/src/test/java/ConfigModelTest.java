@@ -33,6 +33,24 @@ public class ConfigModelTest {
                 is(singletonList("test has value 'baz' which does not match the required pattern: foo|bar")));
     }
 
+    @Test
+    public void testValidationAfterModelChange() {
+        ConfigModel cm = new ConfigModel();
+        cm.setType(Type.STRING);
+        cm.setPattern("foo|bar");
+        assertThat(cm.validate("test",  "baz"),
+                is(singletonList("test has value 'baz' which does not match the required pattern: foo|bar")));
+        cm.setPattern("ba.");
+        assertThat(cm.validate("test",  "baz"), is(emptyList()));
+
+        cm.setType(Type.LIST);
+        cm.setItems(asList("foo", "bar"));
+        assertThat(cm.validate("test", "foo,baz"),
+                is(singletonList("test contains values [baz] which are not in the allowed items [foo, bar]")));
+        cm.setItems(asList("foo", "baz"));
+        assertThat(cm.validate("test", "foo,baz"), is(emptyList()));
+    }
+
     @Test
     public void testBooleanValidation() {
         ConfigModel cm = new ConfigModel();
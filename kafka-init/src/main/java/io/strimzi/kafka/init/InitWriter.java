@@ -4,8 +4,10 @@
  */
 package io.strimzi.kafka.init;
 
+import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.NodeAddress;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 
 import io.strimzi.api.kafka.model.listener.NodeAddressType;
 import io.strimzi.operator.common.model.NodeUtils;
@@ -17,6 +19,7 @@ import java.io.PrintWriter;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Collects and writes the configuration collected in the init container
@@ -26,10 +29,18 @@ public class InitWriter {
 
     private KubernetesClient client;
     private InitWriterConfig config;
+    private final long initialBackoffMs;
+
+    // The node is fetched only once and shared by all the information written by the init container
+    private Node node;
 
     protected final static String FILE_RACK_ID = "rack.id";
     protected final static String FILE_EXTERNAL_ADDRESS = "external.address";
 
+    /* test */ final static int NODE_FETCH_ATTEMPTS = 6;
+    private final static long DEFAULT_INITIAL_BACKOFF_MS = 500L;
+    private final static long MAX_BACKOFF_MS = 16_000L;
+
     /**
      * Constructs the InitWriter
      *
@@ -37,8 +48,20 @@ public class InitWriter {
      * @param config    InitWriter configuration
      */
     public InitWriter(KubernetesClient client, InitWriterConfig config) {
+        this(client, config, DEFAULT_INITIAL_BACKOFF_MS);
+    }
+
+    /**
+     * Constructs the InitWriter
+     *
+     * @param client            Kubernetes client
+     * @param config            InitWriter configuration
+     * @param initialBackoffMs  Backoff before the first retry of the node fetch
+     */
+    /* test */ InitWriter(KubernetesClient client, InitWriterConfig config, long initialBackoffMs) {
         this.client = client;
         this.config = config;
+        this.initialBackoffMs = initialBackoffMs;
     }
 
     /**
@@ -47,8 +70,13 @@ public class InitWriter {
      * @return if the operation was executed successfully
      */
     public boolean writeRack() {
+        Node node = node();
 
-        Map<String, String> nodeLabels = client.nodes().withName(config.getNodeName()).get().getMetadata().getLabels();
+        if (node == null) {
+            return false;
+        }
+
+        Map<String, String> nodeLabels = node.getMetadata().getLabels();
         LOGGER.info("NodeLabels = {}", nodeLabels);
         String rackId = nodeLabels.get(config.getRackTopologyKey());
         LOGGER.info("Rack: {} = {}", config.getRackTopologyKey(), rackId);
@@ -68,7 +96,13 @@ public class InitWriter {
      * @return if the operation was executed successfully
      */
     public boolean writeExternalAddress() {
-        List<NodeAddress> addresses = client.nodes().withName(config.getNodeName()).get().getStatus().getAddresses();
+        Node node = node();
+
+        if (node == null) {
+            return false;
+        }
+
+        List<NodeAddress> addresses = node.getStatus().getAddresses();
         StringBuilder externalAddresses = new StringBuilder();
 
         String address = NodeUtils.findAddress(addresses, null);
@@ -90,6 +124,67 @@ public class InitWriter {
         return write(FILE_EXTERNAL_ADDRESS, externalAddresses.toString());
     }
 
+    /**
+     * Gets the Kubernetes node on which the pod is running. The node is fetched from the Kubernetes API only once and
+     * used for both the rack and the external address. When many brokers start at the same time (for example after a
+     * full cluster restart), the Kubernetes API might throttle the requests or be temporarily unavailable. Such
+     * failures are retried with an exponential backoff. The random jitter spreads the retries of the different brokers.
+     *
+     * @return  The Kubernetes node or null if it could not be fetched
+     */
+    /* test */ Node node() {
+        if (node != null) {
+            return node;
+        }
+
+        long backoffMs = initialBackoffMs;
+
+        for (int attempt = 1; attempt <= NODE_FETCH_ATTEMPTS; attempt++) {
+            try {
+                node = client.nodes().withName(config.getNodeName()).get();
+
+                if (node == null) {
+                    LOGGER.error("Node {} was not found", config.getNodeName());
+                }
+
+                return node;
+            } catch (KubernetesClientException e) {
+                if (!isRetriable(e) || attempt == NODE_FETCH_ATTEMPTS) {
+                    LOGGER.error("Failed to get node {}", config.getNodeName(), e);
+                    return null;
+                }
+
+                long delayMs = backoffMs / 2 + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1);
+                LOGGER.warn("Failed to get node {} (attempt {} of {}). Retrying in {} ms: {}", config.getNodeName(), attempt, NODE_FETCH_ATTEMPTS, delayMs, e.getMessage());
+
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.error("Interrupted while waiting to get node {}", config.getNodeName());
+                    return null;
+                }
+
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether the failed request should be retried. Retried are the connection failures, the throttled requests
+     * and the server errors. Other errors (such as missing RBAC rights) would fail again.
+     *
+     * @param e     Exception thrown by the Kubernetes client
+     *
+     * @return  True if the request should be retried. False otherwise.
+     */
+    private static boolean isRetriable(KubernetesClientException e) {
+        int code = e.getCode();
+        return code <= 0 || code == 429 || code >= 500;
+    }
+
     /**
      * Formats address type and address into shell export command for environment variable
      *
@@ -7,9 +7,11 @@ package io.strimzi.kafka.init;
 import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.NodeAddress;
 import io.fabric8.kubernetes.api.model.NodeAddressBuilder;
+import io.fabric8.kubernetes.api.model.NodeBuilder;
 import io.fabric8.kubernetes.api.model.NodeStatus;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import org.junit.jupiter.api.Test;
@@ -26,8 +28,11 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class InitWriterTest {
@@ -130,6 +135,71 @@ public class InitWriterTest {
         assertThat(writer.writeRack(), is(false));
     }
 
+    @Test
+    public void testNodeIsFetchedOnceWithRetries() throws IOException {
+        File kafkaFolder = new File(tempDir.getPath(), "/opt/kafka");
+        String initFolder = kafkaFolder.getAbsolutePath() + "/init";
+        new File(initFolder).mkdirs();
+
+        Map<String, String> envVars = new HashMap<>(InitWriterTest.envVars);
+        envVars.put(InitWriterConfig.INIT_FOLDER, initFolder);
+
+        InitWriterConfig config = InitWriterConfig.fromMap(envVars);
+
+        Node node = new NodeBuilder()
+                .withNewMetadata()
+                    .withName(config.getNodeName())
+                    .withLabels(labels)
+                .endMetadata()
+                .withNewStatus()
+                    .withAddresses(addresses)
+                .endStatus()
+                .build();
+
+        KubernetesClient client = mock(KubernetesClient.class);
+        NonNamespaceOperation mockNodes = mock(NonNamespaceOperation.class);
+        Resource mockResource = mock(Resource.class);
+
+        when(client.nodes()).thenReturn(mockNodes);
+        when(mockNodes.withName(config.getNodeName())).thenReturn(mockResource);
+        when(mockResource.get())
+                .thenThrow(new KubernetesClientException("Too Many Requests", 429, null))
+                .thenThrow(new KubernetesClientException("Service Unavailable", 503, null))
+                .thenReturn(node);
+
+        InitWriter writer = new InitWriter(client, config, 1L);
+        assertThat(writer.writeRack(), is(true));
+        assertThat(writer.writeExternalAddress(), is(true));
+        assertThat(readFile(initFolder + "/rack.id"), is("eu-zone1"));
+
+        // Two failed attempts and one successful fetch shared by the rack and the external address
+        verify(mockResource, times(3)).get();
+    }
+
+    @Test
+    public void testNodeFetchFailures() {
+        InitWriterConfig config = InitWriterConfig.fromMap(envVars);
+
+        KubernetesClient client = mock(KubernetesClient.class);
+        NonNamespaceOperation mockNodes = mock(NonNamespaceOperation.class);
+        Resource mockResource = mock(Resource.class);
+
+        when(client.nodes()).thenReturn(mockNodes);
+        when(mockNodes.withName(config.getNodeName())).thenReturn(mockResource);
+
+        // Throttled requests are retried until the attempts are exhausted
+        when(mockResource.get()).thenThrow(new KubernetesClientException("Too Many Requests", 429, null));
+        assertThat(new InitWriter(client, config, 1L).node(), is(nullValue()));
+        verify(mockResource, times(InitWriter.NODE_FETCH_ATTEMPTS)).get();
+
+        // Forbidden requests are not retried
+        Resource forbiddenResource = mock(Resource.class);
+        when(mockNodes.withName(config.getNodeName())).thenReturn(forbiddenResource);
+        when(forbiddenResource.get()).thenThrow(new KubernetesClientException("Forbidden", 403, null));
+        assertThat(new InitWriter(client, config, 1L).writeRack(), is(false));
+        verify(forbiddenResource, times(1)).get();
+    }
+
     private String readFile(String file) throws IOException {
         return new String(Files.readAllBytes(Paths.get(file)));
     }
@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube2;
+
+import io.strimzi.operator.common.metrics.KubernetesApiRequestType;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the requests received by the Fabric8 Kubernetes Mock server by verb and resource (for example "list pods"
+ * or "patch strimzipodsets/status"). The mock web server logs every request it receives. This class hooks into this
+ * log to count the requests without keeping them in memory.
+ *
+ * The counter counts all requests received by the mock server while it is open. This includes the requests made by
+ * the mock controllers or by the test itself.
+ */
+public class ApiRequestCounter implements AutoCloseable {
+    private static final String MOCK_WEB_SERVER_LOGGER = "okhttp3.mockwebserver.MockWebServer";
+    private static final Pattern REQUEST_PATTERN = Pattern.compile("received request: ([A-Z]+) (\\S+)");
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    // Strong reference to the logger to make sure our configuration is not garbage collected
+    private final Logger logger = Logger.getLogger(MOCK_WEB_SERVER_LOGGER);
+    private final Level previousLevel;
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            if (record.getMessage() != null) {
+                Matcher matcher = REQUEST_PATTERN.matcher(record.getMessage());
+
+                if (matcher.find()) {
+                    counts.computeIfAbsent(verbAndResource(matcher.group(1), matcher.group(2)), k -> new LongAdder()).increment();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            // Nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close
+        }
+    };
+
+    /**
+     * Creates the counter and starts counting the requests
+     */
+    public ApiRequestCounter() {
+        previousLevel = logger.getLevel();
+        // The requests are logged on the INFO level
+        logger.setLevel(Level.INFO);
+        logger.addHandler(handler);
+    }
+
+    /**
+     * Resets the counters
+     */
+    public void reset() {
+        counts.clear();
+    }
+
+    /**
+     * @return  Map with the number of requests for each verb and resource sorted by the verb and resource
+     */
+    public Map<String, Long> counts() {
+        Map<String, Long> result = new TreeMap<>();
+        counts.forEach((key, count) -> result.put(key, count.sum()));
+        return result;
+    }
+
+    /**
+     * @return  The total number of requests
+     */
+    public long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Stops counting the requests
+     */
+    @Override
+    public void close() {
+        logger.removeHandler(handler);
+        logger.setLevel(previousLevel);
+    }
+
+    /**
+     * Maps the HTTP method and path of the request to the Kubernetes verb and resource using the same parsing as the
+     * Kubernetes API metrics of the operators. For example, GET of /api/v1/namespaces/my-namespace/pods is mapped to
+     * "list pods" and PATCH of
+     * /apis/core.strimzi.io/v1beta2/namespaces/my-namespace/strimzipodsets/my-cluster-brokers/status is mapped to
+     * "patch strimzipodsets/status".
+     *
+     * @param method    HTTP method
+     * @param path      HTTP path including the query
+     *
+     * @return  Verb and resource of the request
+     */
+    /* test */ static String verbAndResource(String method, String path) {
+        int queryIndex = path.indexOf('?');
+        KubernetesApiRequestType type = queryIndex >= 0
+                ? KubernetesApiRequestType.of(method, path.substring(0, queryIndex), path.substring(queryIndex + 1))
+                : KubernetesApiRequestType.of(method, path, null);
+
+        if (type.kind().isEmpty()) {
+            // Not a resource path
+            return method + " " + (queryIndex >= 0 ? path.substring(0, queryIndex) : path);
+        } else {
+            return type.verb() + " " + type.kind();
+        }
+    }
+}
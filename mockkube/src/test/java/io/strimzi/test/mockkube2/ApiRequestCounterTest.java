@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube2;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@EnableKubernetesMockClient(crud = true)
+public class ApiRequestCounterTest {
+    private final static String NAMESPACE = "my-namespace";
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    @Test
+    public void testVerbAndResource() {
+        assertThat(ApiRequestCounter.verbAndResource("GET", "/api/v1/namespaces/my-namespace/pods"), is("list pods"));
+        assertThat(ApiRequestCounter.verbAndResource("GET", "/api/v1/namespaces/my-namespace/pods?labelSelector=app%3Dkafka"), is("list pods"));
+        assertThat(ApiRequestCounter.verbAndResource("GET", "/api/v1/namespaces/my-namespace/pods?watch=true"), is("watch pods"));
+        assertThat(ApiRequestCounter.verbAndResource("GET", "/api/v1/namespaces/my-namespace/pods/my-pod"), is("get pods"));
+        assertThat(ApiRequestCounter.verbAndResource("POST", "/api/v1/namespaces/my-namespace/services"), is("create services"));
+        assertThat(ApiRequestCounter.verbAndResource("PUT", "/apis/apps/v1/namespaces/my-namespace/deployments/my-deployment"), is("update deployments"));
+        assertThat(ApiRequestCounter.verbAndResource("PATCH", "/apis/kafka.strimzi.io/v1beta2/namespaces/my-namespace/kafkas/my-cluster/status"), is("patch kafkas/status"));
+        assertThat(ApiRequestCounter.verbAndResource("DELETE", "/api/v1/namespaces/my-namespace/secrets/my-secret"), is("delete secrets"));
+        assertThat(ApiRequestCounter.verbAndResource("DELETE", "/api/v1/namespaces/my-namespace/secrets"), is("deletecollection secrets"));
+        assertThat(ApiRequestCounter.verbAndResource("GET", "/api/v1/namespaces/my-namespace"), is("get namespaces"));
+        assertThat(ApiRequestCounter.verbAndResource("GET", "/api/v1/nodes"), is("list nodes"));
+    }
+
+    @Test
+    public void testRequestsAreCounted() {
+        try (ApiRequestCounter counter = new ApiRequestCounter()) {
+            client.configMaps().inNamespace(NAMESPACE).resource(new ConfigMapBuilder()
+                    .withNewMetadata()
+                        .withName("my-config-map")
+                        .withNamespace(NAMESPACE)
+                    .endMetadata()
+                    .build()).create();
+            client.configMaps().inNamespace(NAMESPACE).list();
+
+            // The mock server logs the request only after it sent the response
+            TestUtils.waitFor("requests to be counted", 100L, 10_000L, () -> counter.total() == 2L);
+            assertThat(counter.counts(), is(Map.of("create configmaps", 1L, "list configmaps", 1L)));
+
+            counter.reset();
+            assertThat(counter.total(), is(0L));
+        }
+    }
+}
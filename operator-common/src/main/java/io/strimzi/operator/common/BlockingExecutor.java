@@ -0,0 +1,206 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tags;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executes the blocking operations of the operators such as the calls to the Kubernetes API done through the Fabric8
+ * Kubernetes client. By default, the operations are executed in the {@code kubernetes-ops-pool} shared worker
+ * executor of Vert.x. Its size limits how many blocking operations can run at the same time.
+ *
+ * Optionally, the operations can be executed in virtual threads when running on Java 21 or newer. Each operation gets
+ * its own virtual thread, and the number of the operations running at the same time is limited by a semaphore instead
+ * of the size of the thread pool. The number of the running and waiting operations is exposed in metrics. The ordered
+ * operations executed from the same Vert.x context run one after another in the same way as in the worker executor.
+ * The result of the operation is delivered on the Vert.x context from which the operation was executed.
+ */
+public class BlockingExecutor {
+    private static final Logger LOGGER = LogManager.getLogger(BlockingExecutor.class);
+
+    /**
+     * Name of the shared worker executor used for the blocking operations
+     */
+    public static final String KUBERNETES_OPS_POOL = "kubernetes-ops-pool";
+
+    /* test */ static final String IN_FLIGHT_METRIC = "strimzi.blocking.operations.in.flight";
+    /* test */ static final String WAITING_METRIC = "strimzi.blocking.operations.waiting";
+
+    private static volatile VirtualThreadExecutor virtualThreadExecutor = null;
+
+    private BlockingExecutor() { }
+
+    /**
+     * Switches the execution of the blocking operations to virtual threads. This is possible only on Java 21 or newer.
+     * On older Java versions, the blocking operations keep using the shared worker executor. When called again, the
+     * metrics registered by the first call are reused.
+     *
+     * @param maxConcurrentOperations   Maximal number of blocking operations running at the same time
+     * @param metricsProvider           Metrics provider used for the metrics of the blocking operations
+     *
+     * @return  True if the blocking operations will be executed in virtual threads. False otherwise.
+     */
+    public static synchronized boolean useVirtualThreads(int maxConcurrentOperations, MetricsProvider metricsProvider) {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+        if (executor == null) {
+            LOGGER.warn("Virtual threads are not supported by Java {}. The blocking operations will be executed in the {} shared worker executor.", Runtime.version().feature(), KUBERNETES_OPS_POOL);
+            return false;
+        }
+
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.executor.shutdown();
+            virtualThreadExecutor = new VirtualThreadExecutor(executor, maxConcurrentOperations, virtualThreadExecutor.inFlight, virtualThreadExecutor.waiting);
+        } else {
+            virtualThreadExecutor = new VirtualThreadExecutor(executor, maxConcurrentOperations,
+                    metricsProvider.gauge(IN_FLIGHT_METRIC, "Number of the blocking operations which are running", Tags.empty()),
+                    metricsProvider.gauge(WAITING_METRIC, "Number of the blocking operations which are waiting to be started", Tags.empty()));
+        }
+
+        LOGGER.info("The blocking operations will be executed in virtual threads with at most {} operations running at the same time", maxConcurrentOperations);
+
+        return true;
+    }
+
+    /**
+     * Switches the execution of the blocking operations back to the shared worker executor
+     */
+    /* test */ static synchronized void useWorkerPool() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.executor.shutdown();
+            virtualThreadExecutor = null;
+        }
+    }
+
+    /**
+     * Executes the blocking code. The blocking code completes the promise passed to it with the result of the
+     * operation.
+     *
+     * @param vertx                 Vert.x instance
+     * @param blockingCodeHandler   Handler with the blocking code
+     * @param ordered               Whether the blocking code executions from the same context should be executed
+     *                              in order
+     * @param resultHandler         Handler which is called with the result
+     *
+     * @param <T>   Type of the result
+     */
+    @SuppressWarnings("deprecation") // Uses a deprecated executeBlocking call that should be addressed later. This is tracked in https://github.com/strimzi/strimzi-kafka-operator/issues/9233
+    public static <T> void executeBlocking(Vertx vertx, Handler<Promise<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+        VirtualThreadExecutor executor = virtualThreadExecutor;
+
+        if (executor != null) {
+            executor.execute(vertx, blockingCodeHandler, ordered, resultHandler);
+        } else {
+            vertx.createSharedWorkerExecutor(KUBERNETES_OPS_POOL).executeBlocking(blockingCodeHandler, ordered, resultHandler);
+        }
+    }
+
+    /**
+     * Creates the virtual thread per task executor. It uses reflection because the operators are built for Java 17
+     * where virtual threads are not available.
+     *
+     * @return  Executor using virtual threads or null when virtual threads are not supported
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Executes the blocking operations in virtual threads
+     */
+    private static class VirtualThreadExecutor {
+        private final ExecutorService executor;
+        private final Semaphore permits;
+        private final AtomicInteger inFlight;
+        private final AtomicInteger waiting;
+        // Key of the ordered operations of this executor in the Vert.x context data
+        private final Object orderedTasksKey = new Object();
+
+        VirtualThreadExecutor(ExecutorService executor, int maxConcurrentOperations, AtomicInteger inFlight, AtomicInteger waiting) {
+            this.executor = executor;
+            this.permits = new Semaphore(Math.max(1, maxConcurrentOperations));
+            this.inFlight = inFlight;
+            this.waiting = waiting;
+        }
+
+        <T> void execute(Vertx vertx, Handler<Promise<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+            Context context = vertx.getOrCreateContext();
+            Future<T> result = ordered ? orderedTasks(context).add(() -> submit(blockingCodeHandler)) : submit(blockingCodeHandler);
+            result.onComplete(res -> context.runOnContext(v -> resultHandler.handle(res)));
+        }
+
+        private synchronized OrderedTasks orderedTasks(Context context) {
+            OrderedTasks tasks = context.get(orderedTasksKey);
+
+            if (tasks == null) {
+                tasks = new OrderedTasks();
+                context.put(orderedTasksKey, tasks);
+            }
+
+            return tasks;
+        }
+
+        private <T> Future<T> submit(Handler<Promise<T>> blockingCodeHandler) {
+            Promise<T> promise = Promise.promise();
+
+            waiting.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    waiting.decrementAndGet();
+                    promise.fail(e);
+                    return;
+                }
+
+                waiting.decrementAndGet();
+                inFlight.incrementAndGet();
+
+                try {
+                    blockingCodeHandler.handle(promise);
+                } catch (Throwable t) {
+                    promise.tryFail(t);
+                } finally {
+                    inFlight.decrementAndGet();
+                    permits.release();
+                }
+            });
+
+            return promise.future();
+        }
+    }
+
+    /**
+     * Ordered operations of a single Vert.x context. Each operation is submitted only once the previous one completes.
+     */
+    private static class OrderedTasks {
+        private Future<Void> last = Future.succeededFuture();
+
+        synchronized <T> Future<T> add(Supplier<Future<T>> task) {
+            Future<T> result = last.compose(i -> task.get());
+            last = result.<Void>mapEmpty().otherwiseEmpty();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tags;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client-side rate limiter for the operations on the Kubernetes API. It is a token bucket which is refilled with the
+ * configured number of tokens per second up to the configured burst. Each operation takes one token before it is
+ * executed. When no token is available, the operation waits in the queue of its priority. Waiting operations get the
+ * tokens by their priority, so the operations with a higher priority (such as the pod restarts) are preferred to the
+ * operations with a lower priority (such as reads). Operations with the same priority are served in the order in which
+ * they arrived. To make sure the operations with a lower priority are not starved when the operations with a higher
+ * priority use all the tokens, operations waiting longer than the maximal wait time are served first regardless of
+ * their priority in the order in which they arrived.
+ *
+ * The waiting is asynchronous and does not block any threads. The operation is continued on the Vert.x context from
+ * which it was started. The number of the waiting operations is exposed in metrics for each priority.
+ */
+public class KubernetesApiRateLimiter {
+    private static final Logger LOGGER = LogManager.getLogger(KubernetesApiRateLimiter.class);
+
+    /* test */ static final String WAITING_METRIC = "strimzi.kubernetes.api.rate.limiter.waiting";
+
+    private static final long DEFAULT_MAX_WAIT_MS = 5_000L;
+
+    /**
+     * Priorities of the Kubernetes API operations from the highest to the lowest
+     */
+    public enum Priority {
+        /**
+         * Pod restarts done when rolling the pods
+         */
+        RESTART,
+
+        /**
+         * Status updates of the custom resources
+         */
+        STATUS_UPDATE,
+
+        /**
+         * Creating, updating and deleting resources
+         */
+        DEFAULT,
+
+        /**
+         * Reading and listing resources
+         */
+        READ
+    }
+
+    private final Vertx vertx;
+    private final double tokensPerNano;
+    private final double burst;
+    private final long maxWaitNanos;
+    private final Map<Priority, Queue<Waiter>> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, AtomicInteger> waiting = new EnumMap<>(Priority.class);
+
+    // Guarded by this
+    private double tokens;
+    private long lastRefillNanos;
+    private boolean timerScheduled = false;
+
+    /**
+     * Constructs the rate limiter of the Kubernetes API operations
+     *
+     * @param vertx             Vert.x instance used for the timers
+     * @param qps               Number of operations per second
+     * @param burst             Maximal number of operations which can be executed at once after a period without any
+     *                          operations. When zero or negative, the number of operations per second is used.
+     * @param metricsProvider   Metrics provider used for the metrics of the rate limiter
+     */
+    public KubernetesApiRateLimiter(Vertx vertx, int qps, int burst, MetricsProvider metricsProvider) {
+        this(vertx, qps, burst, DEFAULT_MAX_WAIT_MS, metricsProvider);
+    }
+
+    /* test */ KubernetesApiRateLimiter(Vertx vertx, int qps, int burst, long maxWaitMs, MetricsProvider metricsProvider) {
+        if (qps <= 0) {
+            throw new IllegalArgumentException("The number of Kubernetes API operations per second has to be positive");
+        }
+
+        this.vertx = vertx;
+        this.tokensPerNano = qps / 1_000_000_000.0;
+        this.burst = burst > 0 ? burst : qps;
+        this.maxWaitNanos = maxWaitMs * 1_000_000L;
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            waiting.put(priority, metricsProvider.gauge(WAITING_METRIC, "Number of the Kubernetes API operations waiting for the rate limiter", Tags.of("priority", priority.name().toLowerCase(Locale.ROOT))));
+        }
+
+        LOGGER.info("The Kubernetes API operations will be limited to {} per second with bursts of up to {} operations", qps, (int) this.burst);
+    }
+
+    /**
+     * Waits until the operation with given priority can be executed. The returned Future completes on the current
+     * Vert.x context.
+     *
+     * @param priority  Priority of the operation
+     *
+     * @return  Future which completes when the operation can be executed
+     */
+    public Future<Void> acquire(Priority priority) {
+        return acquire(priority, vertx.getOrCreateContext());
+    }
+
+    /* test */ Future<Void> acquire(Priority priority, Context context) {
+        List<Runnable> granted;
+        Promise<Void> promise;
+
+        synchronized (this) {
+            refill();
+
+            if (tokens >= 1 && noneWaiting()) {
+                // Fast path => no need to switch the context
+                tokens -= 1;
+                return Future.succeededFuture();
+            }
+
+            promise = Promise.promise();
+            queues.get(priority).add(new Waiter(promise, context, System.nanoTime()));
+            waiting.get(priority).incrementAndGet();
+
+            granted = grant();
+        }
+
+        granted.forEach(Runnable::run);
+        return promise.future();
+    }
+
+    private void onTimer() {
+        List<Runnable> granted;
+
+        synchronized (this) {
+            timerScheduled = false;
+            refill();
+            granted = grant();
+        }
+
+        granted.forEach(Runnable::run);
+    }
+
+    /**
+     * Hands out the available tokens to the waiting operations and schedules the timer for the next token if any
+     * operation is still waiting. The operations which waited longer than the maximal wait time are served first in
+     * the order in which they arrived. The remaining tokens are handed out by the priority. Has to be called while
+     * holding the lock.
+     *
+     * @return  List of actions completing the operations which got the token. They should be run without the lock.
+     */
+    private List<Runnable> grant() {
+        List<Runnable> granted = new ArrayList<>();
+        long now = System.nanoTime();
+
+        while (tokens >= 1) {
+            Priority oldest = null;
+
+            for (Priority priority : Priority.values()) {
+                Waiter waiter = queues.get(priority).peek();
+
+                if (waiter != null
+                        && now - waiter.queuedNanos() >= maxWaitNanos
+                        && (oldest == null || waiter.queuedNanos() < queues.get(oldest).peek().queuedNanos())) {
+                    oldest = priority;
+                }
+            }
+
+            if (oldest == null) {
+                break;
+            }
+
+            granted.add(take(oldest));
+        }
+
+        for (Priority priority : Priority.values()) {
+            Queue<Waiter> queue = queues.get(priority);
+
+            while (tokens >= 1 && !queue.isEmpty()) {
+                granted.add(take(priority));
+            }
+        }
+
+        if (!noneWaiting() && !timerScheduled) {
+            long delayMs = Math.max(1L, (long) Math.ceil((1 - tokens) / tokensPerNano / 1_000_000.0));
+            timerScheduled = true;
+            vertx.setTimer(delayMs, id -> onTimer());
+        }
+
+        return granted;
+    }
+
+    private Runnable take(Priority priority) {
+        tokens -= 1;
+        waiting.get(priority).decrementAndGet();
+
+        Waiter waiter = queues.get(priority).poll();
+        return () -> waiter.context().runOnContext(v -> waiter.promise().complete());
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+
+    private boolean noneWaiting() {
+        return queues.values().stream().allMatch(Queue::isEmpty);
+    }
+
+    /**
+     * Operation waiting for a token
+     *
+     * @param promise       Promise completed when the operation gets the token
+     * @param context       Vert.x context on which the promise should be completed
+     * @param queuedNanos   Time when the operation started waiting
+     */
+    private record Waiter(Promise<Void> promise, Context context, long queuedNanos) { }
+}
@@ -5,10 +5,12 @@
 package io.strimzi.operator.common;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -42,6 +44,30 @@ public interface MetricsProvider {
      */
     Timer timer(String name, String description, Tags tags);
 
+    /**
+     * Creates new Timer type metric with custom histogram buckets. This is useful for timing short operations for
+     * which the default buckets are too coarse.
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param buckets       Upper bounds of the histogram buckets
+     * @return              Timer metric
+     */
+    Timer timer(String name, String description, Tags tags, Duration... buckets);
+
+    /**
+     * Creates new DistributionSummary type metric
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param baseUnit      Base unit of the recorded values (e.g. bytes)
+     * @param tags          Tags used for the metric
+     * @param buckets       Upper bounds of the histogram buckets
+     * @return              DistributionSummary metric
+     */
+    DistributionSummary distributionSummary(String name, String description, String baseUnit, Tags tags, double... buckets);
+
     /**
      * Creates new Gauge type metric
      *
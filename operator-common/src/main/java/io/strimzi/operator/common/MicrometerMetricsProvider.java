@@ -5,6 +5,7 @@
 package io.strimzi.operator.common;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -79,6 +80,44 @@ public class MicrometerMetricsProvider implements MetricsProvider {
                 .register(metrics);
     }
 
+    /**
+     * Creates new Timer type metric with custom histogram buckets
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param buckets       Upper bounds of the histogram buckets
+     * @return              Timer metric
+     */
+    @Override
+    public Timer timer(String name, String description, Tags tags, Duration... buckets) {
+        return Timer.builder(name)
+                .description(description)
+                .serviceLevelObjectives(buckets)
+                .tags(tags)
+                .register(metrics);
+    }
+
+    /**
+     * Creates new DistributionSummary type metric
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param baseUnit      Base unit of the recorded values (e.g. bytes)
+     * @param tags          Tags used for the metric
+     * @param buckets       Upper bounds of the histogram buckets
+     * @return              DistributionSummary metric
+     */
+    @Override
+    public DistributionSummary distributionSummary(String name, String description, String baseUnit, Tags tags, double... buckets) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .serviceLevelObjectives(buckets)
+                .tags(tags)
+                .register(metrics);
+    }
+
     /**
      * Creates new Gauge type metric
      *
@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.strimzi.operator.common.metrics.KubernetesApiMetricsInterceptor;
 
 /**
  * Class for generating Kubernetes Clients for Operators.
@@ -35,8 +36,28 @@ public class OperatorKubernetesClientBuilder {
      * @return the Kubernetes Client
      */
     public KubernetesClient build() {
+        return builder().build();
+    }
+
+    /**
+     * Builds the KubernetesClient which records metrics about the requests sent to the Kubernetes API server. The
+     * metrics are recorded by {@link KubernetesApiMetricsInterceptor}.
+     *
+     * @param metricsProvider   Metrics provider used to record the Kubernetes API metrics
+     *
+     * @return the Kubernetes Client
+     */
+    public KubernetesClient build(MetricsProvider metricsProvider) {
+        KubernetesApiMetricsInterceptor interceptor = new KubernetesApiMetricsInterceptor(metricsProvider);
+
+        return builder()
+                .withHttpClientBuilderConsumer(httpClientBuilder -> httpClientBuilder.addOrReplaceInterceptor(KubernetesApiMetricsInterceptor.NAME, interceptor))
+                .build();
+    }
+
+    private KubernetesClientBuilder builder() {
         final String userAgent = String.format("%s/%s", componentName, version);
         final Config kubernetesClientConfig = new ConfigBuilder().withUserAgent(userAgent).build();
-        return new KubernetesClientBuilder().withConfig(kubernetesClientConfig).build();
+        return new KubernetesClientBuilder().withConfig(kubernetesClientConfig);
     }
 }
@@ -126,7 +126,7 @@ public final class VertxUtil {
             @Override
             @SuppressWarnings("deprecation") // Uses a deprecated executeBlocking call that should be addressed later. This is tracked in https://github.com/strimzi/strimzi-kafka-operator/issues/9233
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                BlockingExecutor.executeBlocking(vertx,
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
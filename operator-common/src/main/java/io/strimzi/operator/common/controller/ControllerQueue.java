@@ -42,6 +42,13 @@ public class ControllerQueue {
         return queue.take();
     }
 
+    /**
+     * @return  The number of reconciliations waiting in the queue
+     */
+    public int size() {
+        return queue.size();
+    }
+
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
      * the queue and enqueues the new event only if it is not there yet.
@@ -0,0 +1,134 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor for the Fabric8 HTTP client which records metrics about the Kubernetes API requests made by the
+ * operator. The metrics are tagged with the verb (for example list, watch or patch), the kind of the resource (for
+ * example pods or kafkas/status) and the namespace. They can be used to find out which resources and operations
+ * generate the most load on the Kubernetes API server.
+ *
+ * The following metrics are recorded:
+ *   - strimzi.kubernetes.api.requests counts all requests including the watches
+ *   - strimzi.kubernetes.api.request.duration measures the time until the response headers are received
+ *   - strimzi.kubernetes.api.request.size records the size of the request bodies
+ *   - strimzi.kubernetes.api.response.size records the size of the response bodies when the API server sends the
+ *     Content-Length header (large responses are often chunked and are not recorded)
+ *   - strimzi.kubernetes.api.throttled.requests counts the requests rejected with HTTP 429 Too Many Requests
+ */
+public class KubernetesApiMetricsInterceptor implements Interceptor {
+    /**
+     * Name under which the interceptor is registered in the HTTP client
+     */
+    public static final String NAME = "strimzi-kubernetes-api-metrics";
+
+    private static final String METRICS_PREFIX = MetricsHolder.METRICS_PREFIX + "kubernetes.api.";
+    private static final Duration[] DURATION_BUCKETS = {Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+        Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofMillis(1000),
+        Duration.ofMillis(2500), Duration.ofMillis(5000), Duration.ofMillis(10000)};
+    private static final double[] SIZE_BUCKETS = {1_024, 4_096, 16_384, 65_536, 262_144, 1_048_576, 4_194_304, 16_777_216};
+
+    private final MetricsProvider metricsProvider;
+    private final Map<KubernetesApiRequestType, Meters> meters = new ConcurrentHashMap<>();
+    // The request objects are not reused => weak keys make sure that requests which never complete do not leak
+    private final Map<HttpRequest, Long> startTimes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Constructs the interceptor
+     *
+     * @param metricsProvider   Metrics provider used to create the metrics
+     */
+    public KubernetesApiMetricsInterceptor(MetricsProvider metricsProvider) {
+        this.metricsProvider = metricsProvider;
+    }
+
+    @Override
+    public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+        // Called for both HTTP requests and WebSocket upgrades => this is the only place where watches using
+        // WebSockets can be counted
+        if (request != null) {
+            Meters requestMeters = meters(request);
+            requestMeters.requests.increment();
+
+            String body = request.bodyString();
+            if (body != null) {
+                // The request bodies are JSON documents => the number of characters is a close approximation of bytes
+                requestMeters.requestSize.record(body.length());
+            }
+        }
+    }
+
+    @Override
+    public AsyncBody.Consumer<List<ByteBuffer>> consumer(AsyncBody.Consumer<List<ByteBuffer>> consumer, HttpRequest request) {
+        // This is called with the final request instance (after all interceptors modified it) which is later passed
+        // to the after(...) and afterConnectionFailure(...) methods
+        startTimes.put(request, System.nanoTime());
+        return consumer;
+    }
+
+    @Override
+    public void after(HttpRequest request, HttpResponse<?> response, AsyncBody.Consumer<List<ByteBuffer>> consumer) {
+        Long start = startTimes.remove(request);
+        Meters requestMeters = meters(request);
+
+        if (start != null) {
+            requestMeters.duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (response.code() == 429) {
+            requestMeters.throttled.increment();
+        }
+
+        List<String> contentLength = response.headers("Content-Length");
+        if (contentLength != null && !contentLength.isEmpty()) {
+            try {
+                requestMeters.responseSize.record(Long.parseLong(contentLength.get(0)));
+            } catch (NumberFormatException e) {
+                // Invalid header => nothing to record
+            }
+        }
+    }
+
+    @Override
+    public void afterConnectionFailure(HttpRequest request, Throwable failure) {
+        startTimes.remove(request);
+    }
+
+    private Meters meters(HttpRequest request) {
+        return meters.computeIfAbsent(KubernetesApiRequestType.of(request.method(), request.uri().getRawPath(), request.uri().getRawQuery()), type -> {
+            Tags tags = Tags.of("verb", type.verb(), "kind", type.kind(), "namespace", type.namespace());
+
+            return new Meters(
+                    metricsProvider.counter(METRICS_PREFIX + "requests", "Number of requests sent to the Kubernetes API server", tags),
+                    metricsProvider.timer(METRICS_PREFIX + "request.duration", "Time until the response from the Kubernetes API server is received", tags, DURATION_BUCKETS),
+                    metricsProvider.distributionSummary(METRICS_PREFIX + "request.size", "Size of the request bodies sent to the Kubernetes API server", "bytes", tags, SIZE_BUCKETS),
+                    metricsProvider.distributionSummary(METRICS_PREFIX + "response.size", "Size of the response bodies received from the Kubernetes API server", "bytes", tags, SIZE_BUCKETS),
+                    metricsProvider.counter(METRICS_PREFIX + "throttled.requests", "Number of requests rejected by the Kubernetes API server with HTTP 429 Too Many Requests", tags)
+            );
+        });
+    }
+
+    private record Meters(Counter requests, Timer duration, DistributionSummary requestSize, DistributionSummary responseSize, Counter throttled) { }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import java.util.Locale;
+
+/**
+ * Type of a Kubernetes API request derived from its HTTP method and path. It is used to tag the metrics of the
+ * Kubernetes API requests and to count the requests in tests.
+ *
+ * @param verb          Kubernetes verb such as get, list or patch
+ * @param kind          Kind of the resource including the subresource (for example pods or kafkas/status) or empty
+ *                      string when the request is not for a resource
+ * @param namespace     Namespace of the resource or empty string for cluster-scoped resources
+ */
+public record KubernetesApiRequestType(String verb, String kind, String namespace) {
+    /**
+     * Maps the HTTP method and path of the request to the Kubernetes verb, kind and namespace. For example, GET of
+     * /api/v1/namespaces/my-namespace/pods is mapped to verb list and kind pods and PATCH of
+     * /apis/kafka.strimzi.io/v1beta2/namespaces/my-namespace/kafkas/my-cluster/status is mapped to verb patch and kind
+     * kafkas/status. Requests for cluster-scoped resources have an empty namespace.
+     *
+     * @param method    HTTP method
+     * @param path      HTTP path
+     * @param query     HTTP query or null if the request has no query
+     *
+     * @return  Type of the request
+     */
+    public static KubernetesApiRequestType of(String method, String path, String query) {
+        String[] segments = path.split("/");
+        String namespace = "";
+
+        // Skip the API prefix: /api/<version> or /apis/<group>/<version>
+        int index = segments.length > 1 && "apis".equals(segments[1]) ? 4 : 3;
+
+        if (index + 2 < segments.length && "namespaces".equals(segments[index])) {
+            // Namespaced resource => skip the namespace
+            namespace = segments[index + 1];
+            index += 2;
+        }
+
+        if (index >= segments.length) {
+            // Not a resource path (for example /version or /apis)
+            return new KubernetesApiRequestType(method.toLowerCase(Locale.ROOT), "", "");
+        }
+
+        String kind = segments[index];
+        boolean named = index + 1 < segments.length;
+
+        if (index + 2 < segments.length) {
+            // Subresource such as status or scale
+            kind = kind + "/" + segments[index + 2];
+        }
+
+        return new KubernetesApiRequestType(verb(method, named, query != null && query.contains("watch=true")), kind, namespace);
+    }
+
+    private static String verb(String method, boolean named, boolean watch) {
+        switch (method) {
+            case "GET":
+                if (watch) {
+                    return "watch";
+                } else {
+                    return named ? "get" : "list";
+                }
+            case "POST":
+                return "create";
+            case "PUT":
+                return "update";
+            case "PATCH":
+                return "patch";
+            case "DELETE":
+                return named ? "delete" : "deletecollection";
+            default:
+                return method.toLowerCase(Locale.ROOT);
+        }
+    }
+}
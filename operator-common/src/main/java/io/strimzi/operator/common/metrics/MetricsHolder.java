@@ -202,11 +202,12 @@ public abstract class MetricsHolder {
      * @param selectorLabels    Selector labels used to filter the resources
      * @param counterMap        Map with counters
      * @param metricHelp        Help description of the metric
+     * @param additionalTags    Additional tags used for the metric
      *
      * @return  Counter metric
      */
-    protected static Counter getCounter(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Map<String, Counter> counterMap, String metricHelp) {
-        return metric(namespace, kind, selectorLabels, counterMap, tags -> metrics.counter(metricName, metricHelp, tags));
+    protected static Counter getCounter(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Map<String, Counter> counterMap, String metricHelp, Tag... additionalTags) {
+        return metric(namespace, kind, selectorLabels, counterMap, tags -> metrics.counter(metricName, metricHelp, tags.and(additionalTags)));
     }
 
     /**
@@ -236,10 +237,11 @@ public abstract class MetricsHolder {
      * @param selectorLabels    Selector labels used to filter the resources
      * @param timerMap          Map with timers
      * @param metricHelp        Help description of the metric
+     * @param additionalTags    Additional tags used for the metric
      *
      * @return  Timer metric
      */
-    protected static Timer getTimer(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Map<String, Timer> timerMap, String metricHelp) {
-        return metric(namespace, kind, selectorLabels, timerMap, tags -> metrics.timer(metricName, metricHelp, tags));
+    protected static Timer getTimer(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Map<String, Timer> timerMap, String metricHelp, Tag... additionalTags) {
+        return metric(namespace, kind, selectorLabels, timerMap, tags -> metrics.timer(metricName, metricHelp, tags.and(additionalTags)));
     }
 }
@@ -4,14 +4,22 @@
  */
 package io.strimzi.operator.common.metrics;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A metrics holder for operators.
  */
 public class OperatorMetricsHolder extends MetricsHolder {
-
+    private final Map<String, Timer> periodicReconciliationsSchedulingLagTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Map<String, Timer>> reconciliationsQueueLatencyTimerMaps = new ConcurrentHashMap<>(2);
+    private final Map<String, Map<String, Counter>> watchReconnectsCounterMaps = new ConcurrentHashMap<>(2);
 
     /**
      * Constructs the operator metrics holder
@@ -32,4 +40,47 @@ public class OperatorMetricsHolder extends MetricsHolder {
         resourceCounterMap.forEach((key, value) -> value.set(0));
         pausedResourceCounterMap.forEach((key, value) -> value.set(0));
     }
+
+    /**
+     * Timer which measures how long the periodic reconciliations wait beyond their scheduled start time because of the
+     * limit of concurrent periodic reconciliations.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer periodicReconciliationsSchedulingLagTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.periodical.scheduling.lag", metricsProvider, selectorLabels, periodicReconciliationsSchedulingLagTimerMap,
+                "The time the periodic reconciliation waits beyond its scheduled start time");
+    }
+
+    /**
+     * Timer which measures how long the reconciliations wait in the work queue of the operator before they start.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param priority      Priority class of the reconciliation
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciliationsQueueLatencyTimer(String namespace, String priority) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.queue.latency", metricsProvider, selectorLabels,
+                reconciliationsQueueLatencyTimerMaps.computeIfAbsent(priority, p -> new ConcurrentHashMap<>(1)),
+                "The time the reconciliation waits in the work queue before it starts", Tag.of("priority", priority));
+    }
+
+    /**
+     * Counter metric for the reconnects of the watches. The watch is either resumed from the last known resource
+     * version or (when the resource version expired) recreated with all resources being reconciled again.
+     *
+     * @param namespace     Namespace of the watch
+     * @param watchedKind   Kind of the watched resources
+     * @param recovery      How was the watch recovered
+     *
+     * @return  Metrics counter
+     */
+    public Counter watchReconnectsCounter(String namespace, String watchedKind, String recovery) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "watch.reconnects", metricsProvider, selectorLabels,
+                watchReconnectsCounterMaps.computeIfAbsent(watchedKind + "/" + recovery, r -> new ConcurrentHashMap<>(1)),
+                "Number of times the watch was reconnected", Tag.of("resource", watchedKind), Tag.of("recovery", recovery));
+    }
 }
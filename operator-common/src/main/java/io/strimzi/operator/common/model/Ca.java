@@ -15,6 +15,7 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.CertificateMetadataCache.CertificateMetadata;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -485,8 +486,8 @@ public abstract class Ca {
         boolean isExpiring = false;
 
         try {
-            X509Certificate currentCert = cert(secret, certKey);
-            isExpiring = certNeedsRenewal(currentCert);
+            CertificateMetadata currentCert = CertificateMetadataCache.get(secret, certKey);
+            isExpiring = currentCert != null && certNeedsRenewal(currentCert);
         } catch (RuntimeException e) {
             // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
             LOGGER.debugCr(reconciliation, "Failed to parse existing certificate", e);
@@ -509,7 +510,7 @@ public abstract class Ca {
      * @param maintenanceWindowSatisfied Flag indicating whether we are in the maintenance window
      */
     public void createRenewOrReplace(String namespace, String clusterName, Map<String, String> labels, Map<String, String> additionalLabels, Map<String, String> additionalAnnotations, OwnerReference ownerRef, boolean maintenanceWindowSatisfied) {
-        X509Certificate currentCert = cert(caCertSecret, CA_CRT);
+        CertificateMetadata currentCert = CertificateMetadataCache.get(caCertSecret, CA_CRT);
         Map<String, String> certData;
         Map<String, String> keyData;
         int caCertGeneration = certGeneration();
@@ -532,7 +533,7 @@ public abstract class Ca {
                     keyData = new HashMap<>(1);
                     certData = new HashMap<>(caCertSecret.getData());
                     if (certData.containsKey(CA_CRT)) {
-                        String notAfterDate = DATE_TIME_FORMATTER.format(currentCert.getNotAfter().toInstant().atZone(ZoneId.of("Z")));
+                        String notAfterDate = DATE_TIME_FORMATTER.format(currentCert.notAfter().atZone(ZoneId.of("Z")));
                         addCertCaToTrustStore("ca-" + notAfterDate + ".crt", certData);
                         certData.put("ca-" + notAfterDate + ".crt", certData.remove(CA_CRT));
                     }
@@ -598,7 +599,7 @@ public abstract class Ca {
             .withOrganizationName(IO_STRIMZI).build();
     }
 
-    private RenewalType shouldCreateOrRenew(X509Certificate currentCert, String namespace, String clusterName, boolean maintenanceWindowSatisfied) {
+    private RenewalType shouldCreateOrRenew(CertificateMetadata currentCert, String namespace, String clusterName, boolean maintenanceWindowSatisfied) {
         String reason = null;
         RenewalType renewalType = RenewalType.NOOP;
         if (caKeySecret == null
@@ -631,7 +632,7 @@ public abstract class Ca {
             }
         } else if (currentCert != null
                 && certNeedsRenewal(currentCert)) {
-            reason = "Within renewal period for CA certificate (expires on " + currentCert.getNotAfter() + ")";
+            reason = "Within renewal period for CA certificate (expires on " + currentCert.notAfter() + ")";
 
             if (maintenanceWindowSatisfied) {
                 switch (policy) {
@@ -651,7 +652,7 @@ public abstract class Ca {
         return renewalType;
     }
 
-    private void logRenewalState(X509Certificate currentCert, String namespace, String clusterName, RenewalType renewalType, String reason) {
+    private void logRenewalState(CertificateMetadata currentCert, String namespace, String clusterName, RenewalType renewalType, String reason) {
         switch (renewalType) {
             case REPLACE_KEY:
             case RENEW_CERT:
@@ -675,13 +676,13 @@ public abstract class Ca {
                                 "and it is not configured to automatically renew. This needs to be manually updated before that date. " +
                                 "Alternatively, configure Kafka.spec.tlsCertificates.generateCertificateAuthority=true in the Kafka resource with name {} in namespace {}.",
                         CA_CRT.replace(".", "\\."), this.caCertSecretName, namespace,
-                        currentCert.getNotAfter());
+                        currentCert.notAfter());
             } else if (renewalType.equals(RenewalType.REPLACE_KEY)) {
                 LOGGER.warnCr(reconciliation, "The private key (data.{}) in Secret {} in namespace {} needs to be renewed " +
                                 "and it is not configured to automatically renew. This needs to be manually updated before that date. " +
                                 "Alternatively, configure Kafka.spec.tlsCertificates.generateCertificateAuthority=true in the Kafka resource with name {} in namespace {}.",
                         CA_KEY.replace(".", "\\."), this.caKeySecretName, namespace,
-                        currentCert.getNotAfter());
+                        currentCert.notAfter());
             } else if (caCertSecret == null) {
                 LOGGER.warnCr(reconciliation, "The certificate (data.{}) in Secret {} and the private key (data.{}) in Secret {} in namespace {} " +
                                 "needs to be configured with a Base64 encoded PEM-format certificate. " +
@@ -863,10 +864,10 @@ public abstract class Ca {
         return removed.size();
     }
 
-    private boolean certNeedsRenewal(X509Certificate cert)  {
-        Instant notAfter = cert.getNotAfter().toInstant();
+    private boolean certNeedsRenewal(CertificateMetadata cert)  {
+        Instant notAfter = cert.notAfter();
         Instant renewalPeriodBegin = notAfter.minus(renewalDays, ChronoUnit.DAYS);
-        LOGGER.traceCr(reconciliation, "Certificate {} expires on {} renewal period begins on {}", cert.getSubjectX500Principal(), notAfter, renewalPeriodBegin);
+        LOGGER.traceCr(reconciliation, "Certificate {} expires on {} renewal period begins on {}", cert.subject(), notAfter, renewalPeriodBegin);
         return this.clock.instant().isAfter(renewalPeriodBegin);
     }
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of the metadata of the X509 certificates stored in Kubernetes Secrets. The renewal checks of the CA and of the
+ * component certificates need only the expiry date and the subject alternative names of the certificates. Decoding and
+ * parsing the certificates in every reconciliation is expensive on large clusters, so the parsed metadata are cached.
+ *
+ * The cache is keyed by the UID of the Secret and the key of the certificate in the Secret data. Each entry remembers
+ * the resource version of the Secret it was parsed from and is used only while the Secret has the same resource
+ * version. Secrets without UID or resource version (for example Secrets which were not read from Kubernetes) are always
+ * parsed.
+ */
+public class CertificateMetadataCache {
+    /* test */ static final int MAX_ENTRIES = 10_000;
+
+    @SuppressWarnings("serial")
+    private static final Map<String, CachedMetadata> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedMetadata> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+
+    private CertificateMetadataCache() { }
+
+    /**
+     * Gets the metadata of a certificate stored in a Secret. The metadata are taken from the cache when the Secret did
+     * not change since they were parsed.
+     *
+     * @param secret    Kubernetes Secret with the certificate
+     * @param key       Key under which the certificate is stored in the Secret
+     *
+     * @return  Metadata of the certificate or null if the Secret or the certificate do not exist
+     */
+    public static CertificateMetadata get(Secret secret, String key) {
+        if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
+            return null;
+        }
+
+        String uid = secret.getMetadata() != null ? secret.getMetadata().getUid() : null;
+        String resourceVersion = secret.getMetadata() != null ? secret.getMetadata().getResourceVersion() : null;
+
+        if (uid == null || resourceVersion == null) {
+            return CertificateMetadata.of(Ca.cert(secret, key));
+        }
+
+        String cacheKey = uid + "/" + key;
+        CachedMetadata cached = CACHE.get(cacheKey);
+
+        if (cached != null && resourceVersion.equals(cached.resourceVersion())) {
+            return cached.metadata();
+        }
+
+        CertificateMetadata metadata = CertificateMetadata.of(Ca.cert(secret, key));
+        CACHE.put(cacheKey, new CachedMetadata(resourceVersion, metadata));
+
+        return metadata;
+    }
+
+    /**
+     * @return  Number of the cached certificates
+     */
+    /* test */ static int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Removes all cached certificates
+     */
+    /* test */ static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * Metadata of an X509 certificate used for the renewal decisions
+     *
+     * @param subject           Subject of the certificate
+     * @param issuer            Issuer of the certificate
+     * @param notAfter          Expiry date of the certificate
+     * @param subjectAltNames   Subject alternative names of the certificate or null if the certificate has none or
+     *                          they cannot be parsed
+     */
+    public record CertificateMetadata(String subject, String issuer, Instant notAfter, List<String> subjectAltNames) {
+        /**
+         * Creates the metadata from an X509 certificate
+         *
+         * @param cert  X509 certificate
+         *
+         * @return  Metadata of the certificate
+         */
+        public static CertificateMetadata of(X509Certificate cert) {
+            return new CertificateMetadata(cert.getSubjectX500Principal().getName(),
+                    cert.getIssuerX500Principal().getName(),
+                    cert.getNotAfter().toInstant(),
+                    subjectAltNames(cert));
+        }
+
+        private static List<String> subjectAltNames(X509Certificate cert) {
+            try {
+                Collection<List<?>> altNames = cert.getSubjectAlternativeNames();
+
+                if (altNames == null) {
+                    return null;
+                }
+
+                return altNames.stream()
+                        .filter(name -> name.get(1) instanceof String)
+                        .map(item -> (String) item.get(1))
+                        .collect(Collectors.toList());
+            } catch (CertificateParsingException e) {
+                return null;
+            }
+        }
+    }
+
+    private record CachedMetadata(String resourceVersion, CertificateMetadata metadata) { }
+}
@@ -17,6 +17,8 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.BlockingExecutor;
+import io.strimzi.operator.common.KubernetesApiRateLimiter;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.VertxUtil;
@@ -91,42 +93,66 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @param desired The desired state of the resource.
      * @return A future which completes when the resource has been updated.
      */
-    @SuppressWarnings("deprecation") // Uses a deprecated executeBlocking call that should be addressed later. This is tracked in https://github.com/strimzi/strimzi-kafka-operator/issues/9233
     public Future<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String namespace, String name, T desired) {
+        return reconcile(reconciliation, namespace, name, desired, KubernetesApiRateLimiter.Priority.DEFAULT);
+    }
+
+    /**
+     * Asynchronously reconciles the resource with the given namespace and name to match the given
+     * desired resource, returning a future for the result.
+     * @param reconciliation Reconciliation object
+     * @param namespace The namespace of the resource to reconcile
+     * @param name The name of the resource to reconcile
+     * @param desired The desired state of the resource.
+     * @param priority Priority of the operation used by the Kubernetes API rate limiter
+     * @return A future which completes when the resource has been updated.
+     */
+    @SuppressWarnings("deprecation") // Uses a deprecated executeBlocking call that should be addressed later. This is tracked in https://github.com/strimzi/strimzi-kafka-operator/issues/9233
+    protected Future<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String namespace, String name, T desired, KubernetesApiRateLimiter.Priority priority) {
         if (desired != null && !namespace.equals(desired.getMetadata().getNamespace())) {
             return Future.failedFuture("Given namespace " + namespace + " incompatible with desired namespace " + desired.getMetadata().getNamespace());
         } else if (desired != null && !name.equals(desired.getMetadata().getName())) {
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
-        Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-            future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
-                if (desired != null) {
-                    if (current == null) {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(reconciliation, namespace, name, desired).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} already exists, updating it", resourceKind, namespace, name);
-                        internalUpdate(reconciliation, namespace, name, current, desired).onComplete(future);
+        return rateLimit(priority).compose(i -> {
+            Promise<ReconcileResult<T>> promise = Promise.promise();
+            BlockingExecutor.executeBlocking(vertx,
+                future -> {
+                    String fieldManager = serverSideApplyFieldManager();
+                    if (desired != null && fieldManager != null) {
+                        // Server-side apply does not need the current resource => we skip the GET request
+                        LOGGER.debugCr(reconciliation, "{} {}/{} will be applied using server-side apply", resourceKind, namespace, name);
+                        internalServerSideApply(reconciliation, namespace, name, desired, fieldManager).onComplete(future);
+                        return;
                     }
-                } else {
-                    if (current != null) {
-                        // Deletion is desired
-                        LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(reconciliation, namespace, name).onComplete(future);
+
+                    T current = operation().inNamespace(namespace).withName(name).get();
+                    if (desired != null) {
+                        if (current == null) {
+                            LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
+                            internalCreate(reconciliation, namespace, name, desired).onComplete(future);
+                        } else {
+                            LOGGER.debugCr(reconciliation, "{} {}/{} already exists, updating it", resourceKind, namespace, name);
+                            internalUpdate(reconciliation, namespace, name, current, desired).onComplete(future);
+                        }
                     } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
-                        future.complete(ReconcileResult.noop(null));
+                        if (current != null) {
+                            // Deletion is desired
+                            LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
+                            internalDelete(reconciliation, namespace, name).onComplete(future);
+                        } else {
+                            LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
+                            future.complete(ReconcileResult.noop(null));
+                        }
                     }
-                }
 
-            },
-            false,
-            promise
-        );
-        return promise.future();
+                },
+                false,
+                promise
+            );
+            return promise.future();
+        });
     }
 
     /**
@@ -271,6 +297,50 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         return operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON), desired);
     }
 
+    /**
+     * Returns the field manager which should be used to create and update the resources using server-side apply. When
+     * it returns null (which is the default), server-side apply is not used and the resources are created or patched
+     * based on the current resource. Server-side apply can be used only by operators which do not need the current
+     * resource to update it (for example to keep fields set by Kubernetes).
+     *
+     * @return  Name of the field manager or null if server-side apply should not be used
+     */
+    protected String serverSideApplyFieldManager() {
+        return null;
+    }
+
+    /**
+     * Creates or updates the resource with the given namespace and name using server-side apply. The Kubernetes API
+     * server merges the desired resource with the current resource, so it does not need to be fetched first. Any
+     * conflicts with other field managers are forced. As the current resource is not known, the result is always
+     * reported as patched. The desired resource might be built from a resource read from the Kubernetes API server.
+     * The managed fields, resource version and UID are therefore removed from a copy of it before applying it, as the
+     * API server rejects apply requests with managed fields and uses the resource version for optimistic locking.
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param desired           Desired resource
+     * @param fieldManager      Field manager used for the server-side apply
+     *
+     * @return  Future with the result of the reconciliation
+     */
+    protected Future<ReconcileResult<T>> internalServerSideApply(Reconciliation reconciliation, String namespace, String name, T desired, String fieldManager) {
+        try {
+            T applied = client.getKubernetesSerialization().clone(desired);
+            applied.getMetadata().setManagedFields(null);
+            applied.getMetadata().setResourceVersion(null);
+            applied.getMetadata().setUid(null);
+
+            T result = operation().inNamespace(namespace).resource(applied).fieldManager(fieldManager).forceConflicts().serverSideApply();
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been applied", resourceKind, name, namespace);
+            return Future.succeededFuture(ReconcileResult.patched(result));
+        } catch (Exception e) {
+            LOGGER.debugCr(reconciliation, "Caught exception while applying {} {} in namespace {}", resourceKind, name, namespace, e);
+            return Future.failedFuture(e);
+        }
+    }
+
     /**
      * Creates a resource with the given namespace and name with the given desired state
      * and completes the given future accordingly.
@@ -310,7 +380,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture(new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
-        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+        return rateLimit(KubernetesApiRateLimiter.Priority.READ)
+                .compose(i -> resourceSupport.getAsync(operation().inNamespace(namespace).withName(name)));
     }
 
     /**
@@ -12,6 +12,8 @@ import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.strimzi.operator.common.BlockingExecutor;
+import io.strimzi.operator.common.KubernetesApiRateLimiter;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.Labels;
@@ -80,34 +82,36 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                     + desired.getMetadata().getName());
         }
 
-        Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-            future -> {
-                T current = operation().withName(name).get();
-                if (desired != null) {
-                    if (current == null) {
-                        LOGGER.debugCr(reconciliation, "{} {} does not exist, creating it", resourceKind, name);
-                        internalCreate(reconciliation, name, desired).onComplete(future);
+        return rateLimit(KubernetesApiRateLimiter.Priority.DEFAULT).compose(i -> {
+            Promise<ReconcileResult<T>> promise = Promise.promise();
+            BlockingExecutor.executeBlocking(vertx,
+                future -> {
+                    T current = operation().withName(name).get();
+                    if (desired != null) {
+                        if (current == null) {
+                            LOGGER.debugCr(reconciliation, "{} {} does not exist, creating it", resourceKind, name);
+                            internalCreate(reconciliation, name, desired).onComplete(future);
+                        } else {
+                            LOGGER.debugCr(reconciliation, "{} {} already exists, updating it", resourceKind, name);
+                            internalUpdate(reconciliation, name, current, desired).onComplete(future);
+                        }
                     } else {
-                        LOGGER.debugCr(reconciliation, "{} {} already exists, updating it", resourceKind, name);
-                        internalUpdate(reconciliation, name, current, desired).onComplete(future);
+                        if (current != null) {
+                            // Deletion is desired
+                            LOGGER.debugCr(reconciliation, "{} {} exist, deleting it", resourceKind, name);
+                            internalDelete(reconciliation, name).onComplete(future);
+                        } else {
+                            LOGGER.debugCr(reconciliation, "{} {} does not exist, noop", resourceKind, name);
+                            future.complete(ReconcileResult.noop(null));
+                        }
                     }
-                } else {
-                    if (current != null) {
-                        // Deletion is desired
-                        LOGGER.debugCr(reconciliation, "{} {} exist, deleting it", resourceKind, name);
-                        internalDelete(reconciliation, name).onComplete(future);
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{} {} does not exist, noop", resourceKind, name);
-                        future.complete(ReconcileResult.noop(null));
-                    }
-                }
 
-            },
-            false,
-            promise
-        );
-        return promise.future();
+                },
+                false,
+                promise
+            );
+            return promise.future();
+        });
     }
 
     /**
@@ -223,7 +227,8 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
             return Future.failedFuture(new IllegalArgumentException(resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
-        return resourceSupport.getAsync(operation().withName(name));
+        return rateLimit(KubernetesApiRateLimiter.Priority.READ)
+                .compose(i -> resourceSupport.getAsync(operation().withName(name)));
     }
 
     /**
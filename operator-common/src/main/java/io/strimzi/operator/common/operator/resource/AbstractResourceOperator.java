@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.KubernetesApiRateLimiter;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
@@ -44,6 +45,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
 
+    private volatile KubernetesApiRateLimiter rateLimiter = null;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -64,6 +67,33 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return DEFAULT_TIMEOUT_MS;
     }
 
+    /**
+     * Sets the rate limiter used for the Kubernetes API operations. Without it, the operations are not rate limited.
+     *
+     * @param rateLimiter   Kubernetes API rate limiter or null to disable the rate limiting
+     */
+    public void setRateLimiter(KubernetesApiRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Waits for the Kubernetes API rate limiter before executing an operation. When no rate limiter is set, the
+     * returned Future is already completed.
+     *
+     * @param priority  Priority of the operation
+     *
+     * @return  Future which completes when the operation can be executed
+     */
+    protected Future<Void> rateLimit(KubernetesApiRateLimiter.Priority priority) {
+        KubernetesApiRateLimiter limiter = rateLimiter;
+
+        if (limiter == null) {
+            return Future.succeededFuture();
+        } else {
+            return limiter.acquire(priority);
+        }
+    }
+
     /**
      * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
      */
@@ -171,6 +201,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return  Future with the list of resources
      */
     protected Future<List<T>> listAsync(Listable<L> listable) {
-        return resourceSupport.listAsync(listable);
+        return rateLimit(KubernetesApiRateLimiter.Priority.READ)
+                .compose(i -> resourceSupport.listAsync(listable));
     }
 }
@@ -7,6 +7,7 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
@@ -80,4 +81,29 @@ public abstract class AbstractWatchableNamespacedResourceOperator<
         }
         return operation.watch(watcher);
     }
+
+    /**
+     * Creates a resource watch using a label selector which starts from the given resource version. The watch has the
+     * bookmarks enabled so that the resource version known to the watcher keeps moving forward even when there are no
+     * changes to the watched resources.
+     *
+     * @param namespace         Namespace which should be watched
+     * @param selector          Label selector for watching only some resources
+     * @param resourceVersion   Resource version from which the watch should start (or null to start from the current state)
+     * @param watcher           The Watcher object which will handle the events from the watch
+     *
+     * @return  A Kubernetes watch instance
+     */
+    public Watch watch(String namespace, LabelSelector selector, String resourceVersion, Watcher<T> watcher) {
+        FilterWatchListDeletable<T, L, R> operation
+                = ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace() : operation().inNamespace(namespace);
+        if (selector != null) {
+            operation = operation.withLabelSelector(selector);
+        }
+        return operation.watch(new ListOptionsBuilder()
+                        .withResourceVersion(resourceVersion)
+                        .withAllowWatchBookmarks(true)
+                        .build(),
+                watcher);
+    }
 }
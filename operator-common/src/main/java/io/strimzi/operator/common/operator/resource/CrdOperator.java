@@ -12,6 +12,8 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.strimzi.operator.common.BlockingExecutor;
+import io.strimzi.operator.common.KubernetesApiRateLimiter;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.VertxUtil;
@@ -92,22 +94,24 @@ public class CrdOperator<C extends KubernetesClient,
      */
     @SuppressWarnings("deprecation") // Uses a deprecated executeBlocking call that should be addressed later. This is tracked in https://github.com/strimzi/strimzi-kafka-operator/issues/9233
     public Future<T> patchAsync(Reconciliation reconciliation, T resource) {
-        Promise<T> blockingPromise = Promise.promise();
-
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
-            String namespace = resource.getMetadata().getNamespace();
-            String name = resource.getMetadata().getName();
-            try {
-                T result = operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON), resource);
-                LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
-                future.complete(result);
-            } catch (Throwable e) {
-                LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
-                future.fail(e);
-            }
-        }, true, blockingPromise);
-
-        return blockingPromise.future();
+        return rateLimit(KubernetesApiRateLimiter.Priority.DEFAULT).compose(i -> {
+            Promise<T> blockingPromise = Promise.promise();
+
+            BlockingExecutor.executeBlocking(vertx, future -> {
+                String namespace = resource.getMetadata().getNamespace();
+                String name = resource.getMetadata().getName();
+                try {
+                    T result = operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON), resource);
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                    future.complete(result);
+                } catch (Throwable e) {
+                    LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
+                    future.fail(e);
+                }
+            }, true, blockingPromise);
+
+            return blockingPromise.future();
+        });
     }
 
     /**
@@ -120,22 +124,24 @@ public class CrdOperator<C extends KubernetesClient,
      */
     @SuppressWarnings("deprecation") // Uses a deprecated executeBlocking call that should be addressed later. This is tracked in https://github.com/strimzi/strimzi-kafka-operator/issues/9233
     public Future<T> updateStatusAsync(Reconciliation reconciliation, T resource) {
-        Promise<T> blockingPromise = Promise.promise();
-
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
-            String namespace = resource.getMetadata().getNamespace();
-            String name = resource.getMetadata().getName();
-
-            try {
-                T result = operation().inNamespace(namespace).resource(resource).updateStatus();
-                LOGGER.infoCr(reconciliation, "Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
-                future.complete(result);
-            } catch (Throwable e) {
-                LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
-                future.fail(e);
-            }
-        }, true, blockingPromise);
-
-        return blockingPromise.future();
+        return rateLimit(KubernetesApiRateLimiter.Priority.STATUS_UPDATE).compose(i -> {
+            Promise<T> blockingPromise = Promise.promise();
+
+            BlockingExecutor.executeBlocking(vertx, future -> {
+                String namespace = resource.getMetadata().getNamespace();
+                String name = resource.getMetadata().getName();
+
+                try {
+                    T result = operation().inNamespace(namespace).resource(resource).updateStatus();
+                    LOGGER.infoCr(reconciliation, "Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
+                    future.complete(result);
+                } catch (Throwable e) {
+                    LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
+                    future.fail(e);
+                }
+            }, true, blockingPromise);
+
+            return blockingPromise.future();
+        });
     }
 }
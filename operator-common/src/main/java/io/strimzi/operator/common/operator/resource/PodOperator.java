@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.strimzi.operator.common.KubernetesApiRateLimiter;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
@@ -59,7 +60,7 @@ public class PodOperator extends AbstractReadyNamespacedResourceOperator<Kuberne
         // Delete the pod
         LOGGER.debugCr(reconciliation, "Waiting for pod {} to be deleted", podName);
         Future<Void> podReconcileFuture =
-                reconcile(reconciliation, namespace, podName, null)
+                reconcile(reconciliation, namespace, podName, null, KubernetesApiRateLimiter.Priority.RESTART)
                         .compose(ignore -> waitFor(reconciliation, namespace, podName, "deleted", pollingIntervalMs, timeoutMs, (ignore1, ignore2) -> {
                             // predicate - changed generation means pod has been updated
                             String newUid = getPodUid(get(namespace, podName));
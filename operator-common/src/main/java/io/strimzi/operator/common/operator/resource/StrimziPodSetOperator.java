@@ -5,16 +5,32 @@
 package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.strimzi.api.kafka.StrimziPodSetList;
 import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Operator for {@code StrimziPodSet}s
  */
 public class StrimziPodSetOperator extends CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetOperator.class);
+
+    /**
+     * Field manager used when the StrimziPodSets are reconciled using server-side apply
+     */
+    public static final String FIELD_MANAGER = "strimzi-cluster-operator";
+
+    private final boolean serverSideApply;
 
     /**
      * Constructs the StrimziPodSet operator
@@ -23,7 +39,74 @@ public class StrimziPodSetOperator extends CrdOperator<KubernetesClient, Strimzi
      * @param client The Kubernetes client.
      */
     public StrimziPodSetOperator(Vertx vertx, KubernetesClient client) {
+        this(vertx, client, false);
+    }
+
+    /**
+     * Constructs the StrimziPodSet operator
+     *
+     * @param vertx             The Vertx instance.
+     * @param client            The Kubernetes client.
+     * @param serverSideApply   Indicates whether the StrimziPodSets should be reconciled using server-side apply
+     */
+    public StrimziPodSetOperator(Vertx vertx, KubernetesClient client, boolean serverSideApply) {
         super(vertx, client, StrimziPodSet.class, StrimziPodSetList.class, StrimziPodSet.RESOURCE_KIND);
+        this.serverSideApply = serverSideApply;
+    }
+
+    /**
+     * StrimziPodSets are always fully generated by the operator and do not need anything from the current resource.
+     * So when enabled, they can be reconciled using server-side apply without getting the current StrimziPodSet first.
+     *
+     * @return  The field manager when server-side apply is enabled. Null otherwise.
+     */
+    @Override
+    protected String serverSideApplyFieldManager() {
+        return serverSideApply ? FIELD_MANAGER : null;
+    }
+
+    /**
+     * Server-side apply merges the Pod template field by field and keeps the fields owned by other field managers. So
+     * a Pod template written before without server-side apply (for example when the compact encoding was enabled
+     * without server-side apply) might not be removed or might keep fields which are not desired anymore. Because the
+     * template is merged into all Pods, the Pod template is replaced with the desired one when the applied resource
+     * does not match it.
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the StrimziPodSet
+     * @param name              Name of the StrimziPodSet
+     * @param desired           Desired StrimziPodSet
+     * @param fieldManager      Field manager used for the server-side apply
+     *
+     * @return  Future with the result of the reconciliation
+     */
+    @Override
+    protected Future<ReconcileResult<StrimziPodSet>> internalServerSideApply(Reconciliation reconciliation, String namespace, String name, StrimziPodSet desired, String fieldManager) {
+        return super.internalServerSideApply(reconciliation, namespace, name, desired, fieldManager)
+                .compose(result -> {
+                    Map<String, Object> desiredTemplate = desired.getSpec().getPodTemplate();
+                    StrimziPodSet applied = result.resource();
+
+                    if (applied == null
+                            || applied.getSpec() == null
+                            || Objects.equals(desiredTemplate, applied.getSpec().getPodTemplate())) {
+                        return Future.succeededFuture(result);
+                    }
+
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} has a stale Pod template which will be replaced", resourceKind, name, namespace);
+
+                    JsonObject operation = desiredTemplate != null
+                            ? new JsonObject().put("op", "add").put("path", "/spec/podTemplate").put("value", desiredTemplate)
+                            : new JsonObject().put("op", "remove").put("path", "/spec/podTemplate");
+
+                    try {
+                        return Future.succeededFuture(ReconcileResult.patched(operation().inNamespace(namespace).withName(name)
+                                .patch(PatchContext.of(PatchType.JSON), new JsonArray().add(operation).encode())));
+                    } catch (Exception e) {
+                        LOGGER.debugCr(reconciliation, "Caught exception while replacing the Pod template of {} {} in namespace {}", resourceKind, name, namespace, e);
+                        return Future.failedFuture(e);
+                    }
+                });
     }
 
     /**
@@ -0,0 +1,180 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@ExtendWith(VertxExtension.class)
+public class BlockingExecutorTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @AfterEach
+    public void resetExecutor() {
+        BlockingExecutor.useWorkerPool();
+    }
+
+    private static void executeOnContext(VertxTestContext context, boolean expectVirtualThread) {
+        Checkpoint async = context.checkpoint();
+        Context vertxContext = vertx.getOrCreateContext();
+
+        vertxContext.runOnContext(v -> BlockingExecutor.<Thread>executeBlocking(vertx, promise -> promise.complete(Thread.currentThread()), false, res -> context.verify(() -> {
+            assertThat(res.succeeded(), is(true));
+            assertThat(isVirtual(res.result()), is(expectVirtualThread));
+            assertThat(res.result().getName().startsWith(BlockingExecutor.KUBERNETES_OPS_POOL), is(!expectVirtualThread));
+            // The result is delivered on the context which executed the operation
+            assertThat(Vertx.currentContext() == vertxContext, is(true));
+            async.flag();
+        })));
+    }
+
+    // Thread.isVirtual() is not available in Java 17
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void testWorkerPool(VertxTestContext context) {
+        executeOnContext(context, false);
+    }
+
+    @Test
+    public void testVirtualThreadsAreUsedWhenSupported() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        assertThat(BlockingExecutor.useVirtualThreads(10, new MicrometerMetricsProvider(registry)), is(Runtime.version().feature() >= 21));
+    }
+
+    @Test
+    public void testVirtualThreads(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        assumeTrue(BlockingExecutor.useVirtualThreads(1, new MicrometerMetricsProvider(registry)));
+
+        executeOnContext(context, true);
+    }
+
+    @Test
+    public void testVirtualThreadsOrdered(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        assumeTrue(BlockingExecutor.useVirtualThreads(10, new MicrometerMetricsProvider(registry)));
+
+        int operations = 20;
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        Checkpoint async = context.checkpoint(operations);
+
+        vertx.getOrCreateContext().runOnContext(v -> {
+            for (int i = 0; i < operations; i++) {
+                int operation = i;
+
+                BlockingExecutor.<Void>executeBlocking(vertx, promise -> {
+                    // The earlier operations sleep longer => they would complete last if they were not ordered
+                    try {
+                        Thread.sleep(operations - operation);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    executed.add(operation);
+                    promise.complete();
+                }, true, res -> context.verify(() -> {
+                    assertThat(res.succeeded(), is(true));
+                    assertThat(executed.get(operation), is(operation));
+                    async.flag();
+                }));
+            }
+        });
+    }
+
+    @Test
+    public void testVirtualThreadsReuseMetrics(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metricsProvider = new MicrometerMetricsProvider(registry);
+        assumeTrue(BlockingExecutor.useVirtualThreads(10, metricsProvider));
+        assumeTrue(BlockingExecutor.useVirtualThreads(5, metricsProvider));
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Checkpoint async = context.checkpoint();
+
+        BlockingExecutor.<Void>executeBlocking(vertx, promise -> {
+            running.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            promise.complete();
+        }, false, res -> context.verify(() -> {
+            assertThat(registry.get(BlockingExecutor.IN_FLIGHT_METRIC).gauge().value(), is(0.0));
+            async.flag();
+        }));
+
+        context.verify(() -> {
+            assertThat(running.await(10, TimeUnit.SECONDS), is(true));
+            // The gauge registered by the first call tracks the operations of the new executor
+            assertThat(registry.get(BlockingExecutor.IN_FLIGHT_METRIC).gauges().size(), is(1));
+            assertThat(registry.get(BlockingExecutor.IN_FLIGHT_METRIC).gauge().value(), is(1.0));
+            release.countDown();
+        });
+    }
+
+    @Test
+    public void testVirtualThreadsFailure(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        assumeTrue(BlockingExecutor.useVirtualThreads(1, new MicrometerMetricsProvider(registry)));
+
+        Checkpoint async = context.checkpoint(2);
+
+        // The first operation throws an exception => the second operation gets the permit afterwards
+        BlockingExecutor.<Void>executeBlocking(vertx, promise -> {
+            throw new RuntimeException("Failed");
+        }, false, res -> context.verify(() -> {
+            assertThat(res.failed(), is(true));
+            assertThat(res.cause().getMessage(), is("Failed"));
+            async.flag();
+        }));
+
+        BlockingExecutor.<Integer>executeBlocking(vertx, promise -> promise.complete(42), false, res -> context.verify(() -> {
+            assertThat(res.result(), is(42));
+            async.flag();
+        }));
+    }
+}
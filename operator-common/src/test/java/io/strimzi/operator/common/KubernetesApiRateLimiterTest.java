@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class KubernetesApiRateLimiterTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testInvalidQps() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        assertThrows(IllegalArgumentException.class, () -> new KubernetesApiRateLimiter(vertx, 0, 10, new MicrometerMetricsProvider(registry)));
+    }
+
+    @Test
+    public void testBurstIsNotLimited() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KubernetesApiRateLimiter limiter = new KubernetesApiRateLimiter(vertx, 1, 5, new MicrometerMetricsProvider(registry));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.acquire(KubernetesApiRateLimiter.Priority.READ).succeeded(), is(true));
+        }
+
+        // The burst is used => the next operation has to wait
+        assertThat(limiter.acquire(KubernetesApiRateLimiter.Priority.READ).isComplete(), is(false));
+        assertThat(registry.get(KubernetesApiRateLimiter.WAITING_METRIC).tag("priority", "read").gauge().value(), is(1.0));
+    }
+
+    @Test
+    public void testOperationsAreOrderedByPriority(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KubernetesApiRateLimiter limiter = new KubernetesApiRateLimiter(vertx, 10, 1, new MicrometerMetricsProvider(registry));
+        Context vertxContext = vertx.getOrCreateContext();
+        List<KubernetesApiRateLimiter.Priority> order = new CopyOnWriteArrayList<>();
+        Checkpoint async = context.checkpoint();
+
+        // Uses the only token
+        assertThat(limiter.acquire(KubernetesApiRateLimiter.Priority.READ, vertxContext).succeeded(), is(true));
+
+        // These have to wait and should be executed by their priority and not in the order in which they arrived
+        Future<Void> read = limiter.acquire(KubernetesApiRateLimiter.Priority.READ, vertxContext)
+                .onSuccess(v -> order.add(KubernetesApiRateLimiter.Priority.READ));
+        Future<Void> update = limiter.acquire(KubernetesApiRateLimiter.Priority.DEFAULT, vertxContext)
+                .onSuccess(v -> order.add(KubernetesApiRateLimiter.Priority.DEFAULT));
+        Future<Void> status = limiter.acquire(KubernetesApiRateLimiter.Priority.STATUS_UPDATE, vertxContext)
+                .onSuccess(v -> order.add(KubernetesApiRateLimiter.Priority.STATUS_UPDATE));
+        Future<Void> restart = limiter.acquire(KubernetesApiRateLimiter.Priority.RESTART, vertxContext)
+                .onSuccess(v -> context.verify(() -> {
+                    order.add(KubernetesApiRateLimiter.Priority.RESTART);
+                    // The operation continues on the context from which it was started
+                    assertThat(Vertx.currentContext() == vertxContext, is(true));
+                }));
+
+        Future.all(read, update, status, restart).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(order, is(List.of(KubernetesApiRateLimiter.Priority.RESTART, KubernetesApiRateLimiter.Priority.STATUS_UPDATE,
+                    KubernetesApiRateLimiter.Priority.DEFAULT, KubernetesApiRateLimiter.Priority.READ)));
+            assertThat(registry.get(KubernetesApiRateLimiter.WAITING_METRIC).tag("priority", "read").gauge().value(), is(0.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testOperationsWaitingTooLongAreNotStarved(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        // The next token is available only after 500ms => both waiting operations exceed the maximal wait of 100ms
+        KubernetesApiRateLimiter limiter = new KubernetesApiRateLimiter(vertx, 2, 1, 100, new MicrometerMetricsProvider(registry));
+        Context vertxContext = vertx.getOrCreateContext();
+        List<KubernetesApiRateLimiter.Priority> order = new CopyOnWriteArrayList<>();
+        Checkpoint async = context.checkpoint();
+
+        // Uses the only token
+        assertThat(limiter.acquire(KubernetesApiRateLimiter.Priority.READ, vertxContext).succeeded(), is(true));
+
+        // The read arrived first and waited too long => it is served before the restart despite its lower priority
+        Future<Void> read = limiter.acquire(KubernetesApiRateLimiter.Priority.READ, vertxContext)
+                .onSuccess(v -> order.add(KubernetesApiRateLimiter.Priority.READ));
+        Future<Void> restart = limiter.acquire(KubernetesApiRateLimiter.Priority.RESTART, vertxContext)
+                .onSuccess(v -> order.add(KubernetesApiRateLimiter.Priority.RESTART));
+
+        Future.all(read, restart).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(order, is(List.of(KubernetesApiRateLimiter.Priority.READ, KubernetesApiRateLimiter.Priority.RESTART)));
+            async.flag();
+        })));
+    }
+}
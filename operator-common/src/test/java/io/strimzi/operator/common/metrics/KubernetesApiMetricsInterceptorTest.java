@@ -0,0 +1,82 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+@EnableKubernetesMockClient(crud = true)
+public class KubernetesApiMetricsInterceptorTest {
+    private final static String NAMESPACE = "my-namespace";
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    @Test
+    public void testRequestType() {
+        assertThat(KubernetesApiRequestType.of("GET", "/api/v1/namespaces/my-namespace/pods", null),
+                is(new KubernetesApiRequestType("list", "pods", NAMESPACE)));
+        assertThat(KubernetesApiRequestType.of("GET", "/api/v1/namespaces/my-namespace/pods", "labelSelector=app%3Dkafka&watch=true"),
+                is(new KubernetesApiRequestType("watch", "pods", NAMESPACE)));
+        assertThat(KubernetesApiRequestType.of("GET", "/api/v1/namespaces/my-namespace/pods/my-pod", null),
+                is(new KubernetesApiRequestType("get", "pods", NAMESPACE)));
+        assertThat(KubernetesApiRequestType.of("POST", "/api/v1/namespaces/my-namespace/services", null),
+                is(new KubernetesApiRequestType("create", "services", NAMESPACE)));
+        assertThat(KubernetesApiRequestType.of("PUT", "/apis/apps/v1/namespaces/my-namespace/deployments/my-deployment", null),
+                is(new KubernetesApiRequestType("update", "deployments", NAMESPACE)));
+        assertThat(KubernetesApiRequestType.of("PATCH", "/apis/kafka.strimzi.io/v1beta2/namespaces/my-namespace/kafkas/my-cluster/status", null),
+                is(new KubernetesApiRequestType("patch", "kafkas/status", NAMESPACE)));
+        assertThat(KubernetesApiRequestType.of("DELETE", "/api/v1/namespaces/my-namespace/secrets/my-secret", null),
+                is(new KubernetesApiRequestType("delete", "secrets", NAMESPACE)));
+        assertThat(KubernetesApiRequestType.of("DELETE", "/api/v1/namespaces/my-namespace/secrets", null),
+                is(new KubernetesApiRequestType("deletecollection", "secrets", NAMESPACE)));
+        assertThat(KubernetesApiRequestType.of("GET", "/api/v1/namespaces/my-namespace", null),
+                is(new KubernetesApiRequestType("get", "namespaces", "")));
+        assertThat(KubernetesApiRequestType.of("GET", "/api/v1/nodes", null),
+                is(new KubernetesApiRequestType("list", "nodes", "")));
+        assertThat(KubernetesApiRequestType.of("GET", "/version", null),
+                is(new KubernetesApiRequestType("get", "", "")));
+    }
+
+    @Test
+    public void testRequestsAreRecorded() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        KubernetesApiMetricsInterceptor interceptor = new KubernetesApiMetricsInterceptor(new MicrometerMetricsProvider(registry));
+
+        try (KubernetesClient instrumentedClient = new KubernetesClientBuilder()
+                .withConfig(client.getConfiguration())
+                .withHttpClientBuilderConsumer(builder -> builder.addOrReplaceInterceptor(KubernetesApiMetricsInterceptor.NAME, interceptor))
+                .build()) {
+            instrumentedClient.configMaps().inNamespace(NAMESPACE).resource(new ConfigMapBuilder()
+                    .withNewMetadata()
+                        .withName("my-config-map")
+                        .withNamespace(NAMESPACE)
+                    .endMetadata()
+                    .build()).create();
+            instrumentedClient.configMaps().inNamespace(NAMESPACE).list();
+            instrumentedClient.configMaps().inNamespace(NAMESPACE).list();
+        }
+
+        assertThat(registry.get("strimzi.kubernetes.api.requests").tags("verb", "create", "kind", "configmaps", "namespace", NAMESPACE).counter().count(), is(1.0));
+        assertThat(registry.get("strimzi.kubernetes.api.requests").tags("verb", "list", "kind", "configmaps", "namespace", NAMESPACE).counter().count(), is(2.0));
+        // The duration is recorded asynchronously once the response is received
+        TestUtils.waitFor("durations to be recorded", 100L, 10_000L,
+                () -> registry.get("strimzi.kubernetes.api.request.duration").tags("verb", "list", "kind", "configmaps", "namespace", NAMESPACE).timer().count() == 2L);
+        assertThat(registry.get("strimzi.kubernetes.api.request.size").tags("verb", "create", "kind", "configmaps", "namespace", NAMESPACE).summary().totalAmount(), greaterThan(0.0));
+        assertThat(registry.get("strimzi.kubernetes.api.throttled.requests").tags("verb", "list", "kind", "configmaps", "namespace", NAMESPACE).counter().count(), is(0.0));
+    }
+}
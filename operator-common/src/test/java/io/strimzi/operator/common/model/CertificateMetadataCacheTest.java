@@ -0,0 +1,70 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.operator.common.model.CertificateMetadataCache.CertificateMetadata;
+import io.strimzi.operator.common.operator.MockCertManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CertificateMetadataCacheTest {
+    private static Secret secret(String uid, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-secret")
+                    .withNamespace("my-namespace")
+                    .withUid(uid)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withData(Map.of("ca.crt", MockCertManager.clusterCaCert()))
+                .build();
+    }
+
+    @BeforeEach
+    public void clearCache() {
+        CertificateMetadataCache.clear();
+    }
+
+    @Test
+    public void testMetadataAreCachedUntilTheSecretChanges() {
+        CertificateMetadata metadata = CertificateMetadataCache.get(secret("my-uid", "1"), "ca.crt");
+        CertificateMetadata expected = CertificateMetadata.of(Ca.cert(secret("my-uid", "1"), "ca.crt"));
+
+        assertThat(metadata, is(expected));
+        assertThat(CertificateMetadataCache.size(), is(1));
+
+        // Same Secret version => the cached metadata are used
+        assertThat(CertificateMetadataCache.get(secret("my-uid", "1"), "ca.crt") == metadata, is(true));
+
+        // New Secret version => the certificate is parsed again and replaces the cached metadata
+        CertificateMetadata updated = CertificateMetadataCache.get(secret("my-uid", "2"), "ca.crt");
+        assertThat(updated == metadata, is(false));
+        assertThat(updated, is(expected));
+        assertThat(CertificateMetadataCache.size(), is(1));
+    }
+
+    @Test
+    public void testSecretsWithoutUidAreNotCached() {
+        CertificateMetadata metadata = CertificateMetadataCache.get(secret(null, null), "ca.crt");
+
+        assertThat(metadata.notAfter(), is(Ca.cert(secret(null, null), "ca.crt").getNotAfter().toInstant()));
+        assertThat(CertificateMetadataCache.size(), is(0));
+    }
+
+    @Test
+    public void testMissingCertificate() {
+        assertThat(CertificateMetadataCache.get(null, "ca.crt"), is(nullValue()));
+        assertThat(CertificateMetadataCache.get(secret("my-uid", "1"), "user.crt"), is(nullValue()));
+        assertThat(CertificateMetadataCache.size(), is(0));
+    }
+}
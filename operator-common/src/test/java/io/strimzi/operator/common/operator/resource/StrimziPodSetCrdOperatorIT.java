@@ -189,6 +189,57 @@ public class StrimziPodSetCrdOperatorIT extends AbstractCustomResourceOperatorIT
                 .onComplete(context.succeeding(rrDeleted ->  async.flag()));
     }
 
+    @Test
+    public void testServerSideApply(VertxTestContext context) {
+        String resourceName = getResourceName(RESOURCE_NAME);
+        Checkpoint async = context.checkpoint();
+        String namespace = getNamespace();
+
+        StrimziPodSetOperator op = new StrimziPodSetOperator(vertx, client, true);
+        AtomicReference<StrimziPodSet> readBack = new AtomicReference<>();
+
+        LOGGER.info("Creating resource using server-side apply");
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, namespace, resourceName, getResource(resourceName))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                    assertThat(rr.resource().getMetadata().getManagedFields().stream()
+                            .anyMatch(mf -> StrimziPodSetOperator.FIELD_MANAGER.equals(mf.getManager()) && "Apply".equals(mf.getOperation())), is(true));
+                })))
+                .compose(rr -> {
+                    // Keep the resource as read from the API server => it has the resource version and managed fields
+                    readBack.set(op.get(namespace, resourceName));
+
+                    StrimziPodSet modified = getResourceWithModifications(getResource(resourceName));
+
+                    LOGGER.info("Updating resource using server-side apply");
+                    return op.reconcile(Reconciliation.DUMMY_RECONCILIATION, namespace, resourceName, modified);
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> assertThat(rr.resource().getSpec().getPods().size(), is(2)))))
+                .compose(rr -> {
+                    // Resources built from the resource read from the API server (for example during scale-down) have
+                    // managed fields and an old resource version which should not be applied
+                    StrimziPodSet fromReadBack = new StrimziPodSetBuilder(readBack.get())
+                            .editMetadata()
+                                .addToLabels("applied-from", "read-back")
+                            .endMetadata()
+                            .build();
+
+                    LOGGER.info("Updating resource using server-side apply with a resource read from the API server");
+                    return op.reconcile(Reconciliation.DUMMY_RECONCILIATION, namespace, resourceName, fromReadBack);
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr.resource().getMetadata().getLabels().get("applied-from"), is("read-back"));
+                    assertThat(rr.resource().getSpec().getPods().size(), is(1));
+                    // The desired resource passed by the caller is not modified
+                    assertThat(readBack.get().getMetadata().getManagedFields().isEmpty(), is(false));
+                })))
+                .compose(rr -> {
+                    LOGGER.info("Deleting resource");
+                    return op.reconcile(Reconciliation.DUMMY_RECONCILIATION, namespace, resourceName, null);
+                })
+                .onComplete(context.succeeding(rrDeleted -> async.flag()));
+    }
+
     /**
      * Tests what happens when the resource is deleted while updating the status
      *
@@ -0,0 +1,132 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the results of a benchmark run and writes them as a JSON file together with some information about the
+ * environment where the benchmark was run. The reports use stable keys so that the results of different commits can
+ * be compared with each other.
+ *
+ * The reports are written into the target/benchmark-reports directory of the module running the benchmark. This can
+ * be changed using the strimzi.benchmark.reportDir system property. The strimzi.benchmark.commit system property can
+ * be used to record the commit which was benchmarked.
+ */
+public class BenchmarkReport {
+    private static final Logger LOGGER = LogManager.getLogger(BenchmarkReport.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static final String REPORT_DIR_PROPERTY = "strimzi.benchmark.reportDir";
+    public static final String COMMIT_PROPERTY = "strimzi.benchmark.commit";
+    private static final String DEFAULT_REPORT_DIR = "target/benchmark-reports";
+
+    private final String name;
+    private final Map<String, Object> environment = new LinkedHashMap<>();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+    private final Map<String, Object> results = new LinkedHashMap<>();
+
+    /**
+     * Creates the benchmark report
+     *
+     * @param name  Name of the benchmark. It is used as the name of the report file.
+     */
+    public BenchmarkReport(String name) {
+        this.name = name;
+
+        environment.put("commit", System.getProperty(COMMIT_PROPERTY, "unknown"));
+        environment.put("timestamp", Instant.now().toString());
+        environment.put("javaVersion", System.getProperty("java.version"));
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+    }
+
+    /**
+     * Records a parameter of the benchmark run (for example the number of resources)
+     *
+     * @param key       Name of the parameter
+     * @param value     Value of the parameter
+     *
+     * @return  This report
+     */
+    public BenchmarkReport parameter(String key, Object value) {
+        parameters.put(key, value);
+        return this;
+    }
+
+    /**
+     * Records a result of the benchmark run
+     *
+     * @param key       Name of the result
+     * @param value     Value of the result
+     *
+     * @return  This report
+     */
+    public BenchmarkReport result(String key, Object value) {
+        results.put(key, value);
+        return this;
+    }
+
+    /**
+     * @return  The results recorded so far
+     */
+    public Map<String, Object> results() {
+        return results;
+    }
+
+    /**
+     * Logs the report and writes it into the report directory
+     *
+     * @return  Path to the report file
+     *
+     * @throws IOException  If the report cannot be written
+     */
+    public Path write() throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("benchmark", name);
+        report.put("environment", environment);
+        report.put("parameters", parameters);
+        report.put("results", results);
+
+        String json = MAPPER.writeValueAsString(report);
+        LOGGER.info("Benchmark report {}:\n{}", name, json);
+
+        Path dir = Path.of(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+        Files.createDirectories(dir);
+        Path file = dir.resolve(name + ".json");
+        Files.writeString(file, json);
+
+        return file;
+    }
+
+    /**
+     * @return  Currently used heap memory in bytes
+     */
+    public static long usedHeapBytes() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Runs the garbage collection and returns the heap memory which is still used afterwards. This gives a better
+     * estimate of the memory retained by the operator than the plain heap usage.
+     *
+     * @return  Used heap memory in bytes after the garbage collection
+     */
+    public static long retainedHeapBytes() {
+        System.gc();
+        return usedHeapBytes();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.benchmark;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the calls made through an interface (for example the Kafka Admin API) by the method name. Unlike Mockito
+ * spies, it does not keep the invocations and their arguments in memory. So it does not distort the heap usage
+ * measured by the benchmarks. Only the calls made through the interface are counted. The calls the delegate makes
+ * internally to its own methods are not.
+ *
+ * @param <T>   Type of the interface
+ */
+public class InvocationCounter<T> {
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final T proxy;
+
+    /**
+     * Creates the invocation counter
+     *
+     * @param type      Interface which should be counted
+     * @param delegate  Instance to which the calls are delegated
+     */
+    @SuppressWarnings("unchecked")
+    public InvocationCounter(Class<T> type, T delegate) {
+        this.proxy = (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+            if (method.getDeclaringClass() != Object.class) {
+                counts.computeIfAbsent(method.getName(), k -> new LongAdder()).increment();
+            }
+
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * @return  The counting proxy which should be used instead of the delegate
+     */
+    public T proxy() {
+        return proxy;
+    }
+
+    /**
+     * @return  Map with the number of calls of each method sorted by the method name
+     */
+    public Map<String, Long> counts() {
+        Map<String, Long> result = new TreeMap<>();
+        counts.forEach((method, count) -> result.put(method, count.sum()));
+        return result;
+    }
+
+    /**
+     * @return  The total number of calls
+     */
+    public long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Periodically samples values such as the queue depth or the used heap and keeps the peak of each of them. This is
+ * used by the benchmarks to find out how big the queues and the heap grow while the resources are being reconciled.
+ */
+public class PeakSampler implements AutoCloseable {
+    private final Map<String, LongSupplier> samplers;
+    private final Map<String, Long> peaks = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "benchmark-peak-sampler");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Creates the sampler and starts sampling
+     *
+     * @param intervalMs    Sampling interval in milliseconds
+     * @param samplers      Map with the names of the sampled values and the suppliers of the values
+     */
+    public PeakSampler(long intervalMs, Map<String, LongSupplier> samplers) {
+        this.samplers = samplers;
+        executor.scheduleAtFixedRate(this::sample, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        samplers.forEach((name, supplier) -> peaks.merge(name, supplier.getAsLong(), Math::max));
+    }
+
+    /**
+     * @return  Map with the peak value of each of the sampled values
+     */
+    public Map<String, Long> peaks() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        samplers.keySet().forEach(name -> result.put(name, peaks.getOrDefault(name, 0L)));
+        return result;
+    }
+
+    /**
+     * Stops the sampling
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        sample();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.benchmark;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.strimzi.test.WaitException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Tracks how long it takes for the created resources to become ready. The resources are listed periodically and the
+ * time when each resource was first seen as ready is recorded. The latencies are therefore only as precise as the
+ * polling interval.
+ *
+ * @param <T>   Type of the tracked resource
+ */
+public class ReadinessTracker<T extends HasMetadata> {
+    private static final Logger LOGGER = LogManager.getLogger(ReadinessTracker.class);
+
+    private final Supplier<List<T>> lister;
+    private final Predicate<T> isReady;
+    private final Map<String, Long> created = new HashMap<>();
+    private final Map<String, Long> ready = new HashMap<>();
+    private long firstCreated = -1;
+    private long lastReady = -1;
+    private int polls = 0;
+
+    /**
+     * Creates the readiness tracker
+     *
+     * @param lister    Lists the tracked resources
+     * @param isReady   Decides whether the resource is ready
+     */
+    public ReadinessTracker(Supplier<List<T>> lister, Predicate<T> isReady) {
+        this.lister = lister;
+        this.isReady = isReady;
+    }
+
+    /**
+     * Records the creation of a resource. It should be called right after the resource was created.
+     *
+     * @param name  Name of the created resource
+     */
+    public void created(String name) {
+        long now = System.nanoTime();
+        created.put(name, now);
+
+        if (firstCreated < 0) {
+            firstCreated = now;
+        }
+    }
+
+    /**
+     * Waits until all created resources are ready
+     *
+     * @param pollIntervalMs    Interval in which the resources are listed
+     * @param timeoutMs         Timeout after which the waiting fails
+     *
+     * @return  Time in milliseconds from the creation of the first resource until all resources were ready
+     *
+     * @throws InterruptedException     When interrupted while waiting
+     */
+    public long awaitAllReady(long pollIntervalMs, long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutMs * 1_000_000L;
+
+        while (ready.size() < created.size()) {
+            if (System.nanoTime() > deadline) {
+                throw new WaitException("Timed out after " + timeoutMs + "ms with " + ready.size() + " out of " + created.size() + " resources ready");
+            }
+
+            Thread.sleep(pollIntervalMs);
+            poll();
+        }
+
+        return (lastReady - firstCreated) / 1_000_000L;
+    }
+
+    private void poll() {
+        long now = System.nanoTime();
+        polls++;
+
+        for (T resource : lister.get()) {
+            String name = resource.getMetadata().getName();
+
+            if (created.containsKey(name) && !ready.containsKey(name) && isReady.test(resource)) {
+                ready.put(name, now);
+                lastReady = now;
+            }
+        }
+
+        LOGGER.info("{} out of {} resources are ready", ready.size(), created.size());
+    }
+
+    /**
+     * @return  Number of times the resources were listed
+     */
+    public int polls() {
+        return polls;
+    }
+
+    /**
+     * @return  Map with the 50th, 95th and 99th percentile and the maximum of the time to ready in milliseconds
+     */
+    public Map<String, Long> latencies() {
+        long[] latencies = ready.entrySet().stream()
+                .mapToLong(e -> (e.getValue() - created.get(e.getKey())) / 1_000_000L)
+                .sorted()
+                .toArray();
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("p50", percentile(latencies, 50));
+        result.put("p95", percentile(latencies, 95));
+        result.put("p99", percentile(latencies, 99));
+        result.put("max", latencies.length > 0 ? latencies[latencies.length - 1] : 0L);
+
+        return result;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.benchmark;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Measures the CPU time used and the memory allocated by the JVM threads between two points in time. Only the threads
+ * whose names match the filter are measured. Threads which terminate before the measurement is finished are not
+ * included.
+ */
+public class ThreadResourceMeter {
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Predicate<String> threadNameFilter;
+    private Map<Long, Usage> start = Map.of();
+
+    /**
+     * Creates the meter
+     *
+     * @param threadNameFilter  Filter deciding whether the thread with given name should be measured
+     */
+    public ThreadResourceMeter(Predicate<String> threadNameFilter) {
+        this.threadNameFilter = threadNameFilter;
+
+        if (THREADS.isThreadCpuTimeSupported()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+
+        if (THREADS.isThreadAllocatedMemorySupported()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    /**
+     * Starts the measurement
+     */
+    public void start() {
+        start = snapshot();
+    }
+
+    /**
+     * Finishes the measurement
+     *
+     * @return  Map with the CPU time in milliseconds (cpuTimeMs) and the allocated memory in bytes (allocatedBytes) since
+     *          the measurement was started
+     */
+    public Map<String, Long> stop() {
+        long cpuTimeNs = 0;
+        long allocatedBytes = 0;
+
+        for (Map.Entry<Long, Usage> entry : snapshot().entrySet()) {
+            Usage before = start.getOrDefault(entry.getKey(), new Usage(0, 0));
+            cpuTimeNs += entry.getValue().cpuTimeNs - before.cpuTimeNs;
+            allocatedBytes += entry.getValue().allocatedBytes - before.allocatedBytes;
+        }
+
+        return Map.of("cpuTimeMs", cpuTimeNs / 1_000_000L, "allocatedBytes", allocatedBytes);
+    }
+
+    private Map<Long, Usage> snapshot() {
+        long[] ids = THREADS.getAllThreadIds();
+        ThreadInfo[] infos = THREADS.getThreadInfo(ids);
+        long[] cpuTimes = THREADS.getThreadCpuTime(ids);
+        long[] allocated = THREADS.getThreadAllocatedBytes(ids);
+
+        Map<Long, Usage> usage = new HashMap<>(ids.length);
+
+        for (int i = 0; i < ids.length; i++) {
+            // Terminated threads have no info and -1 as the CPU time and allocated memory
+            if (infos[i] != null && cpuTimes[i] >= 0 && allocated[i] >= 0 && threadNameFilter.test(infos[i].getThreadName())) {
+                usage.put(ids[i], new Usage(cpuTimes[i], allocated[i]));
+            }
+        }
+
+        return usage;
+    }
+
+    private record Usage(long cpuTimeNs, long allocatedBytes) { }
+}
@@ -111,6 +111,7 @@ public class Config {
     protected static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     protected static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
     protected static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
+    protected static final String TC_FULL_RECONCILIATION_BATCH_SIZE = "STRIMZI_FULL_RECONCILIATION_BATCH_SIZE";
 
     protected static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
     protected static final String TC_TLS_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
@@ -171,6 +172,12 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /**
+     * The number of Kafka topics whose metadata is fetched in a single batch and which are reconciled concurrently
+     * during the full reconciliation.
+     */
+    public static final Value<Integer> FULL_RECONCILIATION_BATCH_SIZE = new Value<>(TC_FULL_RECONCILIATION_BATCH_SIZE, POSITIVE_INTEGER, "100");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -225,6 +232,7 @@ public class Config {
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
         addConfigValue(configValues, TOPICS_PATH);
+        addConfigValue(configValues, FULL_RECONCILIATION_BATCH_SIZE);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, SECURITY_PROTOCOL);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
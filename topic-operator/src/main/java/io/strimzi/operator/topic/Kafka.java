@@ -7,6 +7,8 @@ package io.strimzi.operator.topic;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -88,6 +90,19 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of several topics in Kafka using a single describe topics and a single
+     * describe configs request, completing the returned Future with the metadata of the topics.
+     * Topics which do not exist or whose metadata could not be fetched are not included in the returned map.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation.
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the map of the topic names to their metadata.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicsMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
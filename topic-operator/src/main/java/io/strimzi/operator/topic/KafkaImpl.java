@@ -4,10 +4,15 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -144,6 +149,42 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop with the metadata of the given topics obtained from the
+     * Kafka AdminClient API. Unlike {@link #topicMetadata(Reconciliation, TopicName)}, all topics are described using
+     * a single describe topics and a single describe configs request. Topics which do not exist or whose description
+     * or configuration failed are not included in the result.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        LOGGER.debugCr(reconciliation, "Getting metadata for {} topics", topicNames.size());
+        try {
+            List<String> names = topicNames.stream().map(TopicName::toString).collect(Collectors.toList());
+            List<ConfigResource> resources = names.stream().map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name)).collect(Collectors.toList());
+
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(names).topicNameValues();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+            Map<TopicName, TopicMetadata> result = new HashMap<>(names.size());
+            List<Future<Void>> futures = new ArrayList<>(names.size());
+            for (ConfigResource resource : resources) {
+                futures.add(Future.all(mapFuture(descriptions.get(resource.name())), mapFuture(configs.get(resource)))
+                        .<Void>map(compositeFuture -> {
+                            result.put(new TopicName(resource.name()), new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
+                            return null;
+                        })
+                        .recover(error -> {
+                            LOGGER.debugCr(reconciliation, "Failed to get metadata for topic {}", resource.name(), error);
+                            return Future.succeededFuture();
+                        }));
+            }
+
+            return Future.join(futures).map(result);
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     /**
      * Check the existence of a topic via the Kafka AdminClient API
      *
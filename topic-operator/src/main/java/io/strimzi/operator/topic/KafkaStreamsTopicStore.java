@@ -11,6 +11,7 @@ import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 
@@ -97,13 +98,16 @@ public class KafkaStreamsTopicStore implements TopicStore {
     protected Future<Void> handleTopicCommand(TopicCommand cmd) {
         LOGGER.debug("Handling topic command [{}]: {}", cmd.getType(), cmd.getKey());
         String key = cmd.getKey();
-        CompletionStage<Throwable> result = resultService.apply(key, cmd.getUuid())
-                .thenApply(KafkaStreamsTopicStore::toThrowable);
+        CompletableFuture<Throwable> result = resultService.apply(key, cmd.getUuid())
+                .thenApply(KafkaStreamsTopicStore::toThrowable)
+                .toCompletableFuture();
         // Kafka Streams can re-balance in-between these two calls ...
         producer.apply(new ProducerRecord<>(storeTopic, key, cmd))
                 .whenComplete((r, t) -> {
                     if (t != null) {
                         LOGGER.error("Error sending topic command", t);
+                        // The command never reaches the store => there is no point in waiting for the stale result timeout
+                        result.completeExceptionally(t);
                     }
                 });
         return Future.fromCompletionStage(result).compose(
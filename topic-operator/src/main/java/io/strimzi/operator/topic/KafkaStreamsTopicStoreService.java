@@ -11,6 +11,7 @@ import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
 import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -38,6 +39,8 @@ import static java.lang.Integer.parseInt;
 public class KafkaStreamsTopicStoreService {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaStreamsTopicStoreService.class);
 
+    /* test */ static final String STORE_PRODUCER_LINGER_MS = "5";
+
     private final List<AutoCloseable> closeables = new ArrayList<>();
 
     /* test */ KafkaStreams streams;
@@ -79,8 +82,14 @@ public class KafkaStreamsTopicStoreService {
 
     private TopicStore createKafkaTopicStore(Config config, Properties kafkaProperties, String storeTopic, AsyncBiFunctionService.WithSerdes<String, String, Integer> serviceImpl) {
         LOGGER.info("Creating topic store ...");
+        // Topic commands sent at the same time (for example during the full reconciliation) are grouped into a single
+        // produce request instead of one request per command
+        Properties producerProperties = new Properties();
+        producerProperties.putAll(kafkaProperties);
+        producerProperties.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, STORE_PRODUCER_LINGER_MS);
+
         ProducerActions<String, TopicCommand> producer = new AsyncProducer<>(
-                kafkaProperties,
+                producerProperties,
             Serdes.String().serializer(),
             new TopicCommandSerde()
         );
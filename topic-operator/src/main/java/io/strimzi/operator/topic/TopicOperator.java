@@ -1504,6 +1504,10 @@ class TopicOperator {
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
+     * The topics are reconciled in batches. The metadata of all topics in a batch are fetched from Kafka using a single
+     * describe topics and a single describe configs request and the next batch starts only once all reconciliations of
+     * the previous batch are complete. This avoids overloading the brokers with one pair of requests per topic when
+     * there are many topics.
      */
     private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
         Set<TopicName> succeeded = new HashSet<>();
@@ -1514,46 +1518,106 @@ class TopicOperator {
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
         if (topicsFromKafka.size() > 0) {
+            int batchSize = config.get(Config.FULL_RECONCILIATION_BATCH_SIZE);
             List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
-                    @Override
-                    public Future<Void> execute() {
-                        return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
-                                    new OperatorException("Error getting topic " + topicName + " from topic store during "
-                                            + reconciliationType + " reconciliation", error));
-                            return Future.succeededFuture();
-                        }).compose(topic -> {
-                            if (topic == null) {
-                                LOGGER.debugCr(logContext.toReconciliation(), "No private topic for topic {} in Kafka -> undetermined", topicName);
-                                undetermined.add(topicName);
-                                return Future.succeededFuture();
-                            } else {
-                                LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
-                                        .<Void>map(ignored -> {
-                                            LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
-                                            return null;
-                                        }).recover(error -> {
-                                            LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
-                                            return Future.failedFuture(error);
-                                        });
-                            }
-                        });
+            Future<Void> batches = Future.succeededFuture();
 
-                    }
-                }));
+            for (int i = 0; i < topicsFromKafka.size(); i += batchSize) {
+                List<TopicName> batch = topicsFromKafka.subList(i, Math.min(i + batchSize, topicsFromKafka.size()));
+                batches = batches.compose(ignored -> reconcileBatchFromKafka(reconciliationType, batch, state, futures));
             }
-            return join(futures).map(state);
+
+            return batches.compose(ignored -> join(futures)).map(state);
         } else {
             return Future.succeededFuture(state);
         }
+    }
+
+    /**
+     * Reconciles a batch of topics found in Kafka. The metadata of the topics are fetched in bulk and used by the
+     * reconciliations of the individual topics. Topics missing in the bulk result have their metadata fetched
+     * individually. The metadata are fetched only once the reconciliations of all topics in the batch hold their topic
+     * locks, so that no other reconciliation can change the topics between fetching their metadata and using them.
+     *
+     * @param reconciliationType    Type of the reconciliation
+     * @param batch                 Topics in this batch
+     * @param state                 State of the reconciliation of the topics from Kafka
+     * @param futures               List to which the futures of the reconciliations of the individual topics are added
+     *
+     * @return  Future which completes when all reconciliations from this batch are complete (regardless of their result)
+     */
+    private Future<Void> reconcileBatchFromKafka(String reconciliationType, List<TopicName> batch, ReconcileState state, List<Future<Void>> futures) {
+        LogContext batchLogContext = LogContext.periodic(reconciliationType + "kafka batch", namespace, batch.get(0).asKubeName().toString());
+
+        Promise<Map<TopicName, TopicMetadata>> metadata = Promise.promise();
+        List<Future<Void>> locksHeld = new ArrayList<>(batch.size());
+        List<Future<Void>> batchFutures = new ArrayList<>(batch.size());
 
+        for (TopicName topicName : batch) {
+            Promise<Void> lockHeld = Promise.promise();
+            Future<Void> reconciliation = reconcileTopicFromKafka(reconciliationType, topicName, lockHeld, metadata.future(), state);
+            // When the lock is not acquired, the reconciliation completes without being executed
+            reconciliation.onComplete(ignored -> lockHeld.tryComplete());
 
+            locksHeld.add(lockHeld.future());
+            batchFutures.add(reconciliation);
+        }
+
+        join(locksHeld).onComplete(ignored -> kafka.topicsMetadata(batchLogContext.toReconciliation(), batch)
+                .recover(error -> {
+                    LOGGER.warnCr(batchLogContext.toReconciliation(), "Failed to get metadata for a batch of {} topics. The metadata will be fetched for each topic individually.", batch.size(), error);
+                    return Future.succeededFuture(Map.of());
+                })
+                .onComplete(metadata));
+
+        futures.addAll(batchFutures);
+        return join(batchFutures).<Void>mapEmpty().otherwiseEmpty();
+    }
+
+    /**
+     * Reconciles a single topic found in Kafka.
+     *
+     * @param reconciliationType    Type of the reconciliation
+     * @param topicName             Name of the topic
+     * @param lockHeld              Promise completed once the reconciliation holds the topic lock
+     * @param batchMetadata         Future with the metadata of the topics from the bulk request. The metadata of topics
+     *                              missing in it are fetched individually.
+     * @param state                 State of the reconciliation of the topics from Kafka
+     *
+     * @return  Future which completes when the reconciliation of the topic is complete
+     */
+    private Future<Void> reconcileTopicFromKafka(String reconciliationType, TopicName topicName, Promise<Void> lockHeld, Future<Map<TopicName, TopicMetadata>> batchMetadata, ReconcileState state) {
+        LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
+        return executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
+            @Override
+            public Future<Void> execute() {
+                lockHeld.tryComplete();
+                return batchMetadata.compose(metadata -> getFromTopicStore(topicName).recover(error -> {
+                    state.failed.put(topicName,
+                            new OperatorException("Error getting topic " + topicName + " from topic store during "
+                                    + reconciliationType + " reconciliation", error));
+                    return Future.succeededFuture();
+                }).compose(topic -> {
+                    if (topic == null) {
+                        LOGGER.debugCr(logContext.toReconciliation(), "No private topic for topic {} in Kafka -> undetermined", topicName);
+                        state.undetermined.add(topicName);
+                        return Future.succeededFuture();
+                    } else {
+                        LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
+                        return reconcileWithPrivateTopic(logContext, topicName, topic, this, metadata.get(topicName))
+                                .<Void>map(ignored -> {
+                                    LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
+                                    state.succeeded.add(topicName);
+                                    return null;
+                                }).recover(error -> {
+                                    LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile error -> failed", topicName);
+                                    state.failed.put(topicName, error);
+                                    return Future.failedFuture(error);
+                                });
+                    }
+                }));
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -1564,10 +1628,12 @@ class TopicOperator {
 
     /**
      * Reconcile the given topic which has the given {@code privateTopic} in the topic store.
+     * When {@code kafkaTopicMeta} is not null, it is used instead of fetching the topic metadata from Kafka again.
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
                                                    Topic privateTopic,
-                                                   Reconciliation reconciliation) {
+                                                   Reconciliation reconciliation,
+                                                   TopicMetadata kafkaTopicMeta) {
         return k8s.getFromName(privateTopic.getResourceName())
             .recover(error -> {
                 LOGGER.errorCr(logContext.toReconciliation(), "Error getting KafkaTopic {} for topic {}",
@@ -1576,12 +1642,17 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, kafkaTopicMeta);
             });
     }
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
                                               Topic privateTopic, KafkaTopic kafkaTopicResource) {
+        return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, null);
+    }
+
+    private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, TopicMetadata kafkaTopicMeta) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
@@ -1594,9 +1665,9 @@ class TopicOperator {
                                 EventType.WARNING, eventResult -> { }));
                     }
                 })
-                .compose(i -> kafka.topicMetadata(logContext.toReconciliation(), topicName))
-                .compose(kafkaTopicMeta -> {
-                    Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
+                .compose(i -> kafkaTopicMeta != null ? Future.succeededFuture(kafkaTopicMeta) : kafka.topicMetadata(logContext.toReconciliation(), topicName))
+                .compose(topicMeta -> {
+                    Topic topicFromKafka = TopicSerialization.fromTopicMetadata(topicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
                 })
                 .onComplete(ar -> {
@@ -110,6 +110,13 @@ class BatchingLoop {
         }
     }
 
+    /**
+     * @return The number of events waiting in the {@link #queue}.
+     */
+    /* test */ int queueSize() {
+        return queue.size();
+    }
+
     /**
      * The loop is alive if none of the threads have been blocked for more than 2 minutes.
      * "Blocked" means they're not returned to their outermost loop.
@@ -59,14 +59,14 @@ public class TopicOperatorMain implements Liveness, Readiness {
                       Map<String, String> selector,
                       Admin admin,
                       KubernetesClient client,
-                      TopicOperatorConfig config) throws ExecutionException, InterruptedException {
+                      TopicOperatorConfig config,
+                      MetricsProvider metricsProvider) throws ExecutionException, InterruptedException {
         Objects.requireNonNull(namespace);
         Objects.requireNonNull(selector);
         this.namespace = namespace;
         this.client = client;
         this.resyncIntervalMs = config.fullReconciliationIntervalMs();
         this.admin = admin;
-        MetricsProvider metricsProvider = createMetricsProvider();
         BatchOperatorMetricsHolder metrics = new BatchOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, Labels.fromMap(selector), metricsProvider);
         this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer(), metrics, namespace);
         this.itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
@@ -144,20 +144,32 @@ public class TopicOperatorMain implements Liveness, Readiness {
      */
     public static void main(String[] args) throws Exception {
         TopicOperatorConfig topicOperatorConfig = TopicOperatorConfig.buildFromMap(System.getenv());
-        TopicOperatorMain operator = operator(topicOperatorConfig, kubeClient(), Admin.create(topicOperatorConfig.adminClientConfig()));
+        MetricsProvider metricsProvider = createMetricsProvider();
+        TopicOperatorMain operator = operator(topicOperatorConfig, kubeClient(metricsProvider), Admin.create(topicOperatorConfig.adminClientConfig()), metricsProvider);
         operator.start();
         LOGGER.infoOp("Returning from main()");
     }
 
     static TopicOperatorMain operator(TopicOperatorConfig topicOperatorConfig, KubernetesClient client, Admin admin) throws ExecutionException, InterruptedException {
-        return new TopicOperatorMain(topicOperatorConfig.namespace(), topicOperatorConfig.labelSelector().toMap(), admin, client, topicOperatorConfig);
+        return operator(topicOperatorConfig, client, admin, createMetricsProvider());
+    }
+
+    static TopicOperatorMain operator(TopicOperatorConfig topicOperatorConfig, KubernetesClient client, Admin admin, MetricsProvider metricsProvider) throws ExecutionException, InterruptedException {
+        return new TopicOperatorMain(topicOperatorConfig.namespace(), topicOperatorConfig.labelSelector().toMap(), admin, client, topicOperatorConfig, metricsProvider);
     }
 
     static KubernetesClient kubeClient() {
+        return kubeClientBuilder().build();
+    }
+
+    static KubernetesClient kubeClient(MetricsProvider metricsProvider) {
+        return kubeClientBuilder().build(metricsProvider);
+    }
+
+    private static OperatorKubernetesClientBuilder kubeClientBuilder() {
         return new OperatorKubernetesClientBuilder(
-                    "strimzi-topic-operator",
-                    TopicOperatorMain.class.getPackage().getImplementationVersion())
-                .build();
+                "strimzi-topic-operator",
+                TopicOperatorMain.class.getPackage().getImplementationVersion());
     }
 
     @Override
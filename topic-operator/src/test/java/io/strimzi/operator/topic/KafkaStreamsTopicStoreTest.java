@@ -0,0 +1,49 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.apicurio.registry.utils.kafka.ProducerActions;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KafkaStreamsTopicStoreTest {
+    @Test
+    public void testFailedSendFailsTheCommand() {
+        RuntimeException error = new RuntimeException("Failed to send");
+
+        @SuppressWarnings("unchecked")
+        ProducerActions<String, TopicCommand> producer = mock(ProducerActions.class);
+        when(producer.apply(any())).thenReturn(CompletableFuture.failedFuture(error));
+
+        // The result is never delivered => without the send failure, the command would wait for the stale result timeout
+        KafkaStreamsTopicStore store = new KafkaStreamsTopicStore(null, "my-store-topic", producer, (key, uuid) -> new CompletableFuture<>());
+
+        Future<Void> result = store.delete(new TopicName("my-topic"));
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause(), is(error));
+    }
+
+    @Test
+    public void testCommandCompletesWithTheResult() {
+        @SuppressWarnings("unchecked")
+        ProducerActions<String, TopicCommand> producer = mock(ProducerActions.class);
+        when(producer.apply(any())).thenReturn(new CompletableFuture<>());
+
+        KafkaStreamsTopicStore store = new KafkaStreamsTopicStore(null, "my-store-topic", producer,
+                (key, uuid) -> CompletableFuture.completedFuture(KafkaStreamsTopicStore.toIndex(TopicStore.NoSuchEntityExistsException.class)));
+
+        Future<Void> result = store.delete(new TopicName("my-topic"));
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause() instanceof TopicStore.NoSuchEntityExistsException, is(true));
+    }
+}
@@ -39,6 +39,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -46,6 +47,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
@@ -1136,6 +1138,58 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopics_fetchesMetadataInBatches(VertxTestContext context) {
+        RuntimeException error = new RuntimeException("some failure");
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.FULL_RECONCILIATION_BATCH_SIZE.key, "2");
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), metrics);
+
+        List<TopicName> topics = List.of(new TopicName("topic-a"), new TopicName("topic-b"), new TopicName("topic-c"));
+        List<Integer> batchSizes = new ArrayList<>();
+        mockKafka.setTopicsListResponse(Future.succeededFuture(topics.stream().map(TopicName::toString).collect(Collectors.toSet())));
+        mockKafka.setTopicsMetadataResponse(batch -> {
+            batchSizes.add(batch.size());
+            return Future.succeededFuture(Map.of());
+        });
+        topics.forEach(topic -> mockTopicStore.setGetTopicResponse(topic, Future.failedFuture(error)));
+
+        Future<?> reconcileFuture = topicOperator.reconcileAllTopics("periodic");
+
+        reconcileFuture.onComplete(context.failing(e -> {
+            // Each batch of topics got its metadata using a single request
+            context.verify(() -> assertThat(batchSizes, is(List.of(2, 1))));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testReconcileAllTopics_fetchesMetadataWithTopicLocksHeld(VertxTestContext context) {
+        RuntimeException error = new RuntimeException("some failure");
+        List<TopicName> topics = List.of(new TopicName("topic-a"), new TopicName("topic-b"));
+        List<Boolean> locksAvailable = new ArrayList<>();
+        mockKafka.setTopicsListResponse(Future.succeededFuture(topics.stream().map(TopicName::toString).collect(Collectors.toSet())));
+        mockKafka.setTopicsMetadataResponse(batch -> Future.join(batch.stream()
+                        .map(topicName -> vertx.sharedData().getLockWithTimeout(topicName.toString(), 10)
+                                .map(lock -> {
+                                    lock.release();
+                                    return true;
+                                })
+                                .otherwise(false)
+                                .onSuccess(locksAvailable::add))
+                        .collect(Collectors.toList()))
+                .<Map<TopicName, TopicMetadata>>map(i -> Map.of()));
+        topics.forEach(topic -> mockTopicStore.setGetTopicResponse(topic, Future.failedFuture(error)));
+
+        Future<?> reconcileFuture = topicOperator.reconcileAllTopics("periodic");
+
+        reconcileFuture.onComplete(context.failing(e -> {
+            // The reconciliations of the topics held their locks while the metadata were fetched
+            context.verify(() -> assertThat(locksAvailable, is(List.of(false, false))));
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void testReconcileAllTopics_listMapsFails(VertxTestContext context) {
         RuntimeException error = new RuntimeException("some failure");
@@ -0,0 +1,151 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.kroxylicious.testing.kafka.api.KafkaCluster;
+import io.kroxylicious.testing.kafka.common.BrokerConfig;
+import io.kroxylicious.testing.kafka.junit5ext.KafkaClusterExtension;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.test.benchmark.BenchmarkReport;
+import io.strimzi.test.benchmark.InvocationCounter;
+import io.strimzi.test.benchmark.PeakSampler;
+import io.strimzi.test.benchmark.ReadinessTracker;
+import io.strimzi.test.mockkube2.MockKube2;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Scalability benchmark of the Topic Operator. It runs the operator against the Fabric8 mock Kubernetes server and an
+ * in-process Kafka cluster, creates the configured number of KafkaTopic resources and measures how long it takes until
+ * all of them are ready, how deep the queue gets, how many Kafka Admin and Kubernetes API calls are made per topic
+ * and how much heap is used. The results are written by {@link BenchmarkReport}.
+ *
+ * The benchmark does not run as part of the regular build. It can be run with:
+ * mvn test -pl topic-operator -Dtest=TopicOperatorScalabilityBenchmark -Dstrimzi.benchmark.resources=10000
+ */
+@EnableKubernetesMockClient(crud = true)
+@ExtendWith(KafkaClusterExtension.class)
+public class TopicOperatorScalabilityBenchmark {
+    private static final String NAMESPACE = "benchmark";
+    private static final Map<String, String> SELECTOR = Map.of("strimzi.io/cluster", "my-cluster");
+    private static final String RESOURCES_PROPERTY = "strimzi.benchmark.resources";
+    private static final String TIMEOUT_PROPERTY = "strimzi.benchmark.timeoutMs";
+    private static final long POLL_INTERVAL_MS = 1_000L;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long MAX_BATCH_LINGER_MS = 100L;
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    @SuppressWarnings("unused")
+    private KubernetesMockServer server;
+    private MockKube2 mockKube;
+
+    @BeforeEach
+    public void beforeEach() {
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaTopicCrd()
+                .build();
+        mockKube.start();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        mockKube.stop();
+    }
+
+    @Test
+    public void benchmarkTopicCreation(@BrokerConfig(name = "auto.create.topics.enable", value = "false") KafkaCluster kafkaCluster) throws Exception {
+        int resources = Integer.getInteger(RESOURCES_PROPERTY, 1_000);
+        long timeoutMs = Long.getLong(TIMEOUT_PROPERTY, 1_800_000L);
+        // The queue has to fit the events for all topics, otherwise the operator stops itself
+        int maxQueueSize = Math.max(1_024, 2 * resources);
+
+        TopicOperatorConfig config = new TopicOperatorConfig(NAMESPACE, Labels.fromMap(SELECTOR),
+                kafkaCluster.getBootstrapServers(), TopicOperatorScalabilityBenchmark.class.getSimpleName(), 3_600_000L,
+                false, "", "", "", "", "",
+                false, "", "", "", "",
+                false,
+                maxQueueSize, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS);
+
+        BenchmarkReport report = new BenchmarkReport("topic-operator-scalability-" + resources)
+                .parameter("resources", resources)
+                .parameter("maxQueueSize", maxQueueSize)
+                .parameter("maxBatchSize", MAX_BATCH_SIZE)
+                .parameter("maxBatchLingerMs", MAX_BATCH_LINGER_MS);
+
+        InvocationCounter<Admin> adminCalls = new InvocationCounter<>(Admin.class, Admin.create(config.adminClientConfig()));
+        ReadinessTracker<KafkaTopic> tracker = new ReadinessTracker<>(
+                () -> Crds.topicOperation(client).inNamespace(NAMESPACE).list().getItems(),
+                KafkaTopic.isReady());
+
+        long kubeRequestsBefore = server.getRequestCount();
+        TopicOperatorMain operator = TopicOperatorMain.operator(config, client, adminCalls.proxy());
+        operator.start();
+
+        try (PeakSampler sampler = new PeakSampler(100L, Map.<String, LongSupplier>of(
+                "queueDepth", operator.queue::queueSize,
+                "heapBytes", BenchmarkReport::usedHeapBytes))) {
+            long creationStart = System.nanoTime();
+
+            for (int i = 0; i < resources; i++) {
+                KafkaTopic topic = topic(i);
+                Crds.topicOperation(client).resource(topic).create();
+                tracker.created(topic.getMetadata().getName());
+            }
+
+            report.result("creationMs", (System.nanoTime() - creationStart) / 1_000_000L);
+
+            long readyMs = tracker.awaitAllReady(POLL_INTERVAL_MS, timeoutMs);
+
+            report.result("timeToAllReadyMs", readyMs)
+                    .result("readyPerSecond", resources * 1_000.0 / Math.max(1L, readyMs))
+                    .result("timeToReadyMs", tracker.latencies());
+
+            sampler.close();
+            report.result("peakQueueDepth", sampler.peaks().get("queueDepth"))
+                    .result("peakHeapBytes", sampler.peaks().get("heapBytes"))
+                    .result("retainedHeapBytes", BenchmarkReport.retainedHeapBytes());
+
+            // The requests made by the benchmark itself (creating the resources and listing them) are not counted
+            long kubeRequests = server.getRequestCount() - kubeRequestsBefore - resources - tracker.polls();
+
+            report.result("adminCalls", adminCalls.counts())
+                    .result("adminCallsPerResource", (double) adminCalls.total() / resources)
+                    .result("kubeRequests", kubeRequests)
+                    .result("kubeRequestsPerResource", (double) kubeRequests / resources);
+        } finally {
+            operator.stop();
+        }
+
+        report.write();
+    }
+
+    private static KafkaTopic topic(int i) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(String.format("topic-%05d", i))
+                    .withNamespace(NAMESPACE)
+                    .withLabels(SELECTOR)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+    }
+}
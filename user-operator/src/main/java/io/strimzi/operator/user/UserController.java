@@ -167,6 +167,13 @@ public class UserController implements Liveness, Readiness {
         return secretInformer.hasSynced() && userInformer.hasSynced();
     }
 
+    /**
+     * @return  The number of reconciliations waiting in the work queue
+     */
+    /* test */ int queueSize() {
+        return workQueue.size();
+    }
+
     /**
      * Stops the controller and all its controller loop threads
      */
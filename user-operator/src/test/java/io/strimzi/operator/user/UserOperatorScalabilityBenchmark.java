@@ -0,0 +1,192 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.KafkaUserScramSha512ClientAuthentication;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
+import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
+import io.strimzi.operator.user.UserOperatorConfig.UserOperatorConfigBuilder;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.QuotasOperator;
+import io.strimzi.operator.user.operator.ScramCredentialsOperator;
+import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.strimzi.test.benchmark.BenchmarkReport;
+import io.strimzi.test.benchmark.InvocationCounter;
+import io.strimzi.test.benchmark.PeakSampler;
+import io.strimzi.test.benchmark.ReadinessTracker;
+import io.strimzi.test.container.StrimziKafkaContainer;
+import io.strimzi.test.mockkube2.MockKube2;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * Scalability benchmark of the User Operator. It runs the operator against the Fabric8 mock Kubernetes server and a
+ * single node Kafka cluster, creates the configured number of KafkaUser resources with SCRAM-SHA-512 authentication,
+ * ACLs and quotas and measures how long it takes until all of them are ready, how deep the work queue gets, how many
+ * Kafka Admin and Kubernetes API calls are made per user and how much heap is used. The results are written by
+ * {@link BenchmarkReport}.
+ *
+ * The User Operator has no in-process Kafka broker in its tests. So the benchmark uses the Kafka container in the
+ * same way as the Admin API operator integration tests and needs Docker. It does not run as part of the regular
+ * build. It can be run with:
+ * mvn test -pl user-operator -Dtest=UserOperatorScalabilityBenchmark -Dstrimzi.benchmark.resources=10000
+ */
+@EnableKubernetesMockClient(crud = true)
+public class UserOperatorScalabilityBenchmark {
+    private static final String RESOURCES_PROPERTY = "strimzi.benchmark.resources";
+    private static final String TIMEOUT_PROPERTY = "strimzi.benchmark.timeoutMs";
+    private static final long POLL_INTERVAL_MS = 1_000L;
+
+    private static StrimziKafkaContainer kafkaContainer;
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    @SuppressWarnings("unused")
+    private KubernetesMockServer server;
+    private MockKube2 mockKube;
+
+    @BeforeAll
+    public static void beforeAll() {
+        kafkaContainer = new StrimziKafkaContainer()
+                .withBrokerId(1)
+                .withKafkaConfigurationMap(Map.of(
+                        "authorizer.class.name", "kafka.security.authorizer.AclAuthorizer",
+                        "super.users", "User:ANONYMOUS"));
+        kafkaContainer.start();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        kafkaContainer.stop();
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaUserCrd()
+                .build();
+        mockKube.start();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        mockKube.stop();
+    }
+
+    @Test
+    public void benchmarkUserCreation() throws Exception {
+        int resources = Integer.getInteger(RESOURCES_PROPERTY, 1_000);
+        long timeoutMs = Long.getLong(TIMEOUT_PROPERTY, 1_800_000L);
+
+        // The work queue has to fit all users, otherwise the events are dropped and the users wait for the periodic
+        // reconciliation which is disabled for the benchmark
+        UserOperatorConfig config = new UserOperatorConfigBuilder(ResourceUtils.createUserOperatorConfig(ResourceUtils.LABELS, true, "32", null))
+                .with(UserOperatorConfig.RECONCILIATION_INTERVAL_MS.key(), "3600000")
+                .with(UserOperatorConfig.WORK_QUEUE_SIZE.key(), String.valueOf(Math.max(1_024, resources)))
+                .build();
+
+        BenchmarkReport report = new BenchmarkReport("user-operator-scalability-" + resources)
+                .parameter("resources", resources)
+                .parameter("workQueueSize", config.getWorkQueueSize())
+                .parameter("controllerThreadPoolSize", config.getControllerThreadPoolSize())
+                .parameter("userOperationsThreadPoolSize", config.getUserOperationsThreadPoolSize())
+                .parameter("batchMaxBlockSize", config.getBatchMaxBlockSize())
+                .parameter("batchMaxBlockTimeMs", config.getBatchMaxBlockTime());
+
+        Admin kafkaAdmin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers()));
+        InvocationCounter<Admin> adminCalls = new InvocationCounter<>(Admin.class, kafkaAdmin);
+        Admin admin = adminCalls.proxy();
+        ExecutorService executor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize());
+        SecretOperator secretOperator = new SecretOperator(executor, client);
+        CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserOps = new CrdOperator<>(executor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
+
+        KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
+                config,
+                new MockCertManager(),
+                secretOperator,
+                kafkaUserOps,
+                new ScramCredentialsOperator(admin, config, executor),
+                new QuotasOperator(admin, config, executor),
+                new SimpleAclOperator(admin, config, executor)
+        );
+        UserController controller = new UserController(config, secretOperator, kafkaUserOps, kafkaUserOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        ReadinessTracker<KafkaUser> tracker = new ReadinessTracker<>(
+                () -> kafkaUserOps.list(ResourceUtils.NAMESPACE, Labels.fromMap(ResourceUtils.LABELS)),
+                KafkaUser.isReady());
+
+        long kubeRequestsBefore = server.getRequestCount();
+        kafkaUserOperator.start();
+        controller.start();
+
+        try (PeakSampler sampler = new PeakSampler(100L, Map.<String, LongSupplier>of(
+                "queueDepth", controller::queueSize,
+                "heapBytes", BenchmarkReport::usedHeapBytes))) {
+            long creationStart = System.nanoTime();
+
+            for (int i = 0; i < resources; i++) {
+                KafkaUser user = user(i);
+                kafkaUserOps.resource(ResourceUtils.NAMESPACE, user).create();
+                tracker.created(user.getMetadata().getName());
+            }
+
+            report.result("creationMs", (System.nanoTime() - creationStart) / 1_000_000L);
+
+            long readyMs = tracker.awaitAllReady(POLL_INTERVAL_MS, timeoutMs);
+
+            report.result("timeToAllReadyMs", readyMs)
+                    .result("readyPerSecond", resources * 1_000.0 / Math.max(1L, readyMs))
+                    .result("timeToReadyMs", tracker.latencies());
+
+            sampler.close();
+            report.result("peakQueueDepth", sampler.peaks().get("queueDepth"))
+                    .result("peakHeapBytes", sampler.peaks().get("heapBytes"))
+                    .result("retainedHeapBytes", BenchmarkReport.retainedHeapBytes());
+
+            // The requests made by the benchmark itself (creating the resources and listing them) are not counted
+            long kubeRequests = server.getRequestCount() - kubeRequestsBefore - resources - tracker.polls();
+
+            report.result("adminCalls", adminCalls.counts())
+                    .result("adminCallsPerResource", (double) adminCalls.total() / resources)
+                    .result("kubeRequests", kubeRequests)
+                    .result("kubeRequestsPerResource", (double) kubeRequests / resources);
+        } finally {
+            controller.stop();
+            kafkaUserOperator.stop();
+            executor.shutdownNow();
+            kafkaAdmin.close();
+        }
+
+        report.write();
+    }
+
+    private static KafkaUser user(int i) {
+        return new KafkaUserBuilder(ResourceUtils.createKafkaUser(new KafkaUserScramSha512ClientAuthentication()))
+                .editMetadata()
+                    .withName(String.format("user-%05d", i))
+                .endMetadata()
+                .build();
+    }
+}